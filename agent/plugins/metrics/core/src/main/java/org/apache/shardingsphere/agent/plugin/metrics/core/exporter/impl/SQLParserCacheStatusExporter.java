@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.api.CacheStatus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL parser cache status exporter.
+ */
+public final class SQLParserCacheStatusExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_parser_cache_status", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Status of SQL parser caches. name is one of hit_count, miss_count, eviction_count, average_load_penalty_nanos, estimated_size and maximum_size",
+            Arrays.asList("database_type", "cache", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        Map<DatabaseType, SQLStatementParserEngine> parserEngines = SQLStatementParserEngineFactory.getSQLStatementParserEngines();
+        if (parserEngines.isEmpty()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<DatabaseType, SQLStatementParserEngine> entry : parserEngines.entrySet()) {
+            addMetrics(result, entry.getKey().getType(), "sql_statement_cache", entry.getValue().getSQLStatementCacheStatus());
+            addMetrics(result, entry.getKey().getType(), "parse_tree_cache", entry.getValue().getParseTreeCacheStatus());
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseType, final String cacheName, final CacheStatus cacheStatus) {
+        collector.addMetric(Arrays.asList(databaseType, cacheName, "hit_count"), cacheStatus.getHitCount());
+        collector.addMetric(Arrays.asList(databaseType, cacheName, "miss_count"), cacheStatus.getMissCount());
+        collector.addMetric(Arrays.asList(databaseType, cacheName, "eviction_count"), cacheStatus.getEvictionCount());
+        collector.addMetric(Arrays.asList(databaseType, cacheName, "average_load_penalty_nanos"), cacheStatus.getAverageLoadPenalty());
+        collector.addMetric(Arrays.asList(databaseType, cacheName, "estimated_size"), cacheStatus.getEstimatedSize());
+        collector.addMetric(Arrays.asList(databaseType, cacheName, "maximum_size"), cacheStatus.getMaximumSize());
+    }
+}
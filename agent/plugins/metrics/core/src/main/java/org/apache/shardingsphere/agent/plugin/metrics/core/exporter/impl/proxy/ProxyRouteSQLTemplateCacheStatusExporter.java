@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplateCache;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy route SQL template cache status exporter.
+ */
+public final class ProxyRouteSQLTemplateCacheStatusExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_route_sql_template_cache_status", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Status of route SQL template caches of ShardingSphere-Proxy. name is one of hit_count, miss_count and estimated_size", Arrays.asList("database", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            Optional<ShardingRule> shardingRule = each.getRuleMetaData().findSingleRule(ShardingRule.class);
+            if (shardingRule.isPresent() && shardingRule.get().isShardingCacheEnabled()) {
+                addMetrics(result, each.getName(), shardingRule.get().getShardingCache().getRouteSQLTemplateCache());
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final RouteSQLTemplateCache cache) {
+        collector.addMetric(Arrays.asList(databaseName, "hit_count"), cache.getHitCount());
+        collector.addMetric(Arrays.asList(databaseName, "miss_count"), cache.getMissCount());
+        collector.addMetric(Arrays.asList(databaseName, "estimated_size"), cache.getSize());
+    }
+}
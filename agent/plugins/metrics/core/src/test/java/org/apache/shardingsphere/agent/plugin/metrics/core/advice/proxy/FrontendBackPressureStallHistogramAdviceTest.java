@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice.proxy;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+class FrontendBackPressureStallHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration(
+            "proxy_frontend_back_pressure_stall_millis", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertObserveStallMillis() {
+        FrontendBackPressureStallHistogramAdvice advice = new FrontendBackPressureStallHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = mock(TargetAdviceMethod.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, new Object[]{}, true, "FIXTURE");
+        assertThat(Double.parseDouble(MetricsCollectorRegistry.get(config, "FIXTURE").toString()), greaterThanOrEqualTo(50D));
+    }
+    
+    @Test
+    void assertNotObserveWithoutStall() {
+        FrontendBackPressureStallHistogramAdvice advice = new FrontendBackPressureStallHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = mock(TargetAdviceMethod.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        advice.afterMethod(targetObject, method, new Object[]{}, false, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("0"));
+    }
+}
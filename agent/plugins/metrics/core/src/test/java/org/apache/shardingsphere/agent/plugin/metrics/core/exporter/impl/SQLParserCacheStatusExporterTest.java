@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheStatus;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(SQLStatementParserEngineFactory.class)
+class SQLParserCacheStatusExporterTest {
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("sql_parser_cache_status",
+                MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("database_type", "cache", "name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExportWithoutParserEngines() {
+        when(SQLStatementParserEngineFactory.getSQLStatementParserEngines()).thenReturn(Collections.emptyMap());
+        assertFalse(new SQLParserCacheStatusExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    void assertExportWithParserEngines() {
+        SQLStatementParserEngine parserEngine = mock(SQLStatementParserEngine.class);
+        when(parserEngine.getSQLStatementCacheStatus()).thenReturn(new CacheStatus(3L, 1L, 0.75D, 2L, 10D, 5L, 1024L));
+        when(parserEngine.getParseTreeCacheStatus()).thenReturn(new CacheStatus(0L, 0L, 1D, 0L, 0D, 0L, 0L));
+        when(SQLStatementParserEngineFactory.getSQLStatementParserEngines()).thenReturn(Collections.singletonMap(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), parserEngine));
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new SQLParserCacheStatusExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), is("FIXTURE=1045, sql_statement_cache=1045, hit_count=3, miss_count=1, eviction_count=2, average_load_penalty_nanos=10, estimated_size=5, maximum_size=1024, "
+                + "parse_tree_cache=0"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplateCache;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class ProxyRouteSQLTemplateCacheStatusExporterTest {
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_route_sql_template_cache_status",
+                MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("database", "name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExportWithoutContextManager() {
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(null);
+        assertFalse(new ProxyRouteSQLTemplateCacheStatusExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    void assertExportWithShardingCache() {
+        RouteSQLTemplateCache routeSQLTemplateCache = mock(RouteSQLTemplateCache.class);
+        when(routeSQLTemplateCache.getHitCount()).thenReturn(3L);
+        when(routeSQLTemplateCache.getMissCount()).thenReturn(1L);
+        when(routeSQLTemplateCache.getSize()).thenReturn(1L);
+        ShardingRule shardingRule = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
+        when(shardingRule.isShardingCacheEnabled()).thenReturn(true);
+        when(shardingRule.getShardingCache().getRouteSQLTemplateCache()).thenReturn(routeSQLTemplateCache);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("sharding_db");
+        when(database.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases()).thenReturn(Collections.singletonMap("sharding_db", database));
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxyRouteSQLTemplateCacheStatusExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), is("sharding_db=5, hit_count=3, miss_count=1, estimated_size=1"));
+    }
+}
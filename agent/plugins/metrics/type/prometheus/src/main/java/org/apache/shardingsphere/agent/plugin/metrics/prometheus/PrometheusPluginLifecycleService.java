@@ -25,9 +25,11 @@ import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SQLParserCacheStatusExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyRouteSQLTemplateCacheStatusExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
@@ -65,6 +67,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new SQLParserCacheStatusExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
@@ -78,6 +81,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new ProxyRouteSQLTemplateCacheStatusExporter()).register();
     }
     
     private void registerCollectorForJDBC() {
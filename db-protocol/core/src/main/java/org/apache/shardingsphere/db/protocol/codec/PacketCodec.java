@@ -23,9 +23,11 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Database packet codec.
@@ -50,7 +52,12 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket> {
     
     @Override
     protected void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        int writerIndex = out.writerIndex();
         databasePacketCodecEngine.encode(context, message, out);
+        AtomicLong encodedBytes = context.channel().attr(CommonConstants.ENCODED_BYTES_ATTRIBUTE_KEY).get();
+        if (null != encodedBytes) {
+            encodedBytes.addAndGet(out.writerIndex() - writerIndex);
+        }
         if (log.isDebugEnabled()) {
             log.debug("Write to client {} :\n{}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(out));
         }
@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -32,5 +33,7 @@ public final class CommonConstants {
     
     public static final AttributeKey<Charset> CHARSET_ATTRIBUTE_KEY = AttributeKey.valueOf(Charset.class.getName());
     
+    public static final AttributeKey<AtomicLong> ENCODED_BYTES_ATTRIBUTE_KEY = AttributeKey.valueOf("ENCODED_BYTES");
+    
     public static final AtomicReference<String> PROXY_VERSION = new AtomicReference<>();
 }
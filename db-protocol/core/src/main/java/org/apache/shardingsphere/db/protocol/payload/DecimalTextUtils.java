@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Decimal text utility class.
+ *
+ * <p>Writes integral numbers as ASCII decimal text into byte buffer directly, without creating intermediate string and bytes.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DecimalTextUtils {
+    
+    /**
+     * Judge whether value is integral number.
+     *
+     * @param value value
+     * @return is integral number or not
+     */
+    public static boolean isIntegral(final Object value) {
+        if (null == value) {
+            return false;
+        }
+        Class<?> type = value.getClass();
+        return Integer.class == type || Long.class == type || Short.class == type || Byte.class == type;
+    }
+    
+    /**
+     * Get length of decimal text.
+     *
+     * @param value integral number
+     * @return length of decimal text
+     */
+    public static int getLength(final long value) {
+        int result = value < 0L ? 2 : 1;
+        for (long remaining = value / 10L; 0L != remaining; remaining /= 10L) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text.
+     *
+     * @param byteBuf byte buffer
+     * @param value integral number
+     * @param length length of decimal text
+     */
+    public static void write(final ByteBuf byteBuf, final long value, final int length) {
+        byteBuf.ensureWritable(length);
+        int writerIndex = byteBuf.writerIndex();
+        int index = writerIndex + length;
+        long remaining = value;
+        do {
+            byteBuf.setByte(--index, '0' + (int) Math.abs(remaining % 10L));
+            remaining /= 10L;
+        } while (0L != remaining);
+        if (value < 0L) {
+            byteBuf.setByte(--index, '-');
+        }
+        byteBuf.writerIndex(writerIndex + length);
+    }
+}
@@ -19,15 +19,20 @@ package org.apache.shardingsphere.db.protocol.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,7 +44,7 @@ class PacketCodecTest {
     @Mock
     private DatabasePacketCodecEngine databasePacketCodecEngine;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private ChannelHandlerContext context;
     
     @Mock
@@ -74,4 +79,14 @@ class PacketCodecTest {
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    void assertEncodeWithEncodedBytesCounted() {
+        AtomicLong encodedBytes = new AtomicLong(10L);
+        when(context.channel().attr(CommonConstants.ENCODED_BYTES_ATTRIBUTE_KEY).get()).thenReturn(encodedBytes);
+        when(byteBuf.writerIndex()).thenReturn(0, 20);
+        DatabasePacket databasePacket = mock(DatabasePacket.class);
+        packetCodec.encode(context, databasePacket, byteBuf);
+        assertThat(encodedBytes.get(), is(30L));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecimalTextUtilsTest {
+    
+    @Test
+    void assertIsIntegral() {
+        assertTrue(DecimalTextUtils.isIntegral(1));
+        assertTrue(DecimalTextUtils.isIntegral(1L));
+        assertTrue(DecimalTextUtils.isIntegral((short) 1));
+        assertTrue(DecimalTextUtils.isIntegral((byte) 1));
+        assertFalse(DecimalTextUtils.isIntegral(null));
+        assertFalse(DecimalTextUtils.isIntegral(1D));
+        assertFalse(DecimalTextUtils.isIntegral(BigInteger.ONE));
+        assertFalse(DecimalTextUtils.isIntegral("1"));
+    }
+    
+    @Test
+    void assertGetLength() {
+        assertThat(DecimalTextUtils.getLength(0L), is(1));
+        assertThat(DecimalTextUtils.getLength(9L), is(1));
+        assertThat(DecimalTextUtils.getLength(10L), is(2));
+        assertThat(DecimalTextUtils.getLength(-1L), is(2));
+        assertThat(DecimalTextUtils.getLength(Long.MAX_VALUE), is(String.valueOf(Long.MAX_VALUE).length()));
+        assertThat(DecimalTextUtils.getLength(Long.MIN_VALUE), is(String.valueOf(Long.MIN_VALUE).length()));
+    }
+    
+    @Test
+    void assertWrite() {
+        for (long each : new long[]{0L, 7L, 10L, -10L, 1234567890L, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            ByteBuf byteBuf = Unpooled.buffer(1);
+            byteBuf.writeByte('x');
+            DecimalTextUtils.write(byteBuf, each, DecimalTextUtils.getLength(each));
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("x" + each));
+        }
+    }
+}
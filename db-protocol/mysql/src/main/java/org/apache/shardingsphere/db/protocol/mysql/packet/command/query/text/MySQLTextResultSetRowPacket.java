@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.DecimalTextUtils;
 import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
 
 import java.math.BigDecimal;
@@ -40,6 +41,10 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE_BYTES = {1};
+    
+    private static final byte[] FALSE_BYTES = {0};
+    
     private final Collection<Object> data;
     
     public MySQLTextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
@@ -61,14 +66,18 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
+        if (data instanceof String) {
+            payload.writeStringLenenc((String) data);
+        } else if (DecimalTextUtils.isIntegral(data)) {
+            payload.writeDecimalStringLenenc(((Number) data).longValue());
+        } else if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
             payload.writeStringLenenc(data.toString().split("\\.")[0]);
         } else if (data instanceof BigDecimal) {
             payload.writeStringLenenc(((BigDecimal) data).toPlainString());
         } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
+            payload.writeBytesLenenc((boolean) data ? TRUE_BYTES : FALSE_BYTES);
         } else if (data instanceof LocalDateTime) {
             payload.writeStringLenenc(DateTimeFormatterFactory.getStandardFormatter().format((LocalDateTime) data));
         } else {
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -208,6 +209,38 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteStringLenencWithMultiBytesCharacters() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("值value");
+        assertThat(actual.readUnsignedByte(), is((short) 8));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("值value"));
+    }
+    
+    @Test
+    void assertWriteStringLenencIntoBufferWithExactCapacity() {
+        ByteBuf actual = Unpooled.buffer(12, 12);
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("value_value");
+        assertThat(actual.readUnsignedByte(), is((short) 11));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("value_value"));
+    }
+    
+    @Test
+    void assertWriteStringLenencWithNonUTF8Charset() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.ISO_8859_1).writeStringLenenc("value");
+        assertThat(actual.readUnsignedByte(), is((short) 5));
+        assertThat(actual.toString(StandardCharsets.ISO_8859_1), is("value"));
+    }
+    
+    @Test
+    void assertWriteDecimalStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeDecimalStringLenenc(-123L);
+        assertThat(actual.readUnsignedByte(), is((short) 4));
+        assertThat(actual.toString(StandardCharsets.US_ASCII), is("-123"));
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.payload.DecimalTextUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -27,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.util.Collection;
@@ -66,6 +69,11 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
     private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
+        } else if (each instanceof String && StandardCharsets.UTF_8.equals(payload.getCharset())) {
+            payload.writeInt4(ByteBufUtil.utf8Bytes((String) each));
+            payload.writeStringEOF((String) each);
+        } else if (DecimalTextUtils.isIntegral(each)) {
+            writeIntegralValue(payload, ((Number) each).longValue());
         } else if (each instanceof byte[]) {
             payload.writeInt4(((byte[]) each).length);
             payload.writeBytes((byte[]) each);
@@ -78,6 +86,12 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         }
     }
     
+    private void writeIntegralValue(final PostgreSQLPacketPayload payload, final long value) {
+        int length = DecimalTextUtils.getLength(value);
+        payload.writeInt4(length);
+        DecimalTextUtils.write(payload.getByteBuf(), value, length);
+    }
+    
     private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.db.protocol.postgresql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Payload operation for PostgreSQL packet data types.
@@ -154,6 +156,10 @@ public final class PostgreSQLPacketPayload implements PacketPayload {
      * @param value rest of packet string
      */
     public void writeStringEOF(final String value) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, ByteBufUtil.utf8Bytes(value));
+            return;
+        }
         byteBuf.writeBytes(value.getBytes(charset));
     }
     
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -32,6 +34,7 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -87,11 +90,32 @@ class PostgreSQLDataRowPacketTest {
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value"));
         assertThat(actual.getData(), is(Collections.singleton("value")));
         actual.write(payload);
-        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_8);
+        verify(payload).writeInt4("value".getBytes(StandardCharsets.UTF_8).length);
+        verify(payload).writeStringEOF("value");
+    }
+    
+    @Test
+    void assertWriteWithStringAndNonUTF8Charset() {
+        when(payload.getCharset()).thenReturn(StandardCharsets.ISO_8859_1);
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value"));
+        actual.write(payload);
+        byte[] valueBytes = "value".getBytes(StandardCharsets.ISO_8859_1);
         verify(payload).writeInt4(valueBytes.length);
         verify(payload).writeBytes(valueBytes);
     }
     
+    @Test
+    void assertWriteWithIntegral() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Arrays.asList(12345L, -6));
+        actual.write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readShort(), is((short) 2));
+        assertThat(byteBuf.readInt(), is(5));
+        assertThat(byteBuf.readCharSequence(5, StandardCharsets.US_ASCII).toString(), is("12345"));
+        assertThat(byteBuf.readInt(), is(2));
+        assertThat(byteBuf.readCharSequence(2, StandardCharsets.US_ASCII).toString(), is("-6"));
+    }
+    
     @Test
     void assertWriteWithSQLXML4Error() throws SQLException {
         when(sqlxml.getString()).thenThrow(new SQLException("mock"));
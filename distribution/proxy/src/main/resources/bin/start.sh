@@ -70,6 +70,8 @@ elif [ "$int_version" = '11' ] ; then
     fi
 elif [ "$int_version" = '17' ] ; then
     VERSION_OPTS="-XX:+SegmentedCodeCache -XX:+AggressiveHeap"
+elif [ "$int_version" = '21' ] ; then
+    VERSION_OPTS="-XX:+SegmentedCodeCache -XX:+AggressiveHeap"
 else
     echo "unadapted java version, please notice..."
 fi
@@ -215,6 +217,11 @@ if [ -z "$PORT" ]; then
     PORT=-1
 fi
 
+# Print stack traces of virtual threads pinned by synchronized blocks, JDK 24 and later do not pin virtual threads in synchronized blocks
+if [ "$int_version" -ge 21 ] 2>/dev/null && [ "$int_version" -lt 24 ] && $GREP -Eq '^[[:space:]]*kernel-executor-virtual-thread-enabled:[[:space:]]*true' "${CONF_PATH}/global.yaml" 2>/dev/null; then
+    JAVA_OPTS="${JAVA_OPTS} -Djdk.tracePinnedThreads=short "
+fi
+
 if [ -z "$ADDRESSES" ]; then
     ADDRESSES="0.0.0.0"
 fi
@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  */
@@ -44,6 +47,36 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm {
      */
     Object decrypt(Object cipherValue, AlgorithmSQLContext algorithmSQLContext);
     
+    /**
+     * Encrypt in batch.
+     *
+     * @param plainValues plain values
+     * @param algorithmSQLContext algorithm SQL context
+     * @return cipher values with the same order of plain values, null plain value is encrypted as null
+     */
+    default List<Object> batchEncrypt(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt in batch.
+     *
+     * @param cipherValues cipher values
+     * @param algorithmSQLContext algorithm SQL context
+     * @return plain values with the same order of cipher values, null cipher value is decrypted as null
+     */
+    default List<Object> batchDecrypt(final List<Object> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
     /**
      * Get encrypt algorithm meta data.
      *
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.table.EncryptTable;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -31,15 +32,20 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ *
+ * <p>Decrypt plan of each column is resolved on first access and reused by following rows.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
+    private static final DecryptPlan PASS_THROUGH = new DecryptPlan(null, null, null);
+    
     private final ShardingSphereDatabase database;
     
     private final EncryptRule encryptRule;
@@ -48,6 +54,10 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private DecryptPlan[] decryptPlans = new DecryptPlan[0];
+    
+    private String schemaName;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -55,28 +65,53 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+        DecryptPlan decryptPlan = getDecryptPlan(columnIndex);
+        if (null == decryptPlan.encryptColumn) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
         try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+            return decryptPlan.encryptColumn.getCipher().decrypt(database.getName(), getSchemaName(), decryptPlan.tableName, decryptPlan.columnName, cipherValue);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
+            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), decryptPlan.tableName, decryptPlan.columnName), ex);
         }
     }
     
+    private String getSchemaName() {
+        if (null == schemaName) {
+            schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                    .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+        }
+        return schemaName;
+    }
+    
+    private DecryptPlan getDecryptPlan(final int columnIndex) {
+        if (columnIndex > decryptPlans.length) {
+            decryptPlans = Arrays.copyOf(decryptPlans, columnIndex);
+        }
+        DecryptPlan result = decryptPlans[columnIndex - 1];
+        if (null == result) {
+            result = createDecryptPlan(columnIndex);
+            decryptPlans[columnIndex - 1] = result;
+        }
+        return result;
+    }
+    
+    private DecryptPlan createDecryptPlan(final int columnIndex) {
+        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
+        if (!columnProjection.isPresent()) {
+            return PASS_THROUGH;
+        }
+        String originalTableName = columnProjection.get().getOriginalTable().getValue();
+        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+        Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+        return encryptTable.isPresent() && encryptTable.get().isEncryptColumn(originalColumnName)
+                ? new DecryptPlan(originalTableName, originalColumnName, encryptTable.get().getEncryptColumn(originalColumnName))
+                : PASS_THROUGH;
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
@@ -96,4 +131,19 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class DecryptPlan {
+        
+        private final String tableName;
+        
+        private final String columnName;
+        
+        private final EncryptColumn encryptColumn;
+    }
 }
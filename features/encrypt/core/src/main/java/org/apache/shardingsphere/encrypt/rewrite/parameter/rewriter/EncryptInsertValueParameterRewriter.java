@@ -35,6 +35,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simp
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -80,19 +81,22 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<Integer> rowIndexes = new ArrayList<>();
+        List<Object> originalValues = new ArrayList<>();
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
             if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
                 ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
                 if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
+                    rowIndexes.add(count);
+                    originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null));
                 }
             }
             count++;
         }
+        if (!rowIndexes.isEmpty()) {
+            encryptInsertValues(paramBuilder, insertStatementContext, encryptColumn, columnIndex, rowIndexes, originalValues, schemaName, tableName);
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -106,22 +110,34 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         return columnNames.indexOf(encryptLogicColumnName);
     }
     
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
-                                    final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
+    private void encryptInsertValues(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final EncryptColumn encryptColumn, final int columnIndex,
+                                     final List<Integer> rowIndexes, final List<Object> originalValues, final String schemaName, final String tableName) {
         String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        Collection<Object> addedParams = new LinkedList<>();
-        if (encryptColumn.getAssistedQuery().isPresent()) {
-            addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (encryptColumn.getLikeQuery().isPresent()) {
-            addedParams.add(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (!addedParams.isEmpty()) {
-            if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
-                paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
+        List<Object> cipherValues = encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValues);
+        List<Object> assistedQueryValues = encryptColumn.getAssistedQuery().isPresent()
+                ? encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValues)
+                : Collections.emptyList();
+        List<Object> likeQueryValues = encryptColumn.getLikeQuery().isPresent()
+                ? encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValues)
+                : Collections.emptyList();
+        for (int i = 0; i < rowIndexes.size(); i++) {
+            int rowIndex = rowIndexes.get(i);
+            int paramIndex = insertStatementContext.getInsertValueContexts().get(rowIndex).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(rowIndex);
+            standardParamBuilder.addReplacedParameters(paramIndex, cipherValues.get(i));
+            Collection<Object> addedParams = new LinkedList<>();
+            if (!assistedQueryValues.isEmpty()) {
+                addedParams.add(assistedQueryValues.get(i));
+            }
+            if (!likeQueryValues.isEmpty()) {
+                addedParams.add(likeQueryValues.get(i));
+            }
+            if (!addedParams.isEmpty()) {
+                if (!standardParamBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
+                    standardParamBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
+                }
+                standardParamBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
             }
-            paramBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
         }
     }
 }
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveLookupIndex;
 import org.apache.shardingsphere.infra.rule.PartialRuleUpdateSupported;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
@@ -58,6 +59,8 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
     
     private final Map<String, EncryptTable> tables = new CaseInsensitiveMap<>(Collections.emptyMap(), new ConcurrentHashMap<>());
     
+    private final AtomicReference<CaseInsensitiveLookupIndex<EncryptTable>> tableLookupIndex = new AtomicReference<>();
+    
     private final AtomicReference<RuleAttributes> attributes = new AtomicReference<>();
     
     public EncryptRule(final String databaseName, final EncryptRuleConfiguration ruleConfig) {
@@ -68,6 +71,7 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
             each.getColumns().forEach(this::checkEncryptorType);
             tables.put(each.getName(), new EncryptTable(each, encryptors));
         }
+        tableLookupIndex.set(new CaseInsensitiveLookupIndex<>(tables.values(), EncryptTable::getTable));
         attributes.set(new RuleAttributes(new EncryptTableMapperRuleAttribute(tables.keySet())));
     }
     
@@ -109,7 +113,7 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
      */
     @HighFrequencyInvocation
     public Optional<EncryptTable> findEncryptTable(final String tableName) {
-        return Optional.ofNullable(tables.get(tableName));
+        return tableLookupIndex.get().find(tableName);
     }
     
     /**
@@ -156,12 +160,14 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
         Collection<String> toBeAddedTableNames = toBeUpdatedTablesNames.stream().filter(each -> !tables.containsKey(each)).collect(Collectors.toList());
         if (!toBeAddedTableNames.isEmpty()) {
             toBeAddedTableNames.forEach(each -> addTableRule(each, toBeUpdatedRuleConfig));
+            tableLookupIndex.set(new CaseInsensitiveLookupIndex<>(tables.values(), EncryptTable::getTable));
             attributes.set(new RuleAttributes(new EncryptTableMapperRuleAttribute(tables.keySet())));
             return true;
         }
         Collection<String> toBeRemovedTableNames = tables.keySet().stream().filter(each -> !toBeUpdatedTablesNames.contains(each)).collect(Collectors.toList());
         if (!toBeRemovedTableNames.isEmpty()) {
             toBeRemovedTableNames.forEach(tables::remove);
+            tableLookupIndex.set(new CaseInsensitiveLookupIndex<>(tables.values(), EncryptTable::getTable));
             attributes.set(new RuleAttributes(new EncryptTableMapperRuleAttribute(tables.keySet())));
             // TODO check and remove unused INLINE encryptors
             return true;
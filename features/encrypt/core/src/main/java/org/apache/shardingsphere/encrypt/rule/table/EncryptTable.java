@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.rule.table;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.config.rule.EncryptTableRuleConfiguration;
@@ -30,11 +31,12 @@ import org.apache.shardingsphere.encrypt.rule.column.item.LikeQueryColumnItem;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveLookupIndex;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Encrypt table.
@@ -46,9 +48,27 @@ public final class EncryptTable {
     
     private final Map<String, EncryptColumn> columns;
     
+    @Getter(AccessLevel.NONE)
+    private final CaseInsensitiveLookupIndex<EncryptColumn> logicColumnLookupIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final CaseInsensitiveLookupIndex<EncryptColumn> cipherColumnLookupIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final CaseInsensitiveLookupIndex<EncryptColumn> assistedQueryColumnLookupIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final CaseInsensitiveLookupIndex<EncryptColumn> likeQueryColumnLookupIndex;
+    
     public EncryptTable(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
         table = config.getName();
         columns = createEncryptColumns(config, encryptors);
+        logicColumnLookupIndex = new CaseInsensitiveLookupIndex<>(columns.values(), EncryptColumn::getName);
+        cipherColumnLookupIndex = new CaseInsensitiveLookupIndex<>(columns.values(), each -> each.getCipher().getName());
+        assistedQueryColumnLookupIndex = new CaseInsensitiveLookupIndex<>(columns.values().stream().filter(each -> each.getAssistedQuery().isPresent()).collect(Collectors.toList()),
+                each -> each.getAssistedQuery().get().getName());
+        likeQueryColumnLookupIndex = new CaseInsensitiveLookupIndex<>(columns.values().stream().filter(each -> each.getLikeQuery().isPresent()).collect(Collectors.toList()),
+                each -> each.getLikeQuery().get().getName());
     }
     
     private Map<String, EncryptColumn> createEncryptColumns(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
@@ -78,7 +98,7 @@ public final class EncryptTable {
      */
     @HighFrequencyInvocation
     public Optional<EncryptAlgorithm> findEncryptor(final String logicColumnName) {
-        return columns.containsKey(logicColumnName) ? Optional.of(columns.get(logicColumnName).getCipher().getEncryptor()) : Optional.empty();
+        return logicColumnLookupIndex.find(logicColumnName).map(optional -> optional.getCipher().getEncryptor());
     }
     
     /**
@@ -98,7 +118,7 @@ public final class EncryptTable {
      */
     @HighFrequencyInvocation
     public boolean isEncryptColumn(final String logicColumnName) {
-        return columns.containsKey(logicColumnName);
+        return logicColumnLookupIndex.contains(logicColumnName);
     }
     
     /**
@@ -109,8 +129,9 @@ public final class EncryptTable {
      */
     @HighFrequencyInvocation
     public EncryptColumn getEncryptColumn(final String logicColumnName) {
-        ShardingSpherePreconditions.checkState(isEncryptColumn(logicColumnName), () -> new EncryptColumnNotFoundException(table, logicColumnName));
-        return columns.get(logicColumnName);
+        int ordinal = logicColumnLookupIndex.findOrdinal(logicColumnName);
+        ShardingSpherePreconditions.checkState(-1 != ordinal, () -> new EncryptColumnNotFoundException(table, logicColumnName));
+        return logicColumnLookupIndex.get(ordinal);
     }
     
     /**
@@ -120,7 +141,7 @@ public final class EncryptTable {
      * @return cipher column or not
      */
     public boolean isCipherColumn(final String columnName) {
-        return columns.values().stream().anyMatch(each -> each.getCipher().getName().equalsIgnoreCase(columnName));
+        return cipherColumnLookupIndex.contains(columnName);
     }
     
     /**
@@ -131,12 +152,7 @@ public final class EncryptTable {
      * @throws EncryptLogicColumnNotFoundException encrypt logic column not found exception
      */
     public String getLogicColumnByCipherColumn(final String cipherColumnName) {
-        for (Entry<String, EncryptColumn> entry : columns.entrySet()) {
-            if (entry.getValue().getCipher().getName().equalsIgnoreCase(cipherColumnName)) {
-                return entry.getValue().getName();
-            }
-        }
-        throw new EncryptLogicColumnNotFoundException(cipherColumnName);
+        return cipherColumnLookupIndex.find(cipherColumnName).map(EncryptColumn::getName).orElseThrow(() -> new EncryptLogicColumnNotFoundException(cipherColumnName));
     }
     
     /**
@@ -147,12 +163,7 @@ public final class EncryptTable {
      * @throws EncryptLogicColumnNotFoundException encrypt logic column not found exception
      */
     public String getLogicColumnByAssistedQueryColumn(final String assistQueryColumnName) {
-        for (Entry<String, EncryptColumn> entry : columns.entrySet()) {
-            if (entry.getValue().getAssistedQuery().isPresent() && entry.getValue().getAssistedQuery().get().getName().equalsIgnoreCase(assistQueryColumnName)) {
-                return entry.getValue().getName();
-            }
-        }
-        throw new EncryptLogicColumnNotFoundException(assistQueryColumnName);
+        return assistedQueryColumnLookupIndex.find(assistQueryColumnName).map(EncryptColumn::getName).orElseThrow(() -> new EncryptLogicColumnNotFoundException(assistQueryColumnName));
     }
     
     /**
@@ -162,7 +173,7 @@ public final class EncryptTable {
      * @return assisted query column or not
      */
     public boolean isAssistedQueryColumn(final String columnName) {
-        return columns.values().stream().anyMatch(each -> columnName.equalsIgnoreCase(each.getAssistedQuery().map(AssistedQueryColumnItem::getName).orElse(null)));
+        return assistedQueryColumnLookupIndex.contains(columnName);
     }
     
     /**
@@ -172,7 +183,7 @@ public final class EncryptTable {
      * @return like query column or not
      */
     public boolean isLikeQueryColumn(final String columnName) {
-        return columns.values().stream().anyMatch(each -> columnName.equalsIgnoreCase(each.getLikeQuery().map(LikeQueryColumnItem::getName).orElse(null)));
+        return likeQueryColumnLookupIndex.contains(columnName);
     }
     
     /**
@@ -183,9 +194,6 @@ public final class EncryptTable {
      */
     @HighFrequencyInvocation
     public Optional<EncryptAlgorithm> findQueryEncryptor(final String columnName) {
-        if (!isEncryptColumn(columnName)) {
-            return Optional.empty();
-        }
-        return Optional.of(getEncryptColumn(columnName).getQueryEncryptor());
+        return logicColumnLookupIndex.find(columnName).map(EncryptColumn::getQueryEncryptor);
     }
 }
@@ -29,6 +29,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 import org.mockito.MockedStatic;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -91,4 +93,14 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(AlgorithmSQLContext.class)));
     }
+    
+    @Test
+    void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null), mock(AlgorithmSQLContext.class)), is(Arrays.<Object>asList("dSpPiyENQGDUXMKFMJPGWA==", null)));
+    }
+    
+    @Test
+    void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null), mock(AlgorithmSQLContext.class)), is(Arrays.<Object>asList("test", null)));
+    }
 }
@@ -18,11 +18,16 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.table.EncryptTable;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,11 +36,15 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +56,7 @@ class EncryptMergedResultTest {
     @Mock
     private EncryptRule encryptRule;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private SelectStatementContext selectStatementContext;
     
     @Mock
@@ -83,4 +92,25 @@ class EncryptMergedResultTest {
     void assertWasNull() throws SQLException {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).wasNull());
     }
+    
+    @Test
+    void assertGetValueWithDecryptPlanReused() throws SQLException {
+        ColumnProjection columnProjection = mock(ColumnProjection.class);
+        when(columnProjection.getOriginalTable()).thenReturn(new IdentifierValue("foo_tbl"));
+        when(columnProjection.getOriginalColumn()).thenReturn(new IdentifierValue("foo_col"));
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(database.getName()).thenReturn("foo_db");
+        EncryptColumn encryptColumn = mock(EncryptColumn.class, RETURNS_DEEP_STUBS);
+        when(encryptColumn.getCipher().decrypt("foo_db", "foo_schema", "foo_tbl", "foo_col", "foo_cipher")).thenReturn("foo_plain");
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("foo_col")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("foo_col")).thenReturn(encryptColumn);
+        when(encryptRule.findEncryptTable("foo_tbl")).thenReturn(Optional.of(encryptTable));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo_cipher");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("foo_plain"));
+        assertThat(actual.getValue(1, String.class), is("foo_plain"));
+        verify(encryptRule, times(1)).findEncryptTable("foo_tbl");
+    }
 }
@@ -109,4 +109,17 @@ class EncryptTableTest {
     void assertFindQueryEncryptorWithNotEncryptColumn() {
         assertThat(encryptTable.findQueryEncryptor("invalidColumn"), is(Optional.empty()));
     }
+    
+    @Test
+    void assertGetLogicColumnByAssistedQueryColumn() {
+        assertTrue(encryptTable.isAssistedQueryColumn("ASSISTEDQUERYCOLUMN"));
+        assertThat(encryptTable.getLogicColumnByAssistedQueryColumn("assistedquerycolumn"), is("logicColumn"));
+        assertThrows(EncryptLogicColumnNotFoundException.class, () -> encryptTable.getLogicColumnByAssistedQueryColumn("likeQueryColumn"));
+    }
+    
+    @Test
+    void assertIsLikeQueryColumn() {
+        assertTrue(encryptTable.isLikeQueryColumn("LikeQueryColumn"));
+        assertFalse(encryptTable.isLikeQueryColumn("cipherColumn"));
+    }
 }
@@ -28,43 +28,66 @@ import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
 /**
  * Merged result for mask.
+ *
+ * <p>Mask plan of each column is resolved on first access and reused by following rows.</p>
  */
 @RequiredArgsConstructor
 public final class MaskMergedResult implements MergedResult {
     
+    private static final MaskPlan PASS_THROUGH = new MaskPlan(null);
+    
     private final MaskRule maskRule;
     
     private final SelectStatementContext selectStatementContext;
     
     private final MergedResult mergedResult;
     
+    private MaskPlan[] maskPlans = new MaskPlan[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        MaskPlan maskPlan = getMaskPlan(columnIndex);
+        if (null == maskPlan.maskAlgorithm) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object originalValue = mergedResult.getValue(columnIndex, Object.class);
+        return null == originalValue ? null : maskPlan.maskAlgorithm.mask(originalValue);
+    }
+    
+    private MaskPlan getMaskPlan(final int columnIndex) {
+        if (columnIndex > maskPlans.length) {
+            maskPlans = Arrays.copyOf(maskPlans, columnIndex);
+        }
+        MaskPlan result = maskPlans[columnIndex - 1];
+        if (null == result) {
+            result = createMaskPlan(columnIndex);
+            maskPlans[columnIndex - 1] = result;
+        }
+        return result;
+    }
+    
+    private MaskPlan createMaskPlan(final int columnIndex) {
         Optional<ColumnProjection> columnProjection = selectStatementContext.getProjectionsContext().findColumnProjection(columnIndex);
         if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return PASS_THROUGH;
         }
         Optional<MaskTable> maskTable = maskRule.findMaskTable(columnProjection.get().getOriginalTable().getValue());
         if (!maskTable.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return PASS_THROUGH;
         }
-        Optional<MaskAlgorithm> maskAlgorithm = maskTable.get().findAlgorithm(columnProjection.get().getName().getValue());
-        if (!maskAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object originalValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
+        return maskTable.get().findAlgorithm(columnProjection.get().getName().getValue()).map(MaskPlan::new).orElse(PASS_THROUGH);
     }
     
     @Override
@@ -86,4 +109,16 @@ public final class MaskMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @SuppressWarnings("rawtypes")
+    @RequiredArgsConstructor
+    private static final class MaskPlan {
+        
+        private final MaskAlgorithm maskAlgorithm;
+    }
 }
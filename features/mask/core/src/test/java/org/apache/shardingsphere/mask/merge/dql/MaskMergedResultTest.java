@@ -41,6 +41,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -88,6 +90,16 @@ class MaskMergedResultTest {
         assertNull(new MaskMergedResult(mockMaskAlgorithmAbsent(), mockSelectStatementContext(), mergedResult).getValue(1, Object.class));
     }
     
+    @Test
+    void assertGetValueWithMaskPlanReused() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE");
+        MaskRule maskRule = mockMaskRule();
+        MaskMergedResult actual = new MaskMergedResult(maskRule, mockSelectStatementContext(), mergedResult);
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE"));
+        verify(maskRule, times(1)).findMaskTable("tbl");
+    }
+    
     @SuppressWarnings("unchecked")
     private MaskRule mockMaskRule() {
         MaskAlgorithm<String, String> maskAlgorithm = mock(MaskAlgorithm.class);
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.sharding.api.sharding.standard;
 
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Standard sharding algorithm.
@@ -45,4 +47,21 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      * @return sharding results for data sources or table names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, RangeShardingValue<T> shardingValue);
+    
+    /**
+     * Sharding in batch.
+     *
+     * <p>Each sharding value is routed to at most one target, algorithms can override it to share the work among values.</p>
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue sharding value with values in batch
+     * @return sharding results for data sources or table names in order of sharding values, element is null if no target matched
+     */
+    default List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<T> shardingValue) {
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (T each : shardingValue.getValues()) {
+            result.add(doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each)));
+        }
+        return result;
+    }
 }
@@ -22,8 +22,13 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 /**
  * Sharding auto table algorithm utility class.
@@ -43,4 +48,22 @@ public final class ShardingAutoTableAlgorithmUtils {
         String targetName = dataNodeInfo.getPrefix() + Strings.padStart(suffix, dataNodeInfo.getSuffixMinLength(), dataNodeInfo.getPaddingChar());
         return availableTargetNames.contains(targetName) ? Optional.of(targetName) : Optional.empty();
     }
+    
+    /**
+     * Find matched target names by partitions.
+     *
+     * @param availableTargetNames available target names
+     * @param partitions partitions of sharding values
+     * @param suffixGenerator suffix generator of partition
+     * @param dataNodeInfo data node info
+     * @return matched target names in order of partitions, element is null if no target matched
+     */
+    public static List<String> findMatchedTargetNames(final Collection<String> availableTargetNames, final int[] partitions, final IntFunction<String> suffixGenerator, final DataNodeInfo dataNodeInfo) {
+        List<String> result = new ArrayList<>(partitions.length);
+        Map<Integer, Optional<String>> matchedTargetNames = new HashMap<>();
+        for (int each : partitions) {
+            result.add(matchedTargetNames.computeIfAbsent(each, key -> findMatchedTargetName(availableTargetNames, suffixGenerator.apply(key), dataNodeInfo)).orElse(null));
+        }
+        return result;
+    }
 }
@@ -23,12 +23,14 @@ import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardi
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -97,6 +99,12 @@ public final class ClassBasedShardingAlgorithm implements StandardShardingAlgori
         return standardShardingAlgorithm.doSharding(availableTargetNames, shardingValue);
     }
     
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        return standardShardingAlgorithm.doSharding(availableTargetNames, shardingValue);
+    }
+    
     @SuppressWarnings("unchecked")
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
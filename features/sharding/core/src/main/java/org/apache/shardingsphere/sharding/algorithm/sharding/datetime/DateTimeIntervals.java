@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Date time intervals for interval sharding algorithm.
+ *
+ * <p>Starts and table suffixes of intervals are calculated once in order, up to {@value #MAX_INDEXED_INTERVAL_COUNT} intervals,
+ * intervals matched with a range are located by binary search and target names are located by suffix index.
+ * Intervals beyond the indexed ones are stepped lazily from the last indexed interval.</p>
+ *
+ * @param <T> type of date time
+ */
+final class DateTimeIntervals<T extends TemporalAccessor & Comparable<? super T>> {
+    
+    private static final int MAX_INDEXED_INTERVAL_COUNT = 100000;
+    
+    private final T lower;
+    
+    private final T upper;
+    
+    private final Predicate<T> startCondition;
+    
+    private final UnaryOperator<T> stepper;
+    
+    private final Function<Comparable<?>, T> parser;
+    
+    private final Function<T, String> suffixFormatter;
+    
+    private final List<T> starts = new ArrayList<>();
+    
+    private final List<String> suffixes = new ArrayList<>();
+    
+    private final Collection<Integer> suffixLengths = new HashSet<>();
+    
+    private final boolean fullyIndexed;
+    
+    private final Cache<Collection<String>, TargetNameIndex> targetNameIndexes = Caffeine.newBuilder().weakKeys().build();
+    
+    DateTimeIntervals(final T lower, final T upper, final Predicate<T> startCondition, final UnaryOperator<T> stepper,
+                      final Function<Comparable<?>, T> parser, final Function<T, String> suffixFormatter) {
+        this.lower = lower;
+        this.upper = upper;
+        this.startCondition = startCondition;
+        this.stepper = stepper;
+        this.parser = parser;
+        this.suffixFormatter = suffixFormatter;
+        boolean fullyIndexed = true;
+        T start = lower;
+        while (startCondition.test(start)) {
+            if (starts.size() >= MAX_INDEXED_INTERVAL_COUNT) {
+                fullyIndexed = false;
+                break;
+            }
+            String suffix = suffixFormatter.apply(start);
+            starts.add(start);
+            suffixes.add(suffix);
+            suffixLengths.add(suffix.length());
+            T next = stepper.apply(start);
+            if (next.compareTo(start) <= 0) {
+                break;
+            }
+            start = next;
+        }
+        this.fullyIndexed = fullyIndexed;
+    }
+    
+    /**
+     * Get matched target names.
+     *
+     * @param availableTargetNames available target names
+     * @param range range of date time, unbounded endpoint is limited by lower and upper of intervals
+     * @return matched target names
+     */
+    Collection<String> getMatchedTargetNames(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        T lowerValue = range.hasLowerBound() ? parser.apply(range.lowerEndpoint()) : lower;
+        T upperValue = range.hasUpperBound() ? parser.apply(range.upperEndpoint()) : upper;
+        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+        Range<T> dateTimeRange = Range.range(lowerValue, lowerBoundType, upperValue, upperBoundType);
+        Map<String, Collection<String>> targetNamesBySuffix = getTargetNameIndex(availableTargetNames).targetNamesBySuffix;
+        Collection<String> result = new LinkedHashSet<>();
+        int index = Math.max(0, findFloorIndex(lowerValue));
+        T start = index < starts.size() ? starts.get(index) : null;
+        while (null != start && start.compareTo(upperValue) <= 0) {
+            T next = stepper.apply(start);
+            Range<T> interval = Range.closedOpen(start, next);
+            if (interval.isConnected(dateTimeRange) && !interval.intersection(dateTimeRange).isEmpty()) {
+                result.addAll(index < suffixes.size()
+                        ? targetNamesBySuffix.getOrDefault(suffixes.get(index), Collections.emptyList())
+                        : getTargetNamesEndsWith(availableTargetNames, suffixFormatter.apply(start)));
+            }
+            index++;
+            start = index < starts.size() ? starts.get(index) : getNextUnindexedStart(start, next);
+        }
+        return result;
+    }
+    
+    private T getNextUnindexedStart(final T start, final T next) {
+        return !fullyIndexed && next.compareTo(start) > 0 && startCondition.test(next) ? next : null;
+    }
+    
+    private Collection<String> getTargetNamesEndsWith(final Collection<String> availableTargetNames, final String suffix) {
+        return availableTargetNames.stream().filter(each -> each.endsWith(suffix)).collect(Collectors.toList());
+    }
+    
+    private int findFloorIndex(final T value) {
+        int result = Collections.binarySearch(starts, value);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    private TargetNameIndex getTargetNameIndex(final Collection<String> availableTargetNames) {
+        TargetNameIndex result = targetNameIndexes.getIfPresent(availableTargetNames);
+        if (null == result || result.targetNameCount != availableTargetNames.size()) {
+            result = new TargetNameIndex(availableTargetNames, new HashSet<>(suffixes), suffixLengths);
+            targetNameIndexes.put(availableTargetNames, result);
+        }
+        return result;
+    }
+    
+    private static final class TargetNameIndex {
+        
+        private final int targetNameCount;
+        
+        private final Map<String, Collection<String>> targetNamesBySuffix = new HashMap<>();
+        
+        TargetNameIndex(final Collection<String> targetNames, final Collection<String> suffixes, final Collection<Integer> suffixLengths) {
+            targetNameCount = targetNames.size();
+            for (String each : targetNames) {
+                for (int suffixLength : suffixLengths) {
+                    if (each.length() < suffixLength) {
+                        continue;
+                    }
+                    String suffix = each.substring(each.length() - suffixLength);
+                    if (suffixes.contains(suffix)) {
+                        targetNamesBySuffix.computeIfAbsent(suffix, key -> new ArrayList<>()).add(each);
+                    }
+                }
+            }
+        }
+    }
+}
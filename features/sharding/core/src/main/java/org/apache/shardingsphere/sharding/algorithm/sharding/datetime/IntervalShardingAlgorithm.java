@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
-import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -43,10 +42,9 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Properties;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * Interval sharding algorithm.
@@ -81,6 +79,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private DateTimeIntervals<?> dateTimeIntervals;
+    
     @Override
     public void init(final Properties props) {
         dateTimePatternString = getDateTimePattern(props);
@@ -91,6 +91,7 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        dateTimeIntervals = createDateTimeIntervals();
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -130,175 +131,50 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedSQLOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
-    @Override
-    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
-    }
-    
-    @Override
-    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return doSharding(availableTargetNames, shardingValue.getValueRange());
-    }
-    
-    private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
-        TemporalAccessor calculateTime = dateTimeLower;
-        if (!calculateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                return doShardingInLocalDate(availableTargetNames, range, calculateTime);
+    private DateTimeIntervals<?> createDateTimeIntervals() {
+        if (!dateTimeLower.isSupported(ChronoField.NANO_OF_DAY)) {
+            if (dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+                return createDateTimeIntervals(dateTimeLower.query(TemporalQueries.localDate()), dateTimeUpper.query(TemporalQueries.localDate()),
+                        each -> each.plus(stepAmount, stepUnit), this::parseLocalDate);
             }
-            if (calculateTime.isSupported(ChronoField.YEAR) && calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInYearMonth(availableTargetNames, range, calculateTime);
+            if (dateTimeLower.isSupported(ChronoField.YEAR) && dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                return createDateTimeIntervals(dateTimeLower.query(YearMonth::from), dateTimeUpper.query(YearMonth::from), each -> each.plus(stepAmount, stepUnit), this::parseYearMonth);
             }
-            if (calculateTime.isSupported(ChronoField.YEAR)) {
-                return doShardingInYear(availableTargetNames, range, calculateTime);
+            if (dateTimeLower.isSupported(ChronoField.YEAR)) {
+                return createDateTimeIntervals(dateTimeLower.query(Year::from), dateTimeUpper.query(Year::from), each -> each.plus(stepAmount, stepUnit), this::parseYear);
             }
-            if (calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInMonth(availableTargetNames, range, calculateTime);
+            if (dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
+                return new DateTimeIntervals<>(dateTimeLower.query(Month::from), dateTimeUpperAsMonth,
+                        each -> each.getValue() <= dateTimeUpperAsMonth.getValue() && each.getValue() + stepAmount <= Month.DECEMBER.getValue(),
+                        each -> each.plus(stepAmount), this::parseMonth, tableSuffixPattern::format);
             }
         }
-        if (!calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            return doShardingInLocalTime(availableTargetNames, range, calculateTime);
+        if (!dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+            return createDateTimeIntervals(dateTimeLower.query(TemporalQueries.localTime()), dateTimeUpper.query(TemporalQueries.localTime()),
+                    each -> each.plus(stepAmount, stepUnit), this::parseLocalTime);
         }
-        return doShardingInLocalDateTime(availableTargetNames, range, calculateTime);
+        return createDateTimeIntervals(LocalDateTime.from(dateTimeLower), LocalDateTime.from(dateTimeUpper), each -> each.plus(stepAmount, stepUnit), this::parseLocalDateTime);
     }
     
-    private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
-        LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
-        LocalDateTime dateTimeLowerAsLocalDateTime = LocalDateTime.from(dateTimeLower);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
+    private <T extends TemporalAccessor & Comparable<? super T>> DateTimeIntervals<T> createDateTimeIntervals(final T lower, final T upper,
+                                                                                                            final UnaryOperator<T> stepper, final Function<Comparable<?>, T> parser) {
+        return new DateTimeIntervals<>(lower, upper, each -> each.compareTo(upper) <= 0, stepper, parser, tableSuffixPattern::format);
     }
     
-    private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
-        LocalTime dateTimeLowerAsLocalTime = dateTimeLower.query(TemporalQueries.localTime());
-        LocalTime calculateTimeAsView = calculateTime.query(TemporalQueries.localTime());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
-        LocalDate dateTimeLowerAsLocalDate = dateTimeLower.query(TemporalQueries.localDate());
-        LocalDate calculateTimeAsView = calculateTime.query(TemporalQueries.localDate());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
-        Year dateTimeLowerAsYear = dateTimeLower.query(Year::from);
-        Year calculateTimeAsView = calculateTime.query(Year::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYear, dateTimeUpperAsYear)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
-        Month dateTimeLowerAsMonth = dateTimeLower.query(Month::from);
-        Month calculateTimeAsView = calculateTime.query(Month::from);
-        while (calculateTimeAsView.getValue() <= dateTimeUpperAsMonth.getValue() && (calculateTimeAsView.getValue() + stepAmount) <= Month.DECEMBER.getValue()) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), range, dateTimeLowerAsMonth, dateTimeUpperAsMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
-        YearMonth dateTimeLowerAsYearMonth = dateTimeLower.query(YearMonth::from);
-        YearMonth calculateTimeAsView = calculateTime.query(YearMonth::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range, final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper) {
-        LocalDateTime lower = range.hasLowerBound() ? parseLocalDateTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalDateTime upper = range.hasUpperBound() ? parseLocalDateTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<LocalDate> calculateRange, final Range<Comparable<?>> range, final LocalDate dateTimeLower, final LocalDate dateTimeUpper) {
-        LocalDate lower = range.hasLowerBound() ? parseLocalDate(range.lowerEndpoint()) : dateTimeLower;
-        LocalDate upper = range.hasUpperBound() ? parseLocalDate(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDate> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<LocalTime> calculateRange, final Range<Comparable<?>> range, final LocalTime dateTimeLower, final LocalTime dateTimeUpper) {
-        LocalTime lower = range.hasLowerBound() ? parseLocalTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalTime upper = range.hasUpperBound() ? parseLocalTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<Year> calculateRange, final Range<Comparable<?>> range, final Year dateTimeLower, final Year dateTimeUpper) {
-        Year lower = range.hasLowerBound() ? parseYear(range.lowerEndpoint()) : dateTimeLower;
-        Year upper = range.hasUpperBound() ? parseYear(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Year> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
+        return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
     }
     
-    private boolean hasIntersection(final Range<Month> calculateRange, final Range<Comparable<?>> range, final Month dateTimeLower, final Month dateTimeUpper) {
-        Month lower = range.hasLowerBound() ? parseMonth(range.lowerEndpoint()) : dateTimeLower;
-        Month upper = range.hasUpperBound() ? parseMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Month> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        return doSharding(availableTargetNames, shardingValue.getValueRange());
     }
     
-    private boolean hasIntersection(final Range<YearMonth> calculateRange, final Range<Comparable<?>> range, final YearMonth dateTimeLower, final YearMonth dateTimeUpper) {
-        YearMonth lower = range.hasLowerBound() ? parseYearMonth(range.lowerEndpoint()) : dateTimeLower;
-        YearMonth upper = range.hasUpperBound() ? parseYearMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<YearMonth> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        return dateTimeIntervals.getMatchedTargetNames(availableTargetNames, range);
     }
     
     private LocalDateTime parseLocalDateTime(final Comparable<?> endpoint) {
@@ -380,34 +256,6 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return endpoint.toString();
     }
     
-    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix;
-        if (!dateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.YEAR) && dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(YearMonth::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Year::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Month::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-        }
-        if (!dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            tableSuffix = dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
-            return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-        }
-        tableSuffix = LocalDateTime.from(dateTime).format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-    }
-    
     @Override
     public String getType() {
         return "INTERVAL";
@@ -22,14 +22,20 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -44,11 +50,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private InlineExpressionParser algorithmExpressionParser;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        algorithmExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -67,8 +76,25 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        return evaluate(columnName, shardingValue.getValue());
+    }
+    
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        String columnName = shardingValue.getColumnName();
+        ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        Map<Comparable<?>, String> evaluatedTargetNames = new HashMap<>();
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result.add(evaluatedTargetNames.computeIfAbsent(each, key -> evaluate(columnName, key)));
+        }
+        return result;
+    }
+    
+    private String evaluate(final String columnName, final Comparable<?> value) {
         try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
+            return algorithmExpressionParser.evaluateWithArgs(Collections.singletonMap(columnName, value));
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
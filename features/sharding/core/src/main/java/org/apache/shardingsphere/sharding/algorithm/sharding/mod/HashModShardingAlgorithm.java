@@ -21,12 +21,14 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -57,6 +59,17 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        int[] partitions = new int[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            partitions[index++] = (int) (hashShardingValue(each) % shardingCount);
+        }
+        return ShardingAutoTableAlgorithmUtils.findMatchedTargetNames(availableTargetNames, partitions, String::valueOf, shardingValue.getDataNodeInfo());
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         return availableTargetNames;
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.sharding.exception.data.ShardingValueOffsetExce
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -104,6 +106,20 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        int[] partitions = new int[shardingValue.getValues().size()];
+        BigInteger shardingCountBigInteger = BigInteger.valueOf(shardingCount);
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            partitions[index++] = 0 == startOffset && 0 == stopOffset && each instanceof Number
+                    ? (int) Math.floorMod(((Number) each).longValue(), (long) shardingCount)
+                    : cutShardingValue(each).mod(shardingCountBigInteger).intValue();
+        }
+        return ShardingAutoTableAlgorithmUtils.findMatchedTargetNames(availableTargetNames, partitions, each -> getShardingResultSuffix(String.valueOf(each)), shardingValue.getDataNodeInfo());
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -29,6 +31,7 @@ import org.apache.shardingsphere.sharding.exception.data.NullShardingValueExcept
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -40,13 +43,43 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private Map<Integer, Range<Comparable<?>>> partitionRange;
     
+    private long[] partitionLowerBoundaries;
+    
     @Override
     public final void init(final Properties props) {
         partitionRange = calculatePartitionRange(props);
+        partitionLowerBoundaries = calculatePartitionLowerBoundaries();
     }
     
     protected abstract Map<Integer, Range<Comparable<?>>> calculatePartitionRange(Properties props);
     
+    private long[] calculatePartitionLowerBoundaries() {
+        int partitionCount = partitionRange.size();
+        long[] result = new long[partitionCount - 1];
+        Range<Comparable<?>> previousRange = null;
+        for (int i = 0; i < partitionCount; i++) {
+            Range<Comparable<?>> range = partitionRange.get(i);
+            if (null == range || !isContinuous(previousRange, range, i == partitionCount - 1)) {
+                return null;
+            }
+            if (i > 0) {
+                result[i - 1] = (Long) range.lowerEndpoint();
+            }
+            previousRange = range;
+        }
+        return result;
+    }
+    
+    private boolean isContinuous(final Range<Comparable<?>> previousRange, final Range<Comparable<?>> range, final boolean isLastPartition) {
+        boolean isLowerContinuous = null == previousRange
+                ? !range.hasLowerBound()
+                : range.hasLowerBound() && BoundType.CLOSED == range.lowerBoundType() && range.lowerEndpoint().equals(previousRange.upperEndpoint());
+        if (!isLowerContinuous) {
+            return false;
+        }
+        return isLastPartition ? !range.hasUpperBound() : range.hasUpperBound() && BoundType.OPEN == range.upperBoundType() && range.upperEndpoint() instanceof Long;
+    }
+    
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
@@ -54,6 +87,17 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
+    @Override
+    public final List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        int[] partitions = new int[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            partitions[index++] = getPartition(each);
+        }
+        return ShardingAutoTableAlgorithmUtils.findMatchedTargetNames(availableTargetNames, partitions, String::valueOf, shardingValue.getDataNodeInfo());
+    }
+    
     @Override
     public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1F);
@@ -74,7 +118,25 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
     }
     
-    private Integer getPartition(final Comparable<?> value) {
+    private int getPartition(final Comparable<?> value) {
+        return null == partitionLowerBoundaries ? getPartitionByScan(value) : getPartitionBySearch(getLongValue(value));
+    }
+    
+    private int getPartitionBySearch(final long value) {
+        int low = 0;
+        int high = partitionLowerBoundaries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (partitionLowerBoundaries[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    private int getPartitionByScan(final Comparable<?> value) {
         for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
             if (entry.getValue().contains(getLongValue(value))) {
                 return entry.getKey();
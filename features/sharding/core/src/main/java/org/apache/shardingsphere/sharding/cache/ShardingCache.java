@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplateCache;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
@@ -41,11 +42,14 @@ public final class ShardingCache {
     
     private final ShardingRouteCache routeCache;
     
+    private final RouteSQLTemplateCache routeSQLTemplateCache;
+    
     public ShardingCache(final ShardingCacheConfiguration config, final ShardingRule shardingRule) {
         configuration = config;
         this.shardingRule = shardingRule;
         timestampServiceRule = new TimestampServiceRule(new DefaultTimestampServiceConfigurationBuilder().build());
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
         routeCache = new ShardingRouteCache(config.getRouteCache());
+        routeSQLTemplateCache = new RouteSQLTemplateCache(config.getRouteCache().getInitialCapacity(), config.getRouteCache().getMaximumSize());
     }
 }
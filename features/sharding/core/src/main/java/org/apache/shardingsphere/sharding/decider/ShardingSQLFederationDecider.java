@@ -18,17 +18,32 @@
 package org.apache.shardingsphere.sharding.decider;
 
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeSet;
 
 /**
  * Sharding SQL federation decider.
@@ -38,6 +53,12 @@ public final class ShardingSQLFederationDecider implements SQLFederationDecider<
     @Override
     public boolean decide(final SelectStatementContext selectStatementContext, final List<Object> parameters,
                           final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database, final ShardingRule rule, final Collection<DataNode> includedDataNodes) {
+        return decide(selectStatementContext, parameters, globalRuleMetaData, database, rule, new ConfigurationProperties(new Properties()), includedDataNodes);
+    }
+    
+    @Override
+    public boolean decide(final SelectStatementContext selectStatementContext, final List<Object> parameters, final RuleMetaData globalRuleMetaData,
+                          final ShardingSphereDatabase database, final ShardingRule rule, final ConfigurationProperties props, final Collection<DataNode> includedDataNodes) {
         Collection<String> tableNames = rule.getShardingLogicTableNames(selectStatementContext.getTablesContext().getTableNames());
         if (tableNames.isEmpty()) {
             return false;
@@ -47,15 +68,67 @@ public final class ShardingSQLFederationDecider implements SQLFederationDecider<
                 || selectStatementContext.isContainsCombine() || selectStatementContext.isContainsPartialDistinctAggregation()) {
             return true;
         }
-        if (!selectStatementContext.isContainsJoinQuery() || rule.isAllTablesInSameDataSource(tableNames)) {
+        if (!selectStatementContext.isContainsJoinQuery()) {
             return false;
         }
+        if (rule.isAllTablesInSameDataSource(tableNames)) {
+            return isCartesianRouteUnitsExceeded(selectStatementContext, parameters, globalRuleMetaData, database, rule, props, tableNames);
+        }
         if (1 == tableNames.size() && selectStatementContext.isContainsJoinQuery() && !rule.isAllBindingTables(database, selectStatementContext, tableNames)) {
             return true;
         }
         return tableNames.size() > 1 && !rule.isAllBindingTables(database, selectStatementContext, tableNames);
     }
     
+    private boolean isCartesianRouteUnitsExceeded(final SelectStatementContext selectStatementContext, final List<Object> parameters, final RuleMetaData globalRuleMetaData,
+                                                  final ShardingSphereDatabase database, final ShardingRule rule, final ConfigurationProperties props, final Collection<String> tableNames) {
+        int maxRouteUnits = props.getValue(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS);
+        if (maxRouteUnits <= 0 || tableNames.size() < 2 || rule.isAllBindingTables(database, selectStatementContext, tableNames)) {
+            return false;
+        }
+        ShardingConditions shardingConditions = new ShardingConditions(
+                new ShardingConditionEngine(globalRuleMetaData, database, rule).createShardingConditions(selectStatementContext, parameters), selectStatementContext, rule);
+        return countCartesianRouteUnits(selectStatementContext, rule, props, tableNames, shardingConditions) > maxRouteUnits;
+    }
+    
+    private long countCartesianRouteUnits(final SelectStatementContext selectStatementContext, final ShardingRule rule, final ConfigurationProperties props,
+                                          final Collection<String> tableNames, final ShardingConditions shardingConditions) {
+        Collection<String> bindingTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Long> routeUnitCounts = null;
+        for (String each : tableNames) {
+            Optional<ShardingTable> shardingTable = rule.findShardingTable(each);
+            if (!shardingTable.isPresent() || bindingTableNames.contains(each)) {
+                continue;
+            }
+            RouteContext routeContext = new ShardingStandardRoutingEngine(shardingTable.get().getLogicTable(), shardingConditions, selectStatementContext, new HintValueContext(), props).route(rule);
+            routeUnitCounts = multiplyRouteUnitCounts(routeUnitCounts, countActualTables(routeContext));
+            rule.findBindingTableRule(each).ifPresent(optional -> bindingTableNames.addAll(optional.getShardingTables().keySet()));
+        }
+        return null == routeUnitCounts ? 0L : routeUnitCounts.values().stream().reduce(0L, (left, right) -> left > Long.MAX_VALUE - right ? Long.MAX_VALUE : left + right);
+    }
+    
+    private Map<String, Long> countActualTables(final RouteContext routeContext) {
+        Map<String, Long> result = new HashMap<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.merge(each.getDataSourceMapper().getActualName(), (long) each.getTableMappers().size(), Long::sum);
+        }
+        return result;
+    }
+    
+    private Map<String, Long> multiplyRouteUnitCounts(final Map<String, Long> routeUnitCounts, final Map<String, Long> actualTableCounts) {
+        if (null == routeUnitCounts) {
+            return actualTableCounts;
+        }
+        Map<String, Long> result = new HashMap<>(routeUnitCounts.size(), 1F);
+        for (Entry<String, Long> entry : routeUnitCounts.entrySet()) {
+            Long actualTableCount = actualTableCounts.get(entry.getKey());
+            if (null != actualTableCount) {
+                result.put(entry.getKey(), 0L != actualTableCount && entry.getValue() > Long.MAX_VALUE / actualTableCount ? Long.MAX_VALUE : entry.getValue() * actualTableCount);
+            }
+        }
+        return result;
+    }
+    
     private Collection<DataNode> getTableDataNodes(final ShardingRule rule, final Collection<String> tableNames, final ShardingSphereDatabase database) {
         Collection<DataNode> result = new HashSet<>();
         for (String each : tableNames) {
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.exception.algorithm;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.sqlstate.XOpenSQLState;
+import org.apache.shardingsphere.sharding.exception.ShardingSQLException;
+
+/**
+ * Cartesian route units exceeded exception.
+ */
+public final class CartesianRouteUnitsExceededException extends ShardingSQLException {
+    
+    private static final long serialVersionUID = -5482717049256634381L;
+    
+    public CartesianRouteUnitsExceededException(final long routeUnitCount, final int maxRouteUnits) {
+        super(XOpenSQLState.GENERAL_ERROR, 58, "Cartesian route units count %d exceeds max cartesian route units %d, please add sharding conditions, configure binding tables or enable SQL federation.",
+                routeUnitCount, maxRouteUnits);
+    }
+}
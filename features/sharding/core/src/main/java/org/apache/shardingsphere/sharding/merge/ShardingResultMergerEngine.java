@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
@@ -41,7 +42,7 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
     public ResultMerger newInstance(final String databaseName, final DatabaseType protocolType, final ShardingRule shardingRule, final ConfigurationProperties props,
                                     final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new ShardingDQLResultMerger(protocolType);
+            return new ShardingDQLResultMerger(protocolType, props.<Integer>getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD));
         }
         if (sqlStatementContext.getSqlStatement() instanceof DDLStatement) {
             return new ShardingDDLResultMerger();
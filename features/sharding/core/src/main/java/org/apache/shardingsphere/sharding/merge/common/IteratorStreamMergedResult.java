@@ -29,11 +29,14 @@ import java.util.List;
  */
 public final class IteratorStreamMergedResult extends StreamMergedResult {
     
-    private final Iterator<QueryResult> queryResults;
+    private final List<QueryResult> queryResults;
+    
+    private final Iterator<QueryResult> queryResultIterator;
     
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
-        this.queryResults = queryResults.iterator();
-        setCurrentQueryResult(this.queryResults.next());
+        this.queryResults = queryResults;
+        queryResultIterator = queryResults.iterator();
+        setCurrentQueryResult(queryResultIterator.next());
     }
     
     @Override
@@ -41,18 +44,28 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         if (getCurrentQueryResult().next()) {
             return true;
         }
-        if (!queryResults.hasNext()) {
+        if (!queryResultIterator.hasNext()) {
             return false;
         }
-        setCurrentQueryResult(queryResults.next());
+        setCurrentQueryResult(queryResultIterator.next());
         boolean hasNext = getCurrentQueryResult().next();
         if (hasNext) {
             return true;
         }
-        while (!hasNext && queryResults.hasNext()) {
-            setCurrentQueryResult(queryResults.next());
+        while (!hasNext && queryResultIterator.hasNext()) {
+            setCurrentQueryResult(queryResultIterator.next());
             hasNext = getCurrentQueryResult().next();
         }
         return hasNext;
     }
+    
+    @Override
+    public void closeQueryResults() throws SQLException {
+        for (QueryResult each : queryResults) {
+            each.cancel();
+        }
+        for (QueryResult each : queryResults) {
+            each.close();
+        }
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResu
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.exception.connection.CursorNameNotFoundException;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValue;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValueLoserTree;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.DirectionType;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.ddl.cursor.DirectionSegment;
 
@@ -39,15 +40,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for fetch.
  */
 public final class FetchStreamMergedResult extends StreamMergedResult {
     
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueLoserTree orderByValueLoserTree;
     
     private final DirectionType directionType;
     
@@ -59,13 +58,13 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     
     public FetchStreamMergedResult(final List<QueryResult> queryResults, final FetchStatementContext fetchStatementContext,
                                    final ShardingSphereSchema schema, final ConnectionContext connectionContext) throws SQLException {
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
         directionType = fetchStatementContext.getSqlStatement().getDirection().flatMap(DirectionSegment::getDirectionType).orElse(DirectionType.NEXT);
         fetchCount = fetchStatementContext.getSqlStatement().getDirection().flatMap(DirectionSegment::getCount).orElse(1L);
         SelectStatementContext selectStatementContext = fetchStatementContext.getCursorStatementContext().getSelectStatementContext();
         String cursorName = fetchStatementContext.getCursorName().map(optional -> optional.getIdentifier().getValue().toLowerCase()).orElseThrow(CursorNameNotFoundException::new);
         List<FetchOrderByValueGroup> fetchOrderByValueGroups = getFetchOrderByValueGroups(queryResults, selectStatementContext, schema, cursorName, connectionContext);
-        addOrderedResultSetsToQueue(fetchOrderByValueGroups, queryResults);
+        orderByValueLoserTree = new OrderByValueLoserTree(getOrderByValues(fetchOrderByValueGroups));
+        setCurrentQueryResult(orderByValueLoserTree.isEmpty() ? queryResults.get(0) : orderByValueLoserTree.peek().getQueryResult());
         setMinResultSetRowCount(cursorName, connectionContext);
         handleExecutedAllDirections(connectionContext, cursorName);
         isFirstNext = true;
@@ -76,7 +75,7 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
         if (isExecutedAllDirection) {
             return false;
         }
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValueLoserTree.isEmpty()) {
             return false;
         }
         if (isFirstNext) {
@@ -84,14 +83,10 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
             fetchCount--;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
-        }
-        if (orderByValuesQueue.isEmpty()) {
+        if (!orderByValueLoserTree.next()) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(orderByValueLoserTree.peek().getQueryResult());
         return DirectionType.isAllDirectionType(directionType) || fetchCount-- > 0L;
     }
     
@@ -137,13 +132,12 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
                 && null == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getCurrentRow();
     }
     
-    private void addOrderedResultSetsToQueue(final List<FetchOrderByValueGroup> fetchOrderByValueGroups, final List<QueryResult> queryResults) {
+    private Collection<OrderByValue> getOrderByValues(final List<FetchOrderByValueGroup> fetchOrderByValueGroups) {
+        Collection<OrderByValue> result = new LinkedList<>();
         for (FetchOrderByValueGroup each : fetchOrderByValueGroups) {
-            for (OrderByValue orderByValue : each.getOrderByValues()) {
-                orderByValuesQueue.offer(orderByValue);
-            }
+            result.addAll(each.getOrderByValues());
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return result;
     }
     
     private QueryResult decorate(final QueryResult queryResult, final DatabaseType databaseType) throws SQLException {
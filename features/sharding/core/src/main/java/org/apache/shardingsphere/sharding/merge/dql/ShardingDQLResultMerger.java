@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
@@ -55,6 +56,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final int groupByMergeSpillThreshold;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -117,8 +124,11 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        return groupByMergeSpillThreshold > 0
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, groupByMergeSpillThreshold)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
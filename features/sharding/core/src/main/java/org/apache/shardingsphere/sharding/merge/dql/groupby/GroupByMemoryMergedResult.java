@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatem
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -64,11 +65,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
         Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        Map<AggregationProjection, Integer> valueColumnTypes = queryResults.isEmpty() ? Collections.emptyMap() : getValueColumnTypes(queryResults.iterator().next(), selectStatementContext);
+        List<Comparable<?>> aggregationValues = new ArrayList<>(2);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap, valueColumnTypes);
+                aggregate(selectStatementContext, each, groupByValue, aggregationMap, aggregationValues);
             }
         }
         setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
@@ -78,18 +81,27 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     
     private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
                                           final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap,
+                                          final Map<AggregationProjection, Integer> valueColumnTypes) throws SQLException {
         if (!dataMap.containsKey(groupByValue)) {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
         aggregationMap.computeIfAbsent(groupByValue, unused -> selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
-                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection))));
+                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, valueColumnTypes.get(input)))));
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+    static Map<AggregationProjection, Integer> getValueColumnTypes(final QueryResult queryResult, final SelectStatementContext selectStatementContext) throws SQLException {
+        Map<AggregationProjection, Integer> result = new HashMap<>(selectStatementContext.getProjectionsContext().getAggregationProjections().size(), 1F);
         for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            result.put(each, AggregationUnitFactory.getValueColumnType(each, queryResult.getMetaData()));
+        }
+        return result;
+    }
+    
+    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult, final GroupByValue groupByValue,
+                           final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap, final List<Comparable<?>> values) throws SQLException {
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            values.clear();
             if (each.getDerivedAggregationProjections().isEmpty()) {
                 values.add(getAggregationValue(queryResult, each));
             } else {
@@ -116,7 +128,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         int columnCount = queryResult.getMetaData().getColumnCount();
         List<Boolean> result = new ArrayList<>(columnCount + 1);
         result.add(false);
@@ -126,15 +138,16 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
-                                                    final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
             ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
             ShardingSphereTable table = schema.getTable(tableName);
             String columnName = queryResult.getMetaData().getColumnName(columnIndex);
-            if (table.containsColumn(columnName)) {
-                return table.getColumn(columnName).isCaseSensitive();
+            ShardingSphereColumn column = table.getColumn(columnName);
+            if (null != column) {
+                return column.isCaseSensitive();
             }
         }
         return false;
@@ -151,7 +164,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+    static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
         List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
         Object[] result = new Object[projections.size()];
         for (int i = 0; i < projections.size(); i++) {
@@ -0,0 +1,565 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>Groups are aggregated in memory until the count of groups exceeds spill threshold. After that, aggregated groups and the rest rows
+ * are hashed into partitions and spilled to local temporary files. Each partition is aggregated and sorted separately,
+ * and the sorted partitions are merged by order by items at last, so only one partition is loaded into memory at the same time.
+ * If the count of groups in a partition still exceeds spill threshold while loading it, the partition is hashed into sub partitions recursively
+ * with another hash seed, so the count of groups loaded into memory is bounded by spill threshold.
+ * Values which are not serializable are kept on heap and only their references are spilled.
+ * Spill files are deleted once they are read out, or when the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_COUNT = 32;
+    
+    private static final int MAX_SPILL_LEVEL = 4;
+    
+    private static final int STREAM_RESET_INTERVAL = 1024;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final int spillThreshold;
+    
+    private final Map<AggregationProjection, Integer> valueColumnTypes;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private final List<Object> heapValues = new ArrayList<>();
+    
+    private final Collection<SpillPartition> spillPartitions = new LinkedList<>();
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private SpillPartition[] partitions;
+    
+    private MemoryQueryResultRow currentResultSetRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int spillThreshold) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        this.spillThreshold = spillThreshold;
+        valueColumnTypes = queryResults.isEmpty() ? Collections.emptyMap() : GroupByMemoryMergedResult.getValueColumnTypes(queryResults.iterator().next(), selectStatementContext);
+        try {
+            memoryResultSetRows = init(queryResults, schema);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        Comparator<MemoryQueryResultRow> rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024, 1F);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (null != partitions) {
+                    partitions[getPartitionIndex(groupByValue, 0)].write(new MemoryQueryResultRow(each), null);
+                    continue;
+                }
+                if (!dataMap.containsKey(groupByValue)) {
+                    dataMap.put(groupByValue, new MemoryQueryResultRow(each));
+                    aggregationMap.put(groupByValue, createAggregationUnits());
+                }
+                aggregate(aggregationMap.get(groupByValue), each);
+                if (dataMap.size() > spillThreshold) {
+                    spill(dataMap, aggregationMap, each.getMetaData().getColumnCount());
+                }
+            }
+        }
+        return null == partitions ? getMemoryResultSetRows(dataMap, aggregationMap, rowComparator) : mergePartitions(rowComparator);
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection projection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(projection.getType(), projection instanceof AggregationDistinctProjection, valueColumnTypes.get(projection));
+        }
+        return result;
+    }
+    
+    private void aggregate(final AggregationUnit[] aggregationUnits, final QueryResult queryResult) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationProjection projection = aggregationProjections.get(i);
+            aggregationValues.clear();
+            if (projection.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult.getValue(projection.getIndex(), Object.class)));
+            } else {
+                for (AggregationProjection derived : projection.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult.getValue(derived.getIndex(), Object.class)));
+                }
+            }
+            aggregationUnits[i].merge(aggregationValues);
+        }
+    }
+    
+    private void aggregate(final AggregationUnit[] aggregationUnits, final MemoryQueryResultRow row) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationProjection projection = aggregationProjections.get(i);
+            aggregationValues.clear();
+            if (projection.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(row.getCell(projection.getIndex())));
+            } else {
+                for (AggregationProjection derived : projection.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(row.getCell(derived.getIndex())));
+                }
+            }
+            aggregationUnits[i].merge(aggregationValues);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final Object value) {
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        return (Comparable<?>) value;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int level) {
+        int result = groupByValue.hashCode() ^ level * 0x9E3779B9;
+        result = (result ^ result >>> 16) * 0x85EBCA6B;
+        result = (result ^ result >>> 13) * 0xC2B2AE35;
+        return Math.floorMod(result ^ result >>> 16, PARTITION_COUNT);
+    }
+    
+    void spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap, final int columnCount) {
+        partitions = spill(dataMap, aggregationMap, columnCount, 0);
+    }
+    
+    private SpillPartition[] spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap, final int columnCount, final int level) {
+        SpillPartition[] result = new SpillPartition[PARTITION_COUNT];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = createSpillPartition(columnCount);
+        }
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            result[getPartitionIndex(entry.getKey(), level)].write(entry.getValue(), aggregationMap.get(entry.getKey()));
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+        return result;
+    }
+    
+    private SpillPartition createSpillPartition(final int columnCount) {
+        SpillPartition result = new SpillPartition(columnCount, heapValues);
+        spillPartitions.add(result);
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap,
+                                                                  final Comparator<MemoryQueryResultRow> rowComparator) {
+        if (dataMap.isEmpty()) {
+            Object[] data = GroupByMemoryMergedResult.generateReturnData(selectStatementContext);
+            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)).iterator() : Collections.emptyIterator();
+        }
+        return getSortedRows(dataMap, aggregationMap, rowComparator).iterator();
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap,
+                                                     final Comparator<MemoryQueryResultRow> rowComparator) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            AggregationUnit[] aggregationUnits = aggregationMap.get(entry.getKey());
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                entry.getValue().setCell(aggregationProjections.get(i).getIndex(), aggregationUnits[i].getResult());
+            }
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergePartitions(final Comparator<MemoryQueryResultRow> rowComparator) {
+        Collection<SpillPartition> sortedRuns = new LinkedList<>();
+        for (SpillPartition each : partitions) {
+            mergePartition(each, 0, rowComparator, sortedRuns);
+        }
+        return new SortedRunsIterator(sortedRuns, rowComparator);
+    }
+    
+    private void mergePartition(final SpillPartition partition, final int level, final Comparator<MemoryQueryResultRow> rowComparator, final Collection<SpillPartition> sortedRuns) {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024, 1F);
+        SpillPartition[] subPartitions = null;
+        try (ObjectInputStream inputStream = partition.openInputStream()) {
+            for (int i = 0; i < partition.getRowCount(); i++) {
+                AggregationUnit[] aggregationUnits = (AggregationUnit[]) inputStream.readObject();
+                MemoryQueryResultRow row = partition.readRow(inputStream);
+                GroupByValue groupByValue = new GroupByValue(getGroupValues(row));
+                if (null != subPartitions) {
+                    subPartitions[getPartitionIndex(groupByValue, level + 1)].write(row, aggregationUnits);
+                    continue;
+                }
+                if (null != aggregationUnits) {
+                    dataMap.put(groupByValue, row);
+                    aggregationMap.put(groupByValue, aggregationUnits);
+                } else {
+                    if (!dataMap.containsKey(groupByValue)) {
+                        dataMap.put(groupByValue, row);
+                        aggregationMap.put(groupByValue, createAggregationUnits());
+                    }
+                    aggregate(aggregationMap.get(groupByValue), row);
+                }
+                if (dataMap.size() > spillThreshold && level < MAX_SPILL_LEVEL) {
+                    subPartitions = spill(dataMap, aggregationMap, partition.getColumnCount(), level + 1);
+                }
+            }
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new GroupByMergeSpillException(ex);
+        } finally {
+            partition.close();
+        }
+        if (null != subPartitions) {
+            for (SpillPartition each : subPartitions) {
+                mergePartition(each, level + 1, rowComparator, sortedRuns);
+            }
+            return;
+        }
+        if (dataMap.isEmpty()) {
+            return;
+        }
+        SpillPartition sortedRun = createSpillPartition(partition.getColumnCount());
+        for (MemoryQueryResultRow each : getSortedRows(dataMap, aggregationMap, rowComparator)) {
+            sortedRun.write(each, null);
+        }
+        sortedRun.finishWrite();
+        sortedRuns.add(sortedRun);
+    }
+    
+    private List<Object> getGroupValues(final MemoryQueryResultRow row) {
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        List<Object> result = new ArrayList<>(groupByItems.size());
+        for (OrderByItem each : groupByItems) {
+            result.add(row.getCell(each.getIndex()));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.next();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        for (SpillPartition each : spillPartitions) {
+            each.close();
+        }
+        spillPartitions.clear();
+        heapValues.clear();
+    }
+    
+    private static final class SpillPartition {
+        
+        private final int columnCount;
+        
+        private final List<Object> heapValues;
+        
+        private final File file;
+        
+        private ObjectOutputStream outputStream;
+        
+        private ObjectInputStream inputStream;
+        
+        private int rowCount;
+        
+        SpillPartition(final int columnCount, final List<Object> heapValues) {
+            this.columnCount = columnCount;
+            this.heapValues = heapValues;
+            try {
+                file = Files.createTempFile("shardingsphere-group-by-", ".spill").toFile();
+                outputStream = new SpillObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())), heapValues);
+            } catch (final IOException ex) {
+                throw new GroupByMergeSpillException(ex);
+            }
+        }
+        
+        int getColumnCount() {
+            return columnCount;
+        }
+        
+        int getRowCount() {
+            return rowCount;
+        }
+        
+        void write(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+            try {
+                outputStream.writeObject(aggregationUnits);
+                for (int i = 1; i <= columnCount; i++) {
+                    outputStream.writeObject(row.getCell(i));
+                }
+                if (0 == ++rowCount % STREAM_RESET_INTERVAL) {
+                    outputStream.reset();
+                }
+            } catch (final IOException ex) {
+                throw new GroupByMergeSpillException(ex);
+            }
+        }
+        
+        void finishWrite() {
+            try {
+                outputStream.close();
+                outputStream = null;
+            } catch (final IOException ex) {
+                throw new GroupByMergeSpillException(ex);
+            }
+        }
+        
+        ObjectInputStream openInputStream() throws IOException {
+            if (null != outputStream) {
+                finishWrite();
+            }
+            inputStream = new SpillObjectInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())), heapValues);
+            return inputStream;
+        }
+        
+        MemoryQueryResultRow readRow(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+            Object[] data = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                data[i] = inputStream.readObject();
+            }
+            return new MemoryQueryResultRow(data);
+        }
+        
+        void close() {
+            try {
+                if (null != inputStream) {
+                    inputStream.close();
+                }
+                if (null != outputStream) {
+                    outputStream.close();
+                }
+                Files.deleteIfExists(file.toPath());
+            } catch (final IOException ex) {
+                throw new GroupByMergeSpillException(ex);
+            } finally {
+                inputStream = null;
+                outputStream = null;
+            }
+        }
+    }
+    
+    private static final class SpillObjectOutputStream extends ObjectOutputStream {
+        
+        private final List<Object> heapValues;
+        
+        SpillObjectOutputStream(final OutputStream out, final List<Object> heapValues) throws IOException {
+            super(out);
+            this.heapValues = heapValues;
+            enableReplaceObject(true);
+        }
+        
+        @Override
+        protected Object replaceObject(final Object obj) {
+            if (obj instanceof Serializable) {
+                return obj;
+            }
+            heapValues.add(obj);
+            return new HeapValueReference(heapValues.size() - 1);
+        }
+    }
+    
+    private static final class SpillObjectInputStream extends ObjectInputStream {
+        
+        private final List<Object> heapValues;
+        
+        SpillObjectInputStream(final InputStream in, final List<Object> heapValues) throws IOException {
+            super(in);
+            this.heapValues = heapValues;
+            enableResolveObject(true);
+        }
+        
+        @Override
+        protected Object resolveObject(final Object obj) {
+            return obj instanceof HeapValueReference ? heapValues.get(((HeapValueReference) obj).index) : obj;
+        }
+    }
+    
+    private static final class HeapValueReference implements Serializable {
+        
+        private static final long serialVersionUID = 2479127735264046925L;
+        
+        private final int index;
+        
+        HeapValueReference(final int index) {
+            this.index = index;
+        }
+    }
+    
+    private static final class SortedRunCursor {
+        
+        private final SpillPartition sortedRun;
+        
+        private final ObjectInputStream inputStream;
+        
+        private int readCount;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        SortedRunCursor(final SpillPartition sortedRun) throws IOException {
+            this.sortedRun = sortedRun;
+            inputStream = sortedRun.openInputStream();
+        }
+        
+        boolean moveNext() throws IOException, ClassNotFoundException {
+            if (readCount == sortedRun.getRowCount()) {
+                sortedRun.close();
+                return false;
+            }
+            inputStream.readObject();
+            currentRow = sortedRun.readRow(inputStream);
+            readCount++;
+            return true;
+        }
+    }
+    
+    private static final class SortedRunsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<SortedRunCursor> cursors;
+        
+        SortedRunsIterator(final Collection<SpillPartition> sortedRuns, final Comparator<MemoryQueryResultRow> rowComparator) {
+            cursors = new PriorityQueue<>(sortedRuns.size(), (o1, o2) -> rowComparator.compare(o1.currentRow, o2.currentRow));
+            try {
+                for (SpillPartition each : sortedRuns) {
+                    SortedRunCursor cursor = new SortedRunCursor(each);
+                    if (cursor.moveNext()) {
+                        cursors.offer(cursor);
+                    }
+                }
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new GroupByMergeSpillException(ex);
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !cursors.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            SortedRunCursor cursor = cursors.poll();
+            if (null == cursor) {
+                throw new NoSuchElementException();
+            }
+            MemoryQueryResultRow result = cursor.currentRow;
+            try {
+                if (cursor.moveNext()) {
+                    cursors.offer(cursor);
+                }
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new GroupByMergeSpillException(ex);
+            }
+            return result;
+        }
+    }
+}
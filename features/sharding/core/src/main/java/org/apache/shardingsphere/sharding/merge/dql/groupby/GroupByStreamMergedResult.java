@@ -46,6 +46,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final Map<AggregationProjection, Integer> valueColumnTypes;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
@@ -53,7 +57,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        valueColumnTypes = queryResults.isEmpty() ? Collections.emptyMap() : GroupByMemoryMergedResult.getValueColumnTypes(queryResults.get(0), selectStatementContext);
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
@@ -61,7 +66,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -76,8 +81,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(),
+                input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, valueColumnTypes.get(input)));
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
             aggregate(aggregationUnitMap);
             if (!cachedRow) {
@@ -95,15 +100,15 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+                aggregationValues.add(getAggregationValue(entry.getKey()));
             } else {
                 for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
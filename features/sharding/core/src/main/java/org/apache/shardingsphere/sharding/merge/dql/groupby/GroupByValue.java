@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 
@@ -30,6 +31,7 @@ import java.util.List;
 /**
  * Group by value.
  */
+@RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode
 public final class GroupByValue {
@@ -28,6 +28,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 2671521945691753783L;
+    
     private BigDecimal result;
     
     @Override
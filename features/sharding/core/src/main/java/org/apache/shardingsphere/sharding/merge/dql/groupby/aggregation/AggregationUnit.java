@@ -17,16 +17,19 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Aggregation unit interface.
  */
-public interface AggregationUnit {
+public interface AggregationUnit extends Serializable {
     
     /**
      * Merge aggregation values.
      *
+     * <p>The values list may be reused by caller after merged, so it should not be kept by aggregation unit.</p>
+     *
      * @param values aggregation values
      */
     void merge(List<Comparable<?>> values);
@@ -19,9 +19,15 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
 /**
  * Aggregation unit factory.
  */
@@ -54,4 +60,58 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance with value column type.
+     *
+     * <p>Long aggregation units are created for SUM, COUNT and AVG if the aggregation values are integers.
+     * Floating numbers keep {@code BigDecimal} accumulation, because accumulating them as double changes the merged results.</p>
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param valueColumnType JDBC type of aggregation value column
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final int valueColumnType) {
+        if (isDistinct) {
+            return create(type, true);
+        }
+        switch (type) {
+            case SUM:
+            case COUNT:
+                return isIntegerType(valueColumnType) ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
+            case AVG:
+                return isIntegerType(valueColumnType) ? new LongAverageAggregationUnit() : new AverageAggregationUnit();
+            default:
+                return create(type, false);
+        }
+    }
+    
+    private static boolean isIntegerType(final int valueColumnType) {
+        switch (valueColumnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Get JDBC type of aggregation value column.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param queryResultMetaData query result meta data
+     * @return JDBC type of aggregation value column
+     * @throws SQLException SQL exception
+     */
+    public static int getValueColumnType(final AggregationProjection aggregationProjection, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        List<AggregationProjection> derivedAggregationProjections = aggregationProjection.getDerivedAggregationProjections();
+        return derivedAggregationProjections.isEmpty()
+                ? queryResultMetaData.getColumnType(aggregationProjection.getIndex())
+                : queryResultMetaData.getColumnType(derivedAggregationProjections.get(derivedAggregationProjections.size() - 1).getIndex());
+    }
 }
@@ -29,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -3720958657989204912L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
@@ -28,6 +28,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class BitXorAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -2875293200062377941L;
+    
     private BigInteger result;
     
     @Override
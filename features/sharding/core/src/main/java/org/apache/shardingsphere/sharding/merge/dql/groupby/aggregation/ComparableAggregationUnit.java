@@ -27,6 +27,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class ComparableAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -651203574895259915L;
+    
     private final boolean asc;
     
     private Comparable<?> result;
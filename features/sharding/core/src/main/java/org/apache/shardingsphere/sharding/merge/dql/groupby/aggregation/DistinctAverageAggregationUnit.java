@@ -31,6 +31,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -3026239342489546536L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
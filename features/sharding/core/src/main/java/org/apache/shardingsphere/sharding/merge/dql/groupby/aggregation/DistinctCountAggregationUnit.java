@@ -29,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 3102228744887297882L;
+    
     private final Collection<Comparable<?>> values = new HashSet<>();
     
     @Override
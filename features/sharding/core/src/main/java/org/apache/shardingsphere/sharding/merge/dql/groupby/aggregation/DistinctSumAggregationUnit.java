@@ -30,6 +30,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -172237242060633201L;
+    
     private BigDecimal result;
     
     private final Collection<Comparable<?>> values = new HashSet<>();
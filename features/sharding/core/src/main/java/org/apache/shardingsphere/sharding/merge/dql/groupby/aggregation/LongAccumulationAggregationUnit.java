@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Long accumulation aggregation unit.
+ *
+ * <p>Integer values are accumulated as long to avoid creating {@code BigDecimal} for each row,
+ * and fall back to {@code BigDecimal} if the long overflows or the value is not an integer.</p>
+ */
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private static final long serialVersionUID = -5094137298450573520L;
+    
+    private boolean accumulated;
+    
+    private long result;
+    
+    private BigDecimal decimalResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        accumulate(values.get(0));
+    }
+    
+    /**
+     * Accumulate value.
+     *
+     * @param value value to be accumulated, not null
+     */
+    public void accumulate(final Comparable<?> value) {
+        accumulated = true;
+        if (null == decimalResult && accumulateLong(value)) {
+            return;
+        }
+        if (null == decimalResult) {
+            decimalResult = BigDecimal.valueOf(result);
+        }
+        decimalResult = decimalResult.add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean accumulateLong(final Comparable<?> value) {
+        if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            return false;
+        }
+        long addend = ((Number) value).longValue();
+        long sum = result + addend;
+        if (((result ^ sum) & (addend ^ sum)) < 0L) {
+            return false;
+        }
+        result = sum;
+        return true;
+    }
+    
+    @Override
+    public BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalResult ? BigDecimal.valueOf(result) : decimalResult;
+    }
+}
@@ -26,58 +26,68 @@ import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResu
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
+    private final List<QueryResult> queryResults;
+    
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueLoserTree orderByValueLoserTree;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this.queryResults = queryResults;
         orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults, selectStatementContext, schema);
+        orderByValueLoserTree = new OrderByValueLoserTree(getOrderByValues(queryResults, selectStatementContext, schema));
+        setCurrentQueryResult(orderByValueLoserTree.isEmpty() ? queryResults.get(0) : orderByValueLoserTree.peek().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    private Collection<OrderByValue> getOrderByValues(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                      final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByValue> result = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
             OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
             if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
+                result.add(orderByValue);
             }
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return result;
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValueLoserTree.isEmpty()) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
-        }
-        if (orderByValuesQueue.isEmpty()) {
+        if (!orderByValueLoserTree.next()) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(orderByValueLoserTree.peek().getQueryResult());
         return true;
     }
+    
+    @Override
+    public void closeQueryResults() throws SQLException {
+        for (QueryResult each : queryResults) {
+            each.cancel();
+        }
+        for (QueryResult each : queryResults) {
+            each.close();
+        }
+    }
 }
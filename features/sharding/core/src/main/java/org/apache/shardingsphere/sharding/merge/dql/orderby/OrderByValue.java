@@ -20,11 +20,14 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
@@ -33,7 +36,6 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -44,24 +46,35 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final OrderByItem[] orderByItems;
     
     private final List<Boolean> orderValuesCaseSensitive;
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
+        this.orderByItems = orderByItems.toArray(new OrderByItem[0]);
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[this.orderByItems.length];
+        nullsOrderTypes = new NullsOrderType[this.orderByItems.length];
+        for (int i = 0; i < this.orderByItems.length; i++) {
+            orderDirections[i] = this.orderByItems[i].getSegment().getOrderDirection();
+            nullsOrderTypes[i] = this.orderByItems[i].getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+        }
+        orderValues = new Comparable<?>[this.orderByItems.length];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+        List<Boolean> result = new ArrayList<>(orderByItems.length);
         for (OrderByItem eachOrderByItem : orderByItems) {
             result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
         }
@@ -75,14 +88,16 @@ public final class OrderByValue implements Comparable<OrderByValue> {
             OrderByItemSegment orderByItemSegment = eachOrderByItem.getSegment();
             if (orderByItemSegment instanceof ColumnOrderByItemSegment) {
                 String columnName = ((ColumnOrderByItemSegment) orderByItemSegment).getColumn().getIdentifier().getValue();
-                if (table.containsColumn(columnName)) {
-                    return table.getColumn(columnName).isCaseSensitive();
+                ShardingSphereColumn column = table.getColumn(columnName);
+                if (null != column) {
+                    return column.isCaseSensitive();
                 }
             } else if (orderByItemSegment instanceof IndexOrderByItemSegment) {
                 int columnIndex = ((IndexOrderByItemSegment) orderByItemSegment).getColumnIndex();
                 String columnName = queryResult.getMetaData().getColumnName(columnIndex);
-                if (table.containsColumn(columnName)) {
-                    return table.getColumn(columnName).isCaseSensitive();
+                ShardingSphereColumn column = table.getColumn(columnName);
+                if (null != column) {
+                    return column.isCaseSensitive();
                 }
             } else {
                 return false;
@@ -99,30 +114,27 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = value instanceof String && !orderValuesCaseSensitive.get(i) ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtils.compareTo(orderValues[i], orderByValue.orderValues[i], orderDirections[i], nullsOrderTypes[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
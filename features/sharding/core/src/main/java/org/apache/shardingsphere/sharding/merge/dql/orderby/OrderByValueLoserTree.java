@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>The loser of each match is kept in the internal node and the winner is kept in the root,
+ * so advancing the winner only replays the matches on the path from its leaf to the root,
+ * which takes one comparison per level and no allocation.</p>
+ *
+ * <p>Equal current rows are taken in the order of the given order by values, so the merged order of equal rows is deterministic.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int MIN_INDEX = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private int remainingCount;
+    
+    /**
+     * Create loser tree.
+     *
+     * @param orderByValues order by values which current rows are available
+     */
+    public OrderByValueLoserTree(final Collection<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        tree = new int[this.orderByValues.length];
+        remainingCount = this.orderByValues.length;
+        build();
+    }
+    
+    private void build() {
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = MIN_INDEX;
+        }
+        for (int i = orderByValues.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    private void adjust(final int leafIndex) {
+        int winner = leafIndex;
+        for (int parent = (leafIndex + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (isWin(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isWin(final int index, final int otherIndex) {
+        if (MIN_INDEX == index) {
+            return true;
+        }
+        if (MIN_INDEX == otherIndex || exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remainingCount;
+    }
+    
+    /**
+     * Get order by value of the minimal current row.
+     *
+     * @return order by value of the minimal current row
+     */
+    public OrderByValue peek() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Move the order by value of the minimal current row to its next row and choose the new minimal one.
+     *
+     * @return has next row or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = tree[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+            remainingCount--;
+        }
+        adjust(winner);
+        return !isEmpty();
+    }
+}
@@ -58,6 +58,10 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!paginationContext.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= paginationContext.getActualRowCount().get() && getMergedResult().next();
+        if (++rowNumber > paginationContext.getActualRowCount().get()) {
+            closeQueryResults();
+            return false;
+        }
+        return getMergedResult().next();
     }
 }
@@ -59,6 +59,10 @@ public final class TopAndRowNumberDecoratorMergedResult extends DecoratorMergedR
         if (!paginationContext.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return rowNumber++ <= paginationContext.getActualRowCount().get() && getMergedResult().next();
+        if (rowNumber++ > paginationContext.getActualRowCount().get()) {
+            closeQueryResults();
+            return false;
+        }
+        return getMergedResult().next();
     }
 }
@@ -54,6 +54,9 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
             Collection<ParameterRewriter> parameterRewriters =
                     new ShardingParameterRewriterBuilder(routeContext, sqlRewriteContext.getDatabase().getSchemas(), sqlStatementContext).getParameterRewriters();
             rewriteParameters(sqlRewriteContext, parameterRewriters);
+            if (shardingRule.isShardingCacheEnabled()) {
+                sqlRewriteContext.setRouteSQLTemplateCache(shardingRule.getShardingCache().getRouteSQLTemplateCache());
+            }
         }
         sqlRewriteContext.addSQLTokenGenerators(new ShardingTokenGenerateBuilder(shardingRule, routeContext, sqlStatementContext).getSQLTokenGenerators());
     }
@@ -21,13 +21,24 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
 /**
  * Insert values token for sharding.
  */
 public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
     
+    private volatile InsertValueIndexes insertValueIndexes;
+    
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex, stopIndex);
     }
@@ -46,22 +57,75 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
-        for (InsertValue each : getInsertValues()) {
-            if (isAppend(routeUnit, (ShardingInsertValue) each)) {
+        if (null == routeUnit) {
+            for (InsertValue each : getInsertValues()) {
                 stringBuilder.append(each).append(", ");
             }
+            return;
+        }
+        InsertValueIndexes indexes = getInsertValueIndexes();
+        for (int each : indexes.find(routeUnit)) {
+            stringBuilder.append(indexes.insertValues[each]).append(", ");
+        }
+    }
+    
+    private InsertValueIndexes getInsertValueIndexes() {
+        InsertValueIndexes result = insertValueIndexes;
+        if (null == result || result.insertValues.length != getInsertValues().size()) {
+            result = new InsertValueIndexes(getInsertValues());
+            insertValueIndexes = result;
         }
+        return result;
     }
     
-    private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
-            return true;
+    private static final class InsertValueIndexes {
+        
+        private final InsertValue[] insertValues;
+        
+        private final List<Integer> indexesWithoutDataNode = new ArrayList<>();
+        
+        private final Map<String, Map<String, List<Integer>>> indexesByDataNode = new HashMap<>();
+        
+        InsertValueIndexes(final List<InsertValue> insertValues) {
+            this.insertValues = insertValues.toArray(new InsertValue[0]);
+            int index = 0;
+            for (InsertValue each : insertValues) {
+                Collection<DataNode> dataNodes = ((ShardingInsertValue) each).getDataNodes();
+                if (dataNodes.isEmpty()) {
+                    indexesWithoutDataNode.add(index);
+                }
+                for (DataNode dataNode : dataNodes) {
+                    List<Integer> indexes = indexesByDataNode.computeIfAbsent(dataNode.getDataSourceName().toUpperCase(), key -> new HashMap<>())
+                            .computeIfAbsent(dataNode.getTableName().toUpperCase(), key -> new ArrayList<>());
+                    if (indexes.isEmpty() || index != indexes.get(indexes.size() - 1)) {
+                        indexes.add(index);
+                    }
+                }
+                index++;
+            }
         }
-        for (DataNode each : insertValueToken.getDataNodes()) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+        
+        Collection<Integer> find(final RouteUnit routeUnit) {
+            Map<String, List<Integer>> indexesByTable = indexesByDataNode.getOrDefault(routeUnit.getDataSourceMapper().getLogicName().toUpperCase(), Collections.emptyMap());
+            List<List<Integer>> matchedIndexes = new ArrayList<>(routeUnit.getTableMappers().size() + 1);
+            if (!indexesWithoutDataNode.isEmpty()) {
+                matchedIndexes.add(indexesWithoutDataNode);
+            }
+            for (RouteMapper each : routeUnit.getTableMappers()) {
+                List<Integer> indexes = indexesByTable.get(each.getActualName().toUpperCase());
+                if (null != indexes) {
+                    matchedIndexes.add(indexes);
+                }
+            }
+            if (matchedIndexes.isEmpty()) {
+                return Collections.emptyList();
+            }
+            if (1 == matchedIndexes.size()) {
+                return matchedIndexes.get(0);
             }
+            Collection<Integer> result = new TreeSet<>();
+            matchedIndexes.forEach(result::addAll);
+            return result;
         }
-        return false;
     }
 }
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.complex;
 
+import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.google.common.collect.Sets;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.exception.algorithm.CartesianRouteUnitsExceededException;
 import org.apache.shardingsphere.sharding.exception.algorithm.NoShardingTableRouteFactorException;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -30,30 +32,68 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Sharding cartesian routing engine.
  */
-@RequiredArgsConstructor
 public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine {
     
     private final Collection<RouteContext> routeContexts;
     
+    private final int maxRouteUnits;
+    
+    public ShardingCartesianRoutingEngine(final Collection<RouteContext> routeContexts) {
+        this(routeContexts, 0);
+    }
+    
+    public ShardingCartesianRoutingEngine(final Collection<RouteContext> routeContexts, final int maxRouteUnits) {
+        this.routeContexts = routeContexts;
+        this.maxRouteUnits = maxRouteUnits;
+    }
+    
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
+        Map<String, List<Set<RouteMapper>>> routingTableGroups = getRoutingTableGroups();
+        long routeUnitCount = countRouteUnits(routingTableGroups);
+        ShardingSpherePreconditions.checkState(maxRouteUnits <= 0 || routeUnitCount <= maxRouteUnits, () -> new CartesianRouteUnitsExceededException(routeUnitCount, maxRouteUnits));
         RouteContext result = new RouteContext();
+        for (Entry<String, List<Set<RouteMapper>>> entry : routingTableGroups.entrySet()) {
+            RouteMapper dataSourceMapper = new RouteMapper(entry.getKey(), entry.getKey());
+            for (List<RouteMapper> each : Sets.cartesianProduct(entry.getValue())) {
+                result.getRouteUnits().add(new RouteUnit(dataSourceMapper, new LinkedList<>(each)));
+            }
+        }
+        return result;
+    }
+    
+    private long countRouteUnits(final Map<String, List<Set<RouteMapper>>> routingTableGroups) {
+        long result = 0L;
+        for (List<Set<RouteMapper>> each : routingTableGroups.values()) {
+            long count = 1L;
+            for (Set<RouteMapper> routingTableGroup : each) {
+                count = multiplyExactOrMax(count, routingTableGroup.size());
+            }
+            result = Long.MAX_VALUE - result < count ? Long.MAX_VALUE : result + count;
+        }
+        return result;
+    }
+    
+    private long multiplyExactOrMax(final long count, final int size) {
+        return 0 != size && count > Long.MAX_VALUE / size ? Long.MAX_VALUE : count * size;
+    }
+    
+    private Map<String, List<Set<RouteMapper>>> getRoutingTableGroups() {
+        Map<String, List<Set<RouteMapper>>> result = new LinkedHashMap<>();
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
-            List<Set<RouteMapper>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+            result.put(entry.getKey(), toRoutingTableGroups(entry.getKey(), actualTableGroups));
         }
         return result;
     }
@@ -93,28 +133,29 @@ public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine
     }
     
     private List<Set<RouteMapper>> toRoutingTableGroups(final String dataSource, final List<Set<String>> actualTableGroups) {
+        Map<String, RouteMapper> tableMappers = getTableMappers(dataSource);
         List<Set<RouteMapper>> result = new ArrayList<>(actualTableGroups.size());
         for (Set<String> each : actualTableGroups) {
-            result.add(new LinkedHashSet<>(new ArrayList<>(each).stream().map(input -> findRoutingTable(dataSource, input)).collect(Collectors.toList())));
+            Set<RouteMapper> routingTableGroup = new LinkedHashSet<>(each.size(), 1F);
+            for (String actualTable : each) {
+                RouteMapper tableMapper = tableMappers.get(actualTable);
+                ShardingSpherePreconditions.checkNotNull(tableMapper, () -> new NoShardingTableRouteFactorException(dataSource, actualTable));
+                routingTableGroup.add(tableMapper);
+            }
+            result.add(routingTableGroup);
         }
         return result;
     }
     
-    private RouteMapper findRoutingTable(final String dataSource, final String actualTable) {
+    private Map<String, RouteMapper> getTableMappers(final String dataSource) {
+        Map<String, RouteMapper> result = new CaseInsensitiveMap<>();
         for (RouteContext each : routeContexts) {
-            Optional<RouteMapper> result = each.findTableMapper(dataSource, actualTable);
-            if (result.isPresent()) {
-                return result.get();
+            for (RouteUnit routeUnit : each.getRouteUnits()) {
+                if (dataSource.equalsIgnoreCase(routeUnit.getDataSourceMapper().getLogicName())) {
+                    routeUnit.getTableMappers().forEach(tableMapper -> result.putIfAbsent(tableMapper.getActualName(), tableMapper));
+                }
             }
         }
-        throw new NoShardingTableRouteFactorException(dataSource, actualTable);
-    }
-    
-    private Collection<RouteUnit> getRouteUnits(final String dataSource, final Set<List<RouteMapper>> cartesianRoutingTableGroups) {
-        Collection<RouteUnit> result = new LinkedHashSet<>(cartesianRoutingTableGroups.size(), 1F);
-        for (List<RouteMapper> each : cartesianRoutingTableGroups) {
-            result.add(new RouteUnit(new RouteMapper(dataSource, dataSource), new LinkedList<>(each)));
-        }
         return result;
     }
 }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sharding.route.engine.type.complex;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
@@ -52,30 +54,33 @@ public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
     
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
-        Collection<String> bindingTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        Collection<RouteContext> routeContexts = new LinkedList<>();
-        for (String each : logicTables) {
-            Optional<ShardingTable> shardingTable = shardingRule.findShardingTable(each);
-            if (shardingTable.isPresent()) {
-                if (!bindingTableNames.contains(each)) {
-                    routeContexts.add(new ShardingStandardRoutingEngine(shardingTable.get().getLogicTable(), shardingConditions, sqlStatementContext, hintValueContext, props).route(shardingRule));
-                }
-                shardingRule.findBindingTableRule(each).ifPresent(optional -> bindingTableNames.addAll(optional.getShardingTables().keySet()));
-            }
-        }
-        if (routeContexts.isEmpty()) {
-            throw new ShardingTableRuleNotFoundException(logicTables);
-        }
+        Collection<RouteContext> routeContexts = routeShardingTables(shardingRule);
         RouteContext result = new RouteContext();
         if (1 == routeContexts.size()) {
             RouteContext newRouteContext = routeContexts.iterator().next();
             result.getOriginalDataNodes().addAll(newRouteContext.getOriginalDataNodes());
             result.getRouteUnits().addAll(newRouteContext.getRouteUnits());
         } else {
-            RouteContext routeContext = new ShardingCartesianRoutingEngine(routeContexts).route(shardingRule);
+            RouteContext routeContext = new ShardingCartesianRoutingEngine(routeContexts, props.<Integer>getValue(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS)).route(shardingRule);
             result.getOriginalDataNodes().addAll(routeContext.getOriginalDataNodes());
             result.getRouteUnits().addAll(routeContext.getRouteUnits());
         }
         return result;
     }
+    
+    private Collection<RouteContext> routeShardingTables(final ShardingRule shardingRule) {
+        Collection<String> bindingTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Collection<RouteContext> result = new LinkedList<>();
+        for (String each : logicTables) {
+            Optional<ShardingTable> shardingTable = shardingRule.findShardingTable(each);
+            if (shardingTable.isPresent()) {
+                if (!bindingTableNames.contains(each)) {
+                    result.add(new ShardingStandardRoutingEngine(shardingTable.get().getLogicTable(), shardingConditions, sqlStatementContext, hintValueContext, props).route(shardingRule));
+                }
+                shardingRule.findBindingTableRule(each).ifPresent(optional -> bindingTableNames.addAll(optional.getShardingTables().keySet()));
+            }
+        }
+        ShardingSpherePreconditions.checkNotEmpty(result, () -> new ShardingTableRuleNotFoundException(logicTables));
+        return result;
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
@@ -49,10 +51,17 @@ import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Sharding standard routing engine.
@@ -139,6 +148,12 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        if (shardingConditions.getConditions().size() > 1) {
+            Optional<Collection<DataNode>> batchRoutedDataNodes = routeByShardingConditionsInBatch(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+            if (batchRoutedDataNodes.isPresent()) {
+                return batchRoutedDataNodes.get();
+            }
+        }
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(shardingTable,
@@ -150,6 +165,118 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
+    private Optional<Collection<DataNode>> routeByShardingConditionsInBatch(final ShardingRule shardingRule, final ShardingTable shardingTable,
+                                                                           final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        Optional<List<ListShardingConditionValue<?>>> databaseShardingValues = findBatchShardingValues(shardingRule, databaseShardingStrategy);
+        if (!databaseShardingValues.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<List<ListShardingConditionValue<?>>> tableShardingValues = findBatchShardingValues(shardingRule, tableShardingStrategy);
+        if (!tableShardingValues.isPresent()) {
+            return Optional.empty();
+        }
+        List<Collection<DataNode>> conditionDataNodes = new ArrayList<>(shardingConditions.getConditions().size());
+        for (int i = 0; i < shardingConditions.getConditions().size(); i++) {
+            conditionDataNodes.add(new LinkedList<>());
+        }
+        for (Entry<String, List<Integer>> entry : groupConditionIndexesByDataSource(shardingTable, databaseShardingStrategy, databaseShardingValues.get()).entrySet()) {
+            routeTablesInBatch(shardingTable, entry.getKey(), entry.getValue(), tableShardingStrategy, tableShardingValues.get(), conditionDataNodes);
+        }
+        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> routedDataNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Collection<DataNode> each : conditionDataNodes) {
+            originalDataNodes.add(each);
+            for (DataNode dataNode : each) {
+                if (routedDataNodes.add(dataNode)) {
+                    result.add(dataNode);
+                }
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<List<ListShardingConditionValue<?>>> findBatchShardingValues(final ShardingRule shardingRule, final ShardingStrategy shardingStrategy) {
+        List<ListShardingConditionValue<?>> result = new ArrayList<>(shardingConditions.getConditions().size());
+        boolean containsConditionWithoutShardingValue = false;
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            List<ShardingConditionValue> shardingValues = getShardingValuesFromShardingConditions(shardingRule, shardingStrategy.getShardingColumns(), each);
+            if (shardingValues.isEmpty()) {
+                containsConditionWithoutShardingValue = true;
+                continue;
+            }
+            if (!(shardingStrategy instanceof StandardShardingStrategy) || !isBatchShardingValue(shardingValues, result)) {
+                return Optional.empty();
+            }
+            result.add((ListShardingConditionValue<?>) shardingValues.get(0));
+        }
+        return containsConditionWithoutShardingValue && !result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private boolean isBatchShardingValue(final List<ShardingConditionValue> shardingValues, final List<ListShardingConditionValue<?>> batchShardingValues) {
+        if (1 != shardingValues.size() || !(shardingValues.get(0) instanceof ListShardingConditionValue) || 1 != ((ListShardingConditionValue<?>) shardingValues.get(0)).getValues().size()) {
+            return false;
+        }
+        if (batchShardingValues.isEmpty()) {
+            return true;
+        }
+        ShardingConditionValue firstShardingValue = batchShardingValues.get(0);
+        return firstShardingValue.getTableName().equals(shardingValues.get(0).getTableName()) && firstShardingValue.getColumnName().equals(shardingValues.get(0).getColumnName());
+    }
+    
+    private Map<String, List<Integer>> groupConditionIndexesByDataSource(final ShardingTable shardingTable, final ShardingStrategy databaseShardingStrategy,
+                                                                        final List<ListShardingConditionValue<?>> databaseShardingValues) {
+        Map<String, List<Integer>> result = new LinkedHashMap<>();
+        List<Integer> conditionIndexes = IntStream.range(0, shardingConditions.getConditions().size()).boxed().collect(Collectors.toList());
+        if (databaseShardingValues.isEmpty()) {
+            for (String each : shardingTable.getActualDataSourceNames()) {
+                result.put(each, conditionIndexes);
+            }
+            return result;
+        }
+        List<String> routedDataSources = doBatchSharding(
+                (StandardShardingStrategy) databaseShardingStrategy, shardingTable.getActualDataSourceNames(), databaseShardingValues, conditionIndexes, shardingTable.getDataSourceDataNode());
+        Iterator<Integer> conditionIndexIterator = conditionIndexes.iterator();
+        for (String each : routedDataSources) {
+            ShardingSpherePreconditions.checkNotNull(each, NoShardingDatabaseRouteInfoException::new);
+            result.computeIfAbsent(each, key -> new ArrayList<>()).add(conditionIndexIterator.next());
+        }
+        return result;
+    }
+    
+    private void routeTablesInBatch(final ShardingTable shardingTable, final String routedDataSource, final List<Integer> conditionIndexes,
+                                    final ShardingStrategy tableShardingStrategy, final List<ListShardingConditionValue<?>> tableShardingValues, final List<Collection<DataNode>> conditionDataNodes) {
+        Collection<String> availableTargetTables = shardingTable.getActualTableNames(routedDataSource);
+        if (tableShardingValues.isEmpty()) {
+            Collection<DataNode> dataNodes = new LinkedList<>();
+            for (String each : availableTargetTables) {
+                dataNodes.add(new DataNode(routedDataSource, each));
+            }
+            for (int each : conditionIndexes) {
+                conditionDataNodes.get(each).addAll(dataNodes);
+            }
+            return;
+        }
+        List<String> routedTables = doBatchSharding((StandardShardingStrategy) tableShardingStrategy, availableTargetTables, tableShardingValues, conditionIndexes, shardingTable.getTableDataNode());
+        Map<String, DataNode> dataNodes = new HashMap<>();
+        Iterator<Integer> conditionIndexIterator = conditionIndexes.iterator();
+        for (String each : routedTables) {
+            int conditionIndex = conditionIndexIterator.next();
+            if (null != each) {
+                conditionDataNodes.get(conditionIndex).add(dataNodes.computeIfAbsent(each, key -> new DataNode(routedDataSource, key)));
+            }
+        }
+    }
+    
+    private List<String> doBatchSharding(final StandardShardingStrategy shardingStrategy, final Collection<String> availableTargetNames,
+                                         final List<ListShardingConditionValue<?>> shardingValues, final List<Integer> conditionIndexes, final DataNodeInfo dataNodeInfo) {
+        List<Comparable<?>> values = new ArrayList<>(conditionIndexes.size());
+        for (int each : conditionIndexes) {
+            values.add((Comparable<?>) shardingValues.get(each).getValues().iterator().next());
+        }
+        ListShardingConditionValue<?> firstShardingValue = shardingValues.get(0);
+        return shardingStrategy.doBatchSharding(availableTargetNames, firstShardingValue.getTableName(), firstShardingValue.getColumnName(), values, dataNodeInfo);
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -235,10 +362,11 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private List<ShardingConditionValue> getShardingValuesFromShardingConditions(final ShardingRule shardingRule, final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<ShardingConditionValue> result = new ArrayList<>(shardingColumns.size());
+        Collection<String> caseInsensitiveShardingColumns = new CaseInsensitiveSet<>(shardingColumns);
         for (ShardingConditionValue each : shardingCondition.getValues()) {
             Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getTableName());
             if ((logicTableName.equalsIgnoreCase(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName))
-                    && new CaseInsensitiveSet<>(shardingColumns).contains(each.getColumnName())) {
+                    && caseInsensitiveShardingColumns.contains(each.getColumnName())) {
                 result.add(each);
             }
         }
@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -88,4 +90,24 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return shardingAlgorithm.doSharding(availableTargetNames,
                 new RangeShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, shardingValue.getValueRange()));
     }
+    
+    /**
+     * Sharding in batch.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param tableName table name of sharding values
+     * @param columnName column name of sharding values
+     * @param shardingValues sharding values, each of which is routed to one target at most
+     * @param dataNodeInfo data node info
+     * @return sharding results in order of sharding values, element is null if no target matched
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<String> doBatchSharding(final Collection<String> availableTargetNames, final String tableName, final String columnName,
+                                        final List<Comparable<?>> shardingValues, final DataNodeInfo dataNodeInfo) {
+        List<String> result = shardingAlgorithm.doSharding(availableTargetNames, new BatchPreciseShardingValue(tableName, columnName, dataNodeInfo, shardingValues));
+        for (String each : result) {
+            ShardingSpherePreconditions.checkState(null == each || availableTargetNames.contains(each), () -> new ShardingRouteAlgorithmException(each, availableTargetNames));
+        }
+        return result;
+    }
 }
@@ -42,8 +42,11 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Properties;
 
@@ -306,6 +309,36 @@ class IntervalShardingAlgorithmTest {
         assertThat(actualAsString.size(), is(7));
     }
     
+    @Test
+    void assertRangeDoShardingWithManyIntervals() {
+        IntervalShardingAlgorithm shardingAlgorithm = createAlgorithm("yyyy-MM-dd HH:mm:ss", "2000-01-01 00:00:00", "2029-12-31 00:00:00", "yyyyMMdd", 1, "Days");
+        Collection<String> availableTargetNames = new ArrayList<>();
+        for (LocalDate each = LocalDate.of(2000, 1, 1); !each.isAfter(LocalDate.of(2029, 12, 31)); each = each.plusDays(1L)) {
+            availableTargetNames.add(String.format("t_order_%04d%02d%02d", each.getYear(), each.getMonthValue(), each.getDayOfMonth()));
+        }
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, createShardingValue("2020-02-27 10:00:00", "2020-03-02 10:00:00"));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_20200227", "t_order_20200228", "t_order_20200229", "t_order_20200301", "t_order_20200302"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2029-12-31 00:00:00")), is("t_order_20291231"));
+    }
+    
+    @Test
+    void assertDoShardingBeyondIndexedIntervals() {
+        IntervalShardingAlgorithm shardingAlgorithm = createAlgorithm("yyyy-MM-dd HH:mm:ss", "2000-01-01 00:00:00", "2000-01-03 23:59:59", "yyyyMMddHHmmss", 1, "Seconds");
+        Collection<String> availableTargetNames = Arrays.asList("t_order_20000102034639", "t_order_20000102034640", "t_order_20000102034641", "t_order_20000103235959");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, createShardingValue("2000-01-02 03:46:39", "2000-01-02 03:46:40"));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_20000102034639", "t_order_20000102034640"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2000-01-03 23:59:59")), is("t_order_20000103235959"));
+    }
+    
+    @Test
+    void assertPreciseDoShardingAfterAvailableTargetNamesChanged() {
+        Collection<String> availableTargetNames = new LinkedList<>(availableTablesForMonthDataSources);
+        PreciseShardingValue<Comparable<?>> shardingValue = new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-01-01 00:00:01");
+        assertNull(shardingAlgorithmByMonth.doSharding(availableTargetNames, shardingValue));
+        availableTargetNames.add("t_order_202101");
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTargetNames, shardingValue), is("t_order_202101"));
+    }
+    
     private IntervalShardingAlgorithm createAlgorithm(final String datetimePattern, final String datetimeLower,
                                                       final String datetimeUpper, final String shardingSuffixPattern,
                                                       final Integer datetimeIntervalAmount, final String datetimeIntervalUnit) {
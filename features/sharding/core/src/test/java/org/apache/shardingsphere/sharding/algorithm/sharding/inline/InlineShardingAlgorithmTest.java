@@ -22,6 +22,7 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
@@ -116,4 +117,18 @@ class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames,
                 new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, new BigInteger("787694822390497280787694822390497280"))), is("t_order_0"));
     }
+    
+    @Test
+    void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new BatchPreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(1, 2, 5))),
+                is(Arrays.asList("t_order_1", "t_order_2", "t_order_1")));
+    }
+    
+    @Test
+    void assertBatchDoShardingWithMismatchedColumn() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThrows(MismatchedInlineShardingAlgorithmExpressionAndColumnException.class,
+                () -> inlineShardingAlgorithm.doSharding(availableTargetNames, new BatchPreciseShardingValue<>("t_order", "non_existent_column", DATA_NODE_INFO, Arrays.asList(1, 2))));
+    }
 }
@@ -21,6 +21,7 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -67,4 +68,11 @@ class HashModShardingAlgorithmTest {
         Properties props = PropertiesBuilder.build(new Property("sharding-count", "0"));
         assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(ShardingAlgorithm.class, "HASH_MOD", props));
     }
+    
+    @Test
+    void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new BatchPreciseShardingValue<>("t_order", "order_type", DATA_NODE_INFO, Arrays.asList("a", "b", "a"))),
+                is(Arrays.asList("t_order_1", "t_order_2", "t_order_1")));
+    }
 }
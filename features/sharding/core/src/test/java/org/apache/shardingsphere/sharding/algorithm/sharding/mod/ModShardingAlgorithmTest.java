@@ -21,6 +21,7 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -117,4 +118,18 @@ class ModShardingAlgorithmTest {
         return Arrays.asList("t_order_08", "t_order_09", "t_order_10", "t_order_11", "t_order_12", "t_order_13", "t_order_14", "t_order_15",
                 "t_order_00", "t_order_01", "t_order_02", "t_order_03", "t_order_04", "t_order_05", "t_order_06", "t_order_07");
     }
+    
+    @Test
+    void assertBatchDoSharding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        assertThat(algorithm.doSharding(createAvailableTargetNames(), new BatchPreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(17, 1L, "12345678910111213141516", -1))),
+                is(Arrays.asList("t_order_1", "t_order_1", "t_order_12", "t_order_15")));
+    }
+    
+    @Test
+    void assertBatchDoShardingWithZeroPadding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", createZeroPaddingProperties());
+        assertThat(algorithm.doSharding(createAvailableIncludeZeroTargetNames(), new BatchPreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList("12345678910111213141516", "1174"))),
+                is(Arrays.asList("t_order_07", "t_order_01")));
+    }
 }
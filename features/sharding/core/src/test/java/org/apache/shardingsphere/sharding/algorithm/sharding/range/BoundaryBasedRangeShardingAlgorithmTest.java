@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -86,4 +87,22 @@ class BoundaryBasedRangeShardingAlgorithmTest {
     void assertGetAutoTablesAmount() {
         assertThat(shardingAlgorithm.getAutoTablesAmount(), is(4));
     }
+    
+    @Test
+    void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new BatchPreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(0L, 3L, 7L, 12L, 4))),
+                is(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_1")));
+    }
+    
+    @Test
+    void assertPreciseDoShardingOnBoundaries() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Long.MIN_VALUE)), is("t_order_0"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 1L)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 4L)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 5L)), is("t_order_2"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 10L)), is("t_order_3"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Long.MAX_VALUE)), is("t_order_3"));
+    }
 }
@@ -17,23 +17,37 @@
 
 package org.apache.shardingsphere.sharding.decider;
 
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -42,6 +56,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.when;
 
 class ShardingSQLFederationDeciderTest {
@@ -119,6 +134,37 @@ class ShardingSQLFederationDeciderTest {
         assertThat(includedDataNodes.size(), is(4));
     }
     
+    @Test
+    void assertDecideWhenAllTablesInSameDataSourceAndCartesianRouteUnitsExceeded() {
+        SelectStatementContext select = createStatementContext();
+        when(select.isContainsJoinQuery()).thenReturn(true);
+        ShardingRule shardingRule = createShardingRuleInSameDataSource();
+        assertTrue(new ShardingSQLFederationDecider().decide(select, Collections.emptyList(), mock(RuleMetaData.class), createDatabase(shardingRule), shardingRule,
+                new ConfigurationProperties(PropertiesBuilder.build(new Property("max-cartesian-route-units", "3"))), new HashSet<>()));
+    }
+    
+    @Test
+    void assertDecideWhenAllTablesInSameDataSourceAndCartesianRouteUnitsNotExceeded() {
+        SelectStatementContext select = createStatementContext();
+        when(select.isContainsJoinQuery()).thenReturn(true);
+        ShardingRule shardingRule = createShardingRuleInSameDataSource();
+        assertFalse(new ShardingSQLFederationDecider().decide(select, Collections.emptyList(), mock(RuleMetaData.class), createDatabase(shardingRule), shardingRule,
+                new ConfigurationProperties(PropertiesBuilder.build(new Property("max-cartesian-route-units", "4"))), new HashSet<>()));
+    }
+    
+    @Test
+    void assertDecideWhenAllTablesInSameDataSourceAndCartesianRouteUnitsPrunedByShardingConditions() {
+        SelectStatementContext select = createStatementContext();
+        when(select.isContainsJoinQuery()).thenReturn(true);
+        ShardingRule shardingRule = createShardingRuleInSameDataSource();
+        List<ShardingCondition> shardingConditions = Collections.singletonList(createShardingCondition());
+        try (MockedConstruction<ShardingConditionEngine> ignored = mockConstruction(ShardingConditionEngine.class,
+                (mock, context) -> when(mock.createShardingConditions(select, Collections.emptyList())).thenReturn(shardingConditions))) {
+            assertFalse(new ShardingSQLFederationDecider().decide(select, Collections.emptyList(), mock(RuleMetaData.class), createDatabase(shardingRule), shardingRule,
+                    new ConfigurationProperties(PropertiesBuilder.build(new Property("max-cartesian-route-units", "3"))), new HashSet<>()));
+        }
+    }
+    
     @Test
     void assertDecideWhenAllTablesIsBindingTables() {
         SelectStatementContext select = createStatementContext();
@@ -184,6 +230,29 @@ class ShardingSQLFederationDeciderTest {
         return result;
     }
     
+    private ShardingRule createShardingRuleInSameDataSource() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("t_order"));
+        ruleConfig.getTables().add(createTableRuleConfiguration("t_order_item"));
+        ruleConfig.getShardingAlgorithms().put("t_order_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        ruleConfig.getShardingAlgorithms().put(
+                "t_order_item_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_item_${order_id % 2}"))));
+        return new ShardingRule(ruleConfig, Collections.singletonMap("ds_0", new MockedDataSource()), mock(ComputeNodeInstanceContext.class));
+    }
+    
+    private ShardingTableRuleConfiguration createTableRuleConfiguration(final String tableName) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(tableName, "ds_0." + tableName + "_${0..1}");
+        result.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", tableName + "_inline"));
+        return result;
+    }
+    
+    private ShardingCondition createShardingCondition() {
+        ShardingCondition result = new ShardingCondition();
+        result.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1L)));
+        result.getValues().add(new ListShardingConditionValue<>("order_id", "t_order_item", Collections.singleton(1L)));
+        return result;
+    }
+    
     private ShardingRule createShardingRule() {
         ShardingRule result = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
         when(result.getShardingLogicTableNames(Arrays.asList("t_order", "t_order_item"))).thenReturn(Arrays.asList("t_order", "t_order_item"));
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    @Test
+    void assertMergeWithShardingDQLResultMerger() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual = resultMerger.merge(createQueryResults(), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        assertMergedResult(new GroupBySpillMergedResult(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereSchema.class), 2));
+    }
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        assertMergedResult(new GroupBySpillMergedResult(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereSchema.class), 100));
+    }
+    
+    @Test
+    void assertNextWithRecursiveSpill() throws SQLException, IOException {
+        long spillFileCount = getSpillFileCount();
+        List<Object[]> rows1 = new ArrayList<>(1000);
+        List<Object[]> rows2 = new ArrayList<>(1000);
+        for (int id = 1; id <= 1000; id++) {
+            rows1.add(new Object[]{2, 10 * id, id, 2, 20 * id});
+            rows2.add(new Object[]{1, 10 * (1001 - id), 1001 - id, 1, 10 * (1001 - id)});
+        }
+        MergedResult actual = new GroupBySpillMergedResult(Arrays.asList(createQueryResult(rows1), createQueryResult(rows2)), createSelectStatementContext(), mock(ShardingSphereSchema.class), 2);
+        assertTrue(getSpillFileCount() - spillFileCount > 32L);
+        for (int id = 1000; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(((Number) actual.getValue(1, Object.class)).intValue(), is(3));
+            assertThat(((Number) actual.getValue(2, Object.class)).intValue(), is(id * 10));
+            assertThat(actual.getValue(3, Object.class), is(id));
+        }
+        assertFalse(actual.next());
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Collections.emptyList()), createQueryResult(Collections.emptyList()));
+        MergedResult actual = new GroupBySpillMergedResult(queryResults, createSelectStatementContext(), mock(ShardingSphereSchema.class), 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithSpillNotSerializableValues() throws SQLException {
+        MergedResult actual = new GroupBySpillMergedResult(createQueryResults(NotSerializableValue::new), createSelectStatementContext(), mock(ShardingSphereSchema.class), 2);
+        for (int id = 10; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(new NotSerializableValue(id)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsRead() throws SQLException, IOException {
+        long spillFileCount = getSpillFileCount();
+        MergedResult actual = new GroupBySpillMergedResult(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereSchema.class), 2);
+        assertTrue(actual.next());
+        assertTrue(getSpillFileCount() > spillFileCount);
+        actual.close();
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    private long getSpillFileCount() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).count();
+        }
+    }
+    
+    private void assertMergedResult(final MergedResult actual) throws SQLException {
+        for (int id = 10; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(((Number) actual.getValue(1, Object.class)).intValue(), is(5 == id ? 6 : 3));
+            assertThat(((Number) actual.getValue(2, Object.class)).intValue(), is(id * 10));
+            assertThat(actual.getValue(3, Object.class), is(id));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        return createQueryResults(id -> id);
+    }
+    
+    private List<QueryResult> createQueryResults(final IntFunction<Object> idValueFactory) throws SQLException {
+        List<Object[]> rows1 = new ArrayList<>(10);
+        List<Object[]> rows2 = new ArrayList<>(10);
+        for (int id = 1; id <= 10; id++) {
+            rows1.add(new Object[]{2, 10 * id, idValueFactory.apply(id), 2, 20 * id});
+            rows2.add(new Object[]{1, 10 * (11 - id), idValueFactory.apply(11 - id), 1, 10 * (11 - id)});
+        }
+        List<Object[]> rows3 = Collections.singletonList(new Object[]{3, 50, idValueFactory.apply(5), 3, 150});
+        return Arrays.asList(createQueryResult(rows1), createQueryResult(rows2), createQueryResult(rows3));
+    }
+    
+    private QueryResult createQueryResult(final List<Object[]> rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.size());
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows.get(cursor.get())[(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
+                mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        SelectStatementContext result = new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME, Collections.emptyList());
+        result.setIndexes(createColumnLabelIndexMap());
+        return result;
+    }
+    
+    private Map<String, Integer> createColumnLabelIndexMap() {
+        Map<String, Integer> result = new CaseInsensitiveMap<>();
+        result.put("COUNT(*)", 1);
+        result.put("AVG(num)", 2);
+        result.put("id", 3);
+        result.put("AVG_DERIVED_COUNT_0", 4);
+        result.put("AVG_DERIVED_SUM_0", 5);
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class NotSerializableValue implements Comparable<NotSerializableValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final NotSerializableValue o) {
+            return Integer.compare(value, o.value);
+        }
+    }
+}
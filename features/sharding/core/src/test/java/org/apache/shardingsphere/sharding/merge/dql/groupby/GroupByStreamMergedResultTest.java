@@ -121,18 +121,18 @@ class GroupByStreamMergedResultTest {
         when(queryResult1.getValue(6, Object.class)).thenReturn(20);
         QueryResult queryResult2 = mockQueryResult();
         when(queryResult2.next()).thenReturn(true, true, true, false);
-        when(queryResult2.getValue(1, Object.class)).thenReturn(20, 30, 40);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(20, 30, 30, 40);
         when(queryResult2.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 2, 3, 3, 3, 3, 3, 4);
         when(queryResult2.getValue(5, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
         when(queryResult2.getValue(6, Object.class)).thenReturn(20, 20, 30, 30, 30, 40);
         QueryResult queryResult3 = mockQueryResult();
         when(queryResult3.next()).thenReturn(true, true, false);
-        when(queryResult3.getValue(1, Object.class)).thenReturn(10, 30);
+        when(queryResult3.getValue(1, Object.class)).thenReturn(10, 10, 30);
         when(queryResult3.getValue(2, Object.class)).thenReturn(10);
         when(queryResult3.getValue(3, Object.class)).thenReturn(1, 1, 1, 1, 3);
-        when(queryResult3.getValue(5, Object.class)).thenReturn(1, 1, 3);
-        when(queryResult3.getValue(6, Object.class)).thenReturn(10, 10, 30);
+        when(queryResult3.getValue(5, Object.class)).thenReturn(1, 1, 1, 3);
+        when(queryResult3.getValue(6, Object.class)).thenReturn(10, 10, 10, 30);
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
         MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
         assertTrue(actual.next());
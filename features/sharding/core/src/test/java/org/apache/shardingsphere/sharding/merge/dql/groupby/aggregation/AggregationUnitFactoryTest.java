@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -61,4 +63,34 @@ class AggregationUnitFactoryTest {
     void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreateLongAccumulationAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Types.INTEGER), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, Types.BIGINT), instanceOf(LongAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateLongAverageAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, Types.BIGINT), instanceOf(LongAverageAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateAggregationUnitWithFloatColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Types.DOUBLE), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Types.REAL), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, Types.FLOAT), instanceOf(AverageAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateAggregationUnitWithDecimalColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Types.DECIMAL), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, Types.NUMERIC), instanceOf(AverageAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateDistinctAggregationUnitWithColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, Types.BIGINT), instanceOf(DistinctSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, Types.BIGINT), instanceOf(ComparableAggregationUnit.class));
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LongAverageAggregationUnitTest {
+    
+    @Test
+    void assertLongAvgAggregation() {
+        LongAverageAggregationUnit aggregationUnit = new LongAverageAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Arrays.asList(null, null));
+        aggregationUnit.merge(Arrays.asList(1L, null));
+        aggregationUnit.merge(Arrays.asList(10L, 50L));
+        aggregationUnit.merge(Arrays.asList(10L, 20L));
+        aggregationUnit.merge(Arrays.asList(5L, 40L));
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
+    
+    @Test
+    void assertDivideZero() {
+        LongAverageAggregationUnit aggregationUnit = new LongAverageAggregationUnit();
+        aggregationUnit.merge(Arrays.asList(0L, 50L));
+        aggregationUnit.merge(Arrays.asList(0L, 20L));
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal(0)));
+    }
+    
+    @Test
+    void assertAvgAggregationWithoutValue() {
+        assertNull(new LongAverageAggregationUnit().getResult());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    private final Map<OrderByValue, Integer> currentValues = new IdentityHashMap<>();
+    
+    @Test
+    void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    void assertNextWithSingleOrderByValue() throws SQLException {
+        assertThat(merge(Collections.singletonList(createOrderByValue(1, 3, 5))), is(Arrays.asList(1, 3, 5)));
+    }
+    
+    @Test
+    void assertNextWithMultipleOrderByValues() throws SQLException {
+        List<OrderByValue> orderByValues = Arrays.asList(createOrderByValue(1, 4, 7), createOrderByValue(2, 2, 9), createOrderByValue(3), createOrderByValue(0, 5, 6, 8));
+        assertThat(merge(orderByValues), is(Arrays.asList(0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+    
+    @Test
+    void assertNextWithNotPowerOfTwoOrderByValues() throws SQLException {
+        List<OrderByValue> orderByValues = new LinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            orderByValues.add(createOrderByValue(i, i + 7, i + 14));
+            expected.add(i);
+            expected.add(i + 7);
+            expected.add(i + 14);
+        }
+        Collections.sort(expected);
+        assertThat(merge(orderByValues), is(expected));
+    }
+    
+    @Test
+    void assertNextWithEqualOrderByValues() throws SQLException {
+        List<OrderByValue> orderByValues = Arrays.asList(createOrderByValue(2), createOrderByValue(1, 2), createOrderByValue(1));
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<OrderByValue> actual = new ArrayList<>();
+        do {
+            actual.add(loserTree.peek());
+        } while (loserTree.next());
+        assertThat(actual, is(Arrays.asList(orderByValues.get(1), orderByValues.get(2), orderByValues.get(0), orderByValues.get(1))));
+    }
+    
+    private List<Integer> merge(final Collection<OrderByValue> orderByValues) throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<Integer> result = new ArrayList<>();
+        assertFalse(loserTree.isEmpty());
+        do {
+            result.add(currentValues.get(loserTree.peek()));
+        } while (loserTree.next());
+        assertTrue(loserTree.isEmpty());
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final Integer... values) throws SQLException {
+        OrderByValue result = mock(OrderByValue.class);
+        Iterator<Integer> iterator = Arrays.asList(values).iterator();
+        currentValues.put(result, iterator.next());
+        when(result.next()).thenAnswer(invocation -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            currentValues.put(result, iterator.next());
+            return true;
+        });
+        when(result.compareTo(any())).thenAnswer(invocation -> currentValues.get(result).compareTo(currentValues.get((OrderByValue) invocation.getArgument(0))));
+        return result;
+    }
+}
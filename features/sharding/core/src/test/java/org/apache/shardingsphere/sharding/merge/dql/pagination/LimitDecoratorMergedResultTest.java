@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -35,15 +36,21 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.paginatio
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LimitDecoratorMergedResultTest {
@@ -91,11 +98,37 @@ class LimitDecoratorMergedResultTest {
                 new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME, Collections.emptyList());
         when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
-        MergedResult actual = resultMerger.merge(Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult()), selectStatementContext, database,
-                mock(ConnectionContext.class));
+        List<QueryResult> queryResults = Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult());
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
         assertTrue(actual.next());
+        assertFalse(actual.next());
+        for (QueryResult each : queryResults) {
+            verify(each).cancel();
+            verify(each).close();
+        }
+    }
+    
+    @Test
+    void assertNextWithRowCountCancelStatementsBeforeCloseResultSets() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new NumberLiteralLimitValueSegment(0, 0, 1L)));
+        SelectStatementContext selectStatementContext =
+                new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME, Collections.emptyList());
+        when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        List<ResultSet> resultSets = Arrays.asList(mockResultSet(), mockResultSet());
+        MergedResult actual = resultMerger.merge(
+                Arrays.asList(new JDBCStreamQueryResult(resultSets.get(0)), new JDBCStreamQueryResult(resultSets.get(1))), selectStatementContext, database, mock(ConnectionContext.class));
         assertTrue(actual.next());
         assertFalse(actual.next());
+        for (ResultSet each : resultSets) {
+            InOrder inOrder = inOrder(each.getStatement(), each);
+            inOrder.verify(each.getStatement()).cancel();
+            inOrder.verify(each).close();
+        }
     }
     
     private ShardingSphereMetaData createShardingSphereMetaData(final ShardingSphereDatabase database) {
@@ -103,6 +136,14 @@ class LimitDecoratorMergedResultTest {
                 mock(RuleMetaData.class), mock(ConfigurationProperties.class));
     }
     
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        Statement statement = mock(Statement.class);
+        when(result.getStatement()).thenReturn(statement);
+        when(result.next()).thenReturn(true, true, false);
+        return result;
+    }
+    
     private QueryResult mockQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.next()).thenReturn(true, true, false);
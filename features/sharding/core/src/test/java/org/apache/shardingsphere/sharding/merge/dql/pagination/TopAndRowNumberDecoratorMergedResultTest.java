@@ -42,11 +42,14 @@ import org.junit.jupiter.api.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TopAndRowNumberDecoratorMergedResultTest {
@@ -83,12 +86,17 @@ class TopAndRowNumberDecoratorMergedResultTest {
         sqlStatement.setLimit(new LimitSegment(0, 0, null, new NumberLiteralLimitValueSegment(0, 0, 5L)));
         SelectStatementContext selectStatementContext =
                 new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(), sqlStatement, DefaultDatabase.LOGIC_NAME, Collections.emptyList());
-        MergedResult actual = resultMerger.merge(Arrays.asList(mockQueryResult(), mockQueryResult(),
-                mockQueryResult(), mockQueryResult()), selectStatementContext, mockShardingSphereDatabase(), mock(ConnectionContext.class));
+        List<QueryResult> queryResults = Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult());
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, mockShardingSphereDatabase(), mock(ConnectionContext.class));
         for (int i = 0; i < 5; i++) {
             assertTrue(actual.next());
         }
         assertFalse(actual.next());
+        verify(queryResults.get(3), never()).next();
+        for (QueryResult each : queryResults) {
+            verify(each).cancel();
+            verify(each).close();
+        }
     }
     
     @Test
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -68,4 +69,21 @@ class ShardingInsertValuesTokenTest {
     void assertToStringWithoutRouteUnit() {
         assertThat(shardingInsertValuesToken.toString(), is("('shardingsphere', 'test')"));
     }
+    
+    @Test
+    void assertToStringWithRouteUnitForMultipleInsertValues() {
+        ShardingInsertValuesToken insertValuesToken = new ShardingInsertValuesToken(0, 2);
+        insertValuesToken.getInsertValues().add(createShardingInsertValue("row_0", new DataNode("logic_ds", "tbl_1")));
+        insertValuesToken.getInsertValues().add(createShardingInsertValue("row_1", new DataNode("logic_ds", "TBL_0")));
+        insertValuesToken.getInsertValues().add(new ShardingInsertValue(Collections.singletonList(new LiteralExpressionSegment(0, 0, "row_2")), Collections.emptyList()));
+        insertValuesToken.getInsertValues().add(createShardingInsertValue("row_3", new DataNode("other_ds", "tbl_0")));
+        insertValuesToken.getInsertValues().add(createShardingInsertValue("row_4", new DataNode("logic_ds", "tbl_1")));
+        assertThat(insertValuesToken.toString(routeUnit), is("('row_0'), ('row_1'), ('row_2'), ('row_4')"));
+        RouteUnit otherRouteUnit = new RouteUnit(new RouteMapper("other_ds", "other_ds"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        assertThat(insertValuesToken.toString(otherRouteUnit), is("('row_2'), ('row_3')"));
+    }
+    
+    private ShardingInsertValue createShardingInsertValue(final String value, final DataNode dataNode) {
+        return new ShardingInsertValue(Collections.singletonList(new LiteralExpressionSegment(0, 0, value)), Collections.singletonList(dataNode));
+    }
 }
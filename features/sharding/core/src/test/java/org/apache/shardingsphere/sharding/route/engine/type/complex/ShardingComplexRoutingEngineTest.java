@@ -22,9 +22,12 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.exception.algorithm.CartesianRouteUnitsExceededException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
 import org.apache.shardingsphere.sharding.route.engine.fixture.ShardingRoutingEngineFixtureBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -85,4 +88,27 @@ class ShardingComplexRoutingEngineTest {
                 mock(SQLStatementContext.class), new HintValueContext(), new ConfigurationProperties(new Properties()), Collections.emptyList());
         assertThrows(ShardingTableRuleNotFoundException.class, () -> complexRoutingEngine.route(mock(ShardingRule.class)));
     }
+    
+    @Test
+    void assertRoutingForNonBindingTables() {
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(ShardingRoutingEngineFixtureBuilder.createShardingConditions("t_order"),
+                mock(SQLStatementContext.class), new HintValueContext(), new ConfigurationProperties(PropertiesBuilder.build(new Property("max-cartesian-route-units", "2"))),
+                Arrays.asList("t_order", "t_order_item"));
+        ShardingRule shardingRule = ShardingRoutingEngineFixtureBuilder.createBroadcastShardingRule();
+        List<RouteUnit> routeUnits = new ArrayList<>(complexRoutingEngine.route(shardingRule).getRouteUnits());
+        assertThat(routeUnits.size(), is(2));
+        for (RouteUnit each : routeUnits) {
+            assertThat(each.getDataSourceMapper().getActualName(), is("ds_1"));
+            assertThat(each.getTableMappers().size(), is(2));
+            assertThat(each.getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        }
+    }
+    
+    @Test
+    void assertRoutingForNonBindingTablesWhenRouteUnitsExceeded() {
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(ShardingRoutingEngineFixtureBuilder.createShardingConditions("t_order"),
+                mock(SQLStatementContext.class), new HintValueContext(), new ConfigurationProperties(PropertiesBuilder.build(new Property("max-cartesian-route-units", "1"))),
+                Arrays.asList("t_order", "t_order_item"));
+        assertThrows(CartesianRouteUnitsExceededException.class, () -> complexRoutingEngine.route(ShardingRoutingEngineFixtureBuilder.createBroadcastShardingRule()));
+    }
 }
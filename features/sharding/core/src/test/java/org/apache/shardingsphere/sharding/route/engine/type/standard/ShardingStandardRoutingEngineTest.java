@@ -20,19 +20,24 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.exception.algorithm.ShardingRouteAlgorithmException;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.fixture.ShardingRoutingEngineFixtureBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 
@@ -89,6 +94,27 @@ class ShardingStandardRoutingEngineTest {
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    void assertRouteByShardingConditionsInBatch() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order",
+                createShardingConditions("t_order", new long[][]{{1L, 1L}, {0L, 1L}, {1L, 0L}, {1L, 1L}}), mock(SQLStatementContext.class), new HintValueContext());
+        RouteContext routeContext = standardRoutingEngine.route(ShardingRoutingEngineFixtureBuilder.createBasedShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(3));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(2).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(2).getTableMappers().iterator().next().getActualName(), is("t_order_0"));
+        List<Collection<DataNode>> originalDataNodes = new ArrayList<>(routeContext.getOriginalDataNodes());
+        assertThat(originalDataNodes.size(), is(4));
+        assertThat(originalDataNodes.get(0), is(Collections.singletonList(new DataNode("ds_1", "t_order_1"))));
+        assertThat(originalDataNodes.get(1), is(Collections.singletonList(new DataNode("ds_0", "t_order_1"))));
+        assertThat(originalDataNodes.get(2), is(Collections.singletonList(new DataNode("ds_1", "t_order_0"))));
+        assertThat(originalDataNodes.get(3), is(Collections.singletonList(new DataNode("ds_1", "t_order_1"))));
+    }
+    
     @Test
     void assertRouteByErrorShardingTableStrategy() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", ShardingRoutingEngineFixtureBuilder.createErrorShardingConditions("t_order"),
@@ -205,6 +231,17 @@ class ShardingStandardRoutingEngineTest {
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_interval_test"));
     }
     
+    private ShardingConditions createShardingConditions(final String tableName, final long[][] userIdAndOrderIds) {
+        List<ShardingCondition> shardingConditions = new LinkedList<>();
+        for (long[] each : userIdAndOrderIds) {
+            ShardingCondition shardingCondition = new ShardingCondition();
+            shardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", tableName, Collections.singleton(each[0])));
+            shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", tableName, Collections.singleton(each[1])));
+            shardingConditions.add(shardingCondition);
+        }
+        return new ShardingConditions(shardingConditions, mock(SQLStatementContext.class), mock(ShardingRule.class));
+    }
+    
     private ShardingStandardRoutingEngine createShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions,
                                                                               final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
         return new ShardingStandardRoutingEngine(logicTableName, shardingConditions, sqlStatementContext, hintValueContext, new ConfigurationProperties(new Properties()));
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.sharding.route.strategy.type.standard;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.exception.algorithm.ShardingRouteAlgorithmException;
 import org.apache.shardingsphere.sharding.fixture.CoreStandardShardingAlgorithmFixture;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
@@ -34,6 +37,11 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class StandardShardingStrategyTest {
     
@@ -71,4 +79,18 @@ class StandardShardingStrategyTest {
         assertThat(actualShardingColumns.size(), is(1));
         assertThat(actualShardingColumns.iterator().next(), is("column"));
     }
+    
+    @Test
+    void assertDoBatchSharding() {
+        assertThat(standardShardingStrategy.doBatchSharding(targets, "logicTable", "column", Arrays.asList(1, 2, 3), dataNodeSegment), is(Arrays.asList("1", null, "1")));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertDoBatchShardingWithUnavailableTarget() {
+        StandardShardingAlgorithm<Integer> shardingAlgorithm = mock(StandardShardingAlgorithm.class);
+        when(shardingAlgorithm.doSharding(eq(targets), any(BatchPreciseShardingValue.class))).thenReturn(Arrays.asList("1", "4"));
+        assertThrows(ShardingRouteAlgorithmException.class,
+                () -> new StandardShardingStrategy("column", shardingAlgorithm).doBatchSharding(targets, "logicTable", "column", Arrays.asList(1, 4), dataNodeSegment));
+    }
 }
@@ -42,9 +42,15 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
     private byte[] secretKey;
     
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         secretKey = getSecretKey(props);
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -55,29 +61,38 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         return Arrays.copyOf(DigestUtils.getDigest(digestAlgorithm.toUpperCase()).digest(aesKey.getBytes(StandardCharsets.UTF_8)), 16);
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plainValue) {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final Object cipherValue) {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
+        byte[] result = doFinal(decryptCipher, Base64.getDecoder().decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] doFinal(final ThreadLocal<Cipher> cipher, final byte[] input) {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
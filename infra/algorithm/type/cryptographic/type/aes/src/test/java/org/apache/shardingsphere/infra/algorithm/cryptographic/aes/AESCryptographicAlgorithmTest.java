@@ -28,6 +28,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 import org.mockito.MockedStatic;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -90,4 +95,20 @@ class AESCryptographicAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
     }
+    
+    @Test
+    void assertBatchEncrypt() {
+        assertThat(cryptographicAlgorithm.batchEncrypt(Arrays.asList("test", null)), is(Arrays.<Object>asList("dSpPiyENQGDUXMKFMJPGWA==", null)));
+    }
+    
+    @Test
+    void assertBatchDecrypt() {
+        assertThat(cryptographicAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
+    @Test
+    void assertBatchEncryptAndDecryptInParallel() {
+        List<Object> plainValues = IntStream.range(0, 2000).mapToObj(String::valueOf).collect(Collectors.toList());
+        assertThat(cryptographicAlgorithm.batchDecrypt(cryptographicAlgorithm.batchEncrypt(plainValues)), is(plainValues));
+    }
 }
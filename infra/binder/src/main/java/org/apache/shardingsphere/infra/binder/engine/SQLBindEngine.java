@@ -50,21 +50,29 @@ public final class SQLBindEngine {
      * @return SQL statement context
      */
     public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
-        SQLStatement boundSQLStatement = isNeedBind() ? bindSQLStatement(sqlStatement) : sqlStatement;
-        return SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, params, currentDatabaseName);
+        return SQLStatementContextFactory.newInstance(metaData, bindSQLStatement(sqlStatement), params, currentDatabaseName);
     }
     
-    private boolean isNeedBind() {
-        return !hintValueContext.findHintDataSourceName().isPresent();
-    }
-    
-    private SQLStatement bindSQLStatement(final SQLStatement statement) {
-        if (statement instanceof DMLStatement) {
-            return new DMLStatementBindEngine(metaData, currentDatabaseName).bind((DMLStatement) statement);
+    /**
+     * Bind SQL statement without creating SQL statement context.
+     *
+     * @param sqlStatement SQL statement
+     * @return bound SQL statement
+     */
+    public SQLStatement bindSQLStatement(final SQLStatement sqlStatement) {
+        if (!isNeedBind()) {
+            return sqlStatement;
+        }
+        if (sqlStatement instanceof DMLStatement) {
+            return new DMLStatementBindEngine(metaData, currentDatabaseName).bind((DMLStatement) sqlStatement);
         }
-        if (statement instanceof DDLStatement) {
-            return new DDLStatementBindEngine(metaData, currentDatabaseName).bind((DDLStatement) statement);
+        if (sqlStatement instanceof DDLStatement) {
+            return new DDLStatementBindEngine(metaData, currentDatabaseName).bind((DDLStatement) sqlStatement);
         }
-        return statement;
+        return sqlStatement;
+    }
+    
+    private boolean isNeedBind() {
+        return !hintValueContext.findHintDataSourceName().isPresent();
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.checker;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Supported SQL check cache.
+ *
+ * <p>Supported SQL checkers only depend on the shape of SQL statement, so the passed check of parameterized SQL is shared by all connections,
+ * until the meta data version of database changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SupportedSQLCheckCache {
+    
+    private static final SupportedSQLCheckCache INSTANCE = new SupportedSQLCheckCache();
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private final Cache<CheckedSQL, Boolean> cache = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+    
+    /**
+     * Get instance of supported SQL check cache.
+     *
+     * @return got instance
+     */
+    public static SupportedSQLCheckCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Judge whether SQL is checked.
+     *
+     * @param databaseName database name
+     * @param sql SQL
+     * @param metaDataVersion meta data version of database
+     * @return SQL is checked or not
+     */
+    public boolean isChecked(final String databaseName, final String sql, final long metaDataVersion) {
+        return null != cache.getIfPresent(new CheckedSQL(databaseName, sql, metaDataVersion));
+    }
+    
+    /**
+     * Mark SQL as checked.
+     *
+     * @param databaseName database name
+     * @param sql SQL
+     * @param metaDataVersion meta data version of database when the check began
+     */
+    public void markChecked(final String databaseName, final String sql, final long metaDataVersion) {
+        cache.put(new CheckedSQL(databaseName, sql, metaDataVersion), Boolean.TRUE);
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate, 1.0 if there is no request yet
+     */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CheckedSQL {
+        
+        private final String databaseName;
+        
+        private final String sql;
+        
+        private final long metaDataVersion;
+    }
+}
@@ -54,16 +54,33 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether use virtual threads to execute SQL and proxy commands, only take effect on JDK 21 or later.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max opened connection size for each DDL query outside of transaction, which fans out DDL of one data source to multiple connections.
+     * Zero means using max connections size per query.
+     */
+    DDL_MAX_CONNECTIONS_SIZE_PER_QUERY("ddl-max-connections-size-per-query", String.valueOf(0), int.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max route units of cartesian product routing for joining non-binding sharding tables.
+     * Zero means no limit.
+     */
+    MAX_CARTESIAN_ROUTE_UNITS("max-cartesian-route-units", String.valueOf(0), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -74,12 +91,23 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Max bytes written since last flush before flushing records from databases for ShardingSphere-Proxy, 0 means flushing by record count.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Max estimated bytes of query results of each query kept in memory under connection strictly mode, rows exceed it will be spilled to local temporary files.
+     * Zero means never spill.
+     */
+    PROXY_BACKEND_QUERY_RESULT_SPILL_THRESHOLD("proxy-backend-query-result-spill-threshold", String.valueOf(0), long.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -123,7 +151,13 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Agent plugins enabled.
      */
-    AGENT_PLUGINS_ENABLED("agent-plugins-enabled", String.valueOf(Boolean.TRUE), boolean.class, false);
+    AGENT_PLUGINS_ENABLED("agent-plugins-enabled", String.valueOf(Boolean.TRUE), boolean.class, false),
+    
+    /**
+     * Max groups kept in memory when merging group by results, groups exceed it will be spilled to local temporary files.
+     * Zero means never spill.
+     */
+    GROUP_BY_MERGE_SPILL_THRESHOLD("group-by-merge-spill-threshold", String.valueOf(0), int.class, false);
     
     private final String key;
     
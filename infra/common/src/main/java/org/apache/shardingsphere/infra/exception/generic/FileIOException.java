@@ -32,4 +32,8 @@ public final class FileIOException extends GenericSQLException {
     public FileIOException(final File file) {
         super(XOpenSQLState.GENERAL_ERROR, 20, "File access failed, file is: %s", file.getAbsolutePath());
     }
+    
+    public FileIOException(final File file, final Exception cause) {
+        super(XOpenSQLState.GENERAL_ERROR, 20, cause, "File access failed, file is: %s", file.getAbsolutePath());
+    }
 }
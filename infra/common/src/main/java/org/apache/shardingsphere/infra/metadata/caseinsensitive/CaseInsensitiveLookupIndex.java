@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.caseinsensitive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Case insensitive lookup index.
+ *
+ * <p>It is immutable and built once, names are case-folded and interned at build time,
+ * so lookups with original or lower case names do not normalize names, and values can be accessed by ordinal.
+ * If several values have same case-folded name, the last one wins.</p>
+ *
+ * @param <V> type of value
+ */
+public final class CaseInsensitiveLookupIndex<V> {
+    
+    private final List<V> values;
+    
+    private final Map<String, Integer> ordinals;
+    
+    public CaseInsensitiveLookupIndex(final Collection<V> values, final Function<V, String> nameExtractor) {
+        List<V> valueList = new ArrayList<>(values);
+        Map<String, Integer> ordinals = new HashMap<>(valueList.size() * 2, 1F);
+        for (int i = 0; i < valueList.size(); i++) {
+            ordinals.put(nameExtractor.apply(valueList.get(i)).toLowerCase().intern(), i);
+        }
+        for (V each : valueList) {
+            String name = nameExtractor.apply(each);
+            String foldedName = name.toLowerCase();
+            if (!name.equals(foldedName)) {
+                ordinals.put(name.intern(), ordinals.get(foldedName));
+            }
+        }
+        this.values = Collections.unmodifiableList(valueList);
+        this.ordinals = ordinals;
+    }
+    
+    /**
+     * Find ordinal of value.
+     *
+     * @param name name
+     * @return ordinal of value, -1 if not found
+     */
+    public int findOrdinal(final String name) {
+        if (null == name) {
+            return -1;
+        }
+        Integer result = ordinals.get(name);
+        if (null == result) {
+            result = ordinals.get(name.toLowerCase());
+        }
+        return null == result ? -1 : result;
+    }
+    
+    /**
+     * Judge whether contains name or not.
+     *
+     * @param name name
+     * @return contains name or not
+     */
+    public boolean contains(final String name) {
+        return -1 != findOrdinal(name);
+    }
+    
+    /**
+     * Find value.
+     *
+     * @param name name
+     * @return found value
+     */
+    public Optional<V> find(final String name) {
+        int ordinal = findOrdinal(name);
+        return -1 == ordinal ? Optional.empty() : Optional.of(values.get(ordinal));
+    }
+    
+    /**
+     * Get value via ordinal.
+     *
+     * @param ordinal ordinal
+     * @return value
+     */
+    public V get(final int ordinal) {
+        return values.get(ordinal);
+    }
+    
+    /**
+     * Get values in ordinal order.
+     *
+     * @return values
+     */
+    public List<V> getValues() {
+        return values;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericS
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.SystemSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.version.MetaDataChangeSequence;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
@@ -64,6 +66,9 @@ public final class ShardingSphereDatabase {
     
     private final Map<String, ShardingSphereSchema> schemas;
     
+    @Getter(AccessLevel.NONE)
+    private volatile long version = MetaDataChangeSequence.next();
+    
     public ShardingSphereDatabase(final String name, final DatabaseType protocolType, final ResourceMetaData resourceMetaData,
                                   final RuleMetaData ruleMetaData, final Map<String, ShardingSphereSchema> schemas) {
         this.name = name;
@@ -166,6 +171,7 @@ public final class ShardingSphereDatabase {
      */
     public void addSchema(final String schemaName, final ShardingSphereSchema schema) {
         schemas.put(schemaName, schema);
+        version = MetaDataChangeSequence.next();
     }
     
     /**
@@ -175,6 +181,7 @@ public final class ShardingSphereDatabase {
      */
     public void dropSchema(final String schemaName) {
         schemas.remove(schemaName);
+        version = MetaDataChangeSequence.next();
     }
     
     /**
@@ -211,5 +218,26 @@ public final class ShardingSphereDatabase {
         });
         ruleMetaData.getRules().clear();
         ruleMetaData.getRules().addAll(rules);
+        version = MetaDataChangeSequence.next();
+    }
+    
+    /**
+     * Refresh meta data version after rules changed in place.
+     */
+    public void refreshMetaDataVersion() {
+        version = MetaDataChangeSequence.next();
+    }
+    
+    /**
+     * Get meta data version.
+     *
+     * @return meta data version, which increases whenever schemas or rules changed
+     */
+    public long getMetaDataVersion() {
+        long result = version;
+        for (ShardingSphereSchema each : schemas.values()) {
+            result = Math.max(result, each.getVersion());
+        }
+        return result;
     }
 }
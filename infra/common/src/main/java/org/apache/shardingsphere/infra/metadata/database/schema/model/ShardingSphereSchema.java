@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.version.MetaDataChangeSequence;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -38,6 +39,8 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereView> views;
     
+    private volatile long version = MetaDataChangeSequence.next();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema(final String name) {
         this.name = name;
@@ -99,6 +102,7 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        version = MetaDataChangeSequence.next();
     }
     
     /**
@@ -109,6 +113,7 @@ public final class ShardingSphereSchema {
      */
     public void putView(final String viewName, final ShardingSphereView view) {
         views.put(viewName.toLowerCase(), view);
+        version = MetaDataChangeSequence.next();
     }
     
     /**
@@ -129,6 +134,7 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        version = MetaDataChangeSequence.next();
     }
     
     /**
@@ -138,6 +144,7 @@ public final class ShardingSphereSchema {
      */
     public void removeView(final String viewName) {
         views.remove(viewName.toLowerCase());
+        version = MetaDataChangeSequence.next();
     }
     
     /**
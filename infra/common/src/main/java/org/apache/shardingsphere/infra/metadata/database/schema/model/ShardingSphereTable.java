@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveLookupIndex;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -33,8 +34,8 @@ import java.util.Map;
  * ShardingSphere table.
  */
 @Getter
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = "columnLookupIndex")
+@ToString(exclude = "columnLookupIndex")
 public final class ShardingSphereTable {
     
     private final String name;
@@ -53,6 +54,8 @@ public final class ShardingSphereTable {
     
     private final TableType type;
     
+    private volatile CaseInsensitiveLookupIndex<ShardingSphereColumn> columnLookupIndex;
+    
     public ShardingSphereTable() {
         this("", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), TableType.TABLE);
     }
@@ -64,6 +67,7 @@ public final class ShardingSphereTable {
         this.indexes = createIndexes(indexes);
         this.constraints = createConstraints(constraints);
         type = TableType.TABLE;
+        columnLookupIndex = new CaseInsensitiveLookupIndex<>(this.columns.values(), ShardingSphereColumn::getName);
     }
     
     public ShardingSphereTable(final String name, final Collection<ShardingSphereColumn> columns,
@@ -73,6 +77,7 @@ public final class ShardingSphereTable {
         this.indexes = createIndexes(indexes);
         this.constraints = createConstraints(constraints);
         this.type = type;
+        columnLookupIndex = new CaseInsensitiveLookupIndex<>(this.columns.values(), ShardingSphereColumn::getName);
     }
     
     private Map<String, ShardingSphereColumn> createColumns(final Collection<ShardingSphereColumn> columns) {
@@ -111,8 +116,9 @@ public final class ShardingSphereTable {
      *
      * @param column column meta data
      */
-    public void putColumn(final ShardingSphereColumn column) {
+    public synchronized void putColumn(final ShardingSphereColumn column) {
         columns.put(column.getName(), column);
+        columnLookupIndex = new CaseInsensitiveLookupIndex<>(columns.values(), ShardingSphereColumn::getName);
     }
     
     /**
@@ -122,7 +128,9 @@ public final class ShardingSphereTable {
      * @return column meta data
      */
     public ShardingSphereColumn getColumn(final String columnName) {
-        return columns.get(columnName);
+        CaseInsensitiveLookupIndex<ShardingSphereColumn> lookupIndex = columnLookupIndex;
+        int ordinal = lookupIndex.findOrdinal(columnName);
+        return -1 == ordinal ? null : lookupIndex.get(ordinal);
     }
     
     /**
@@ -141,7 +149,7 @@ public final class ShardingSphereTable {
      * @return whether contains column or not
      */
     public boolean containsColumn(final String columnName) {
-        return null != columnName && columns.containsKey(columnName);
+        return columnLookupIndex.contains(columnName);
     }
     
     /**
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.version;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Meta data change sequence.
+ *
+ * <p>The sequence is shared by all meta data objects in the JVM, so the max sequence of a set of meta data objects increases whenever any of them changes.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetaDataChangeSequence {
+    
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    
+    /**
+     * Get next sequence.
+     *
+     * @return next sequence
+     */
+    public static long next() {
+        return SEQUENCE.incrementAndGet();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.caseinsensitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseInsensitiveLookupIndexTest {
+    
+    private final CaseInsensitiveLookupIndex<String> lookupIndex = new CaseInsensitiveLookupIndex<>(Arrays.asList("order_id", "User_Id", "STATUS"), Function.identity());
+    
+    @Test
+    void assertFindOrdinal() {
+        assertThat(lookupIndex.findOrdinal("order_id"), is(0));
+        assertThat(lookupIndex.findOrdinal("ORDER_ID"), is(0));
+        assertThat(lookupIndex.findOrdinal("User_Id"), is(1));
+        assertThat(lookupIndex.findOrdinal("user_id"), is(1));
+        assertThat(lookupIndex.findOrdinal("status"), is(2));
+        assertThat(lookupIndex.findOrdinal("invalid"), is(-1));
+        assertThat(lookupIndex.findOrdinal(null), is(-1));
+    }
+    
+    @Test
+    void assertContains() {
+        assertTrue(lookupIndex.contains("Status"));
+        assertFalse(lookupIndex.contains("invalid"));
+    }
+    
+    @Test
+    void assertFind() {
+        assertThat(lookupIndex.find("USER_ID"), is(Optional.of("User_Id")));
+        assertFalse(lookupIndex.find("invalid").isPresent());
+    }
+    
+    @Test
+    void assertGetValues() {
+        assertThat(lookupIndex.get(2), is("STATUS"));
+        assertThat(lookupIndex.getValues(), is(Arrays.asList("order_id", "User_Id", "STATUS")));
+    }
+    
+    @Test
+    void assertFindWithSameCaseFoldedNames() {
+        CaseInsensitiveLookupIndex<String> actual = new CaseInsensitiveLookupIndex<>(Arrays.asList("status", "STATUS"), Function.identity());
+        assertThat(actual.findOrdinal("status"), is(1));
+        assertThat(actual.findOrdinal("STATUS"), is(1));
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
@@ -153,6 +154,20 @@ class ShardingSphereDatabaseTest {
         assertThat(database.getRuleMetaData().getRules().size(), is(2));
     }
     
+    @Test
+    void assertGetMetaDataVersion() {
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_schema");
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ResourceMetaData.class), mock(RuleMetaData.class),
+                Collections.singletonMap("foo_schema", schema));
+        long version = database.getMetaDataVersion();
+        assertThat(database.getMetaDataVersion(), is(version));
+        schema.putTable("foo_tbl", mock(ShardingSphereTable.class));
+        assertTrue(database.getMetaDataVersion() > version);
+        version = database.getMetaDataVersion();
+        database.refreshMetaDataVersion();
+        assertTrue(database.getMetaDataVersion() > version);
+    }
+    
     @Test
     void assertGetPostgreSQLDefaultSchema() throws SQLException {
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
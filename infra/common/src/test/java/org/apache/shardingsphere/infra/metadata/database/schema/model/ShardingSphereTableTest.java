@@ -150,4 +150,14 @@ class ShardingSphereTableTest {
         otherTable.putIndex(new ShardingSphereIndex("foo_index_1"));
         assertThat(shardingSphereTable, is(otherTable));
     }
+    
+    @Test
+    void assertGetColumnLookupIndexAfterPutColumn() {
+        ShardingSphereColumn column = new ShardingSphereColumn("Foo_Column", Types.INTEGER, true, true, false, true, false, false);
+        shardingSphereTable.putColumn(column);
+        assertThat(shardingSphereTable.getColumnLookupIndex().findOrdinal("FOO_COLUMN"), is(0));
+        assertThat(shardingSphereTable.getColumnLookupIndex().get(0), is(column));
+        assertTrue(shardingSphereTable.containsColumn("foo_column"));
+        assertFalse(shardingSphereTable.containsColumn(null));
+    }
 }
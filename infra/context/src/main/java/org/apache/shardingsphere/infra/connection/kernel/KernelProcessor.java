@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.connection.kernel;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.checker.SupportedSQLCheckCache;
 import org.apache.shardingsphere.infra.checker.SupportedSQLCheckEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
@@ -60,7 +61,17 @@ public final class KernelProcessor {
     
     private void check(final QueryContext queryContext) {
         ShardingSphereDatabase database = queryContext.getUsedDatabase();
+        if (queryContext.getParameters().isEmpty()) {
+            new SupportedSQLCheckEngine().checkSQL(database.getRuleMetaData().getRules(), queryContext.getSqlStatementContext(), database.getSchemas(), database.getName());
+            return;
+        }
+        SupportedSQLCheckCache checkCache = SupportedSQLCheckCache.getInstance();
+        long metaDataVersion = database.getMetaDataVersion();
+        if (checkCache.isChecked(database.getName(), queryContext.getSql(), metaDataVersion)) {
+            return;
+        }
         new SupportedSQLCheckEngine().checkSQL(database.getRuleMetaData().getRules(), queryContext.getSqlStatementContext(), database.getSchemas(), database.getName());
+        checkCache.markChecked(database.getName(), queryContext.getSql(), metaDataVersion);
     }
     
     private RouteContext route(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final ConnectionContext connectionContext) {
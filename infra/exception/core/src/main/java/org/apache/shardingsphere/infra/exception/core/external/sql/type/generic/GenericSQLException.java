@@ -33,6 +33,10 @@ public abstract class GenericSQLException extends ShardingSphereSQLException {
         super(sqlState, TYPE_OFFSET, errorCode, reason, messageArgs);
     }
     
+    protected GenericSQLException(final SQLState sqlState, final int errorCode, final Exception cause, final String reason, final Object... messageArgs) {
+        super(sqlState, TYPE_OFFSET, errorCode, cause, reason, messageArgs);
+    }
+    
     protected GenericSQLException(final String reason, final SQLState sqlState, final int errorCode, final Exception cause) {
         super(sqlState.getValue(), TYPE_OFFSET, errorCode, reason, cause);
     }
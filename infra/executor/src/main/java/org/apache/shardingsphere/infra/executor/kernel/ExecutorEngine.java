@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedGroupResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -31,7 +32,9 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 
 /**
@@ -43,8 +46,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, ExecutorServiceManager.DEFAULT_NAME_FORMAT, virtualThreadEnabled);
     }
     
     /**
@@ -54,7 +57,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, ignored if virtual thread is used
+     * @param virtualThreadEnabled whether using virtual thread or not, fallback to platform thread if virtual thread is not supported by current JVM
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -78,6 +92,45 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute and return group results in completion order.
+     *
+     * <p>The first group is executed in trunk thread, other groups are executed in parallel and their results can be consumed as soon as each group completes.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param timeoutMillis timeout milliseconds of the whole execution, 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return group results in completion order
+     * @throws SQLException throw if execute first group failure
+     */
+    public <I, O> CompletionOrderedGroupResults<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                                          final ExecutorCallback<I, O> callback, final long timeoutMillis) throws SQLException {
+        long startNanoTime = System.nanoTime();
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return new CompletionOrderedGroupResults<>(null, completionService, Collections.emptyList(), timeoutMillis, startNanoTime);
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        Collection<Future<Collection<O>>> restResultFutures = new LinkedList<>();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            restResultFutures.add(completionService.submit(() -> callback.execute(each.getInputs(), false, processId)));
+        }
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback);
+        } catch (final SQLException | RuntimeException ex) {
+            restResultFutures.forEach(each -> each.cancel(false));
+            throw ex;
+        }
+        return new CompletionOrderedGroupResults<>(firstResults, completionService, restResultFutures, timeoutMillis, startNanoTime);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
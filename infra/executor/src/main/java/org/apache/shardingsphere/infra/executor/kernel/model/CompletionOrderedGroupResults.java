@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group results in completion order.
+ *
+ * <p>Results of the trunk group are returned first, then results of the other groups are returned as soon as each group completes.
+ * Timeout is the deadline of the whole execution counted from the start of execution, not the wait time for each group.
+ * Once any group fails or times out, all uncompleted groups are cancelled.
+ * Running groups are not interrupted, because interrupting a thread inside JDBC call may break the connection,
+ * they are stopped by statement cancel or query timeout instead.</p>
+ *
+ * @param <O> type of group result
+ */
+public final class CompletionOrderedGroupResults<O> implements AutoCloseable {
+    
+    private final Collection<O> trunkResults;
+    
+    private final CompletionService<Collection<O>> completionService;
+    
+    private final Collection<Future<Collection<O>>> futures;
+    
+    private final long timeoutMillis;
+    
+    private final long startNanoTime;
+    
+    private int remainingCount;
+    
+    private boolean trunkResultsReturned;
+    
+    public CompletionOrderedGroupResults(final Collection<O> trunkResults, final CompletionService<Collection<O>> completionService,
+                                         final Collection<Future<Collection<O>>> futures, final long timeoutMillis, final long startNanoTime) {
+        this.trunkResults = trunkResults;
+        this.completionService = completionService;
+        this.futures = futures;
+        this.timeoutMillis = timeoutMillis;
+        this.startNanoTime = startNanoTime;
+        remainingCount = futures.size() + (null == trunkResults ? 0 : 1);
+        trunkResultsReturned = null == trunkResults;
+    }
+    
+    /**
+     * Judge whether there are group results not returned yet.
+     *
+     * @return has next group results or not
+     */
+    public boolean hasNext() {
+        return remainingCount > 0;
+    }
+    
+    /**
+     * Get next completed group results, block until any group completes.
+     *
+     * @return next completed group results
+     * @throws SQLException throw if group execute failure
+     * @throws NoSuchElementException throw if all group results are returned
+     */
+    public Collection<O> next() throws SQLException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        remainingCount--;
+        if (!trunkResultsReturned) {
+            trunkResultsReturned = true;
+            return trunkResults;
+        }
+        try {
+            return takeCompletedFuture().get();
+        } catch (final InterruptedException ex) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        } catch (final ExecutionException ex) {
+            close();
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    private Future<Collection<O>> takeCompletedFuture() throws InterruptedException {
+        if (0L == timeoutMillis) {
+            return completionService.take();
+        }
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis) - (System.nanoTime() - startNanoTime);
+        Future<Collection<O>> result = remainingNanos > 0L ? completionService.poll(remainingNanos, TimeUnit.NANOSECONDS) : completionService.poll();
+        if (null == result) {
+            close();
+            throw new SQLExecutionTimeoutException(timeoutMillis);
+        }
+        return result;
+    }
+    
+    /**
+     * Cancel all uncompleted groups.
+     */
+    @Override
+    public void close() {
+        for (Future<Collection<O>> each : futures) {
+            each.cancel(false);
+        }
+    }
+}
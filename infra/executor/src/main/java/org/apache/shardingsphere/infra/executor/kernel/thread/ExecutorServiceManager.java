@@ -19,7 +19,9 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,9 +31,10 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
-    private static final String DEFAULT_NAME_FORMAT = "%d";
+    public static final String DEFAULT_NAME_FORMAT = "%d";
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
@@ -42,7 +45,20 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(virtualThreadEnabled ? getVirtualThreadExecutorService(executorSize, nameFormat) : getExecutorService(executorSize, nameFormat));
+    }
+    
+    private ExecutorService getVirtualThreadExecutorService(final int executorSize, final String nameFormat) {
+        Optional<ExecutorService> result = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat).flatMap(VirtualThreadSupport::createThreadPerTaskExecutor);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        log.warn("Virtual thread is not supported by current JVM `{}`, fallback to platform thread executor.", System.getProperty("java.version"));
+        return getExecutorService(executorSize, nameFormat);
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -40,4 +41,14 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory, empty if virtual thread is not supported by current JVM
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String nameFormat) {
+        return VirtualThreadSupport.createThreadFactory().map(optional -> new ThreadFactoryBuilder().setThreadFactory(optional).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build());
+    }
 }
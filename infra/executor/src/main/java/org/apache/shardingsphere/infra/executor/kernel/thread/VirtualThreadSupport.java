@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread support.
+ *
+ * <p>Virtual threads are available since JDK 21, they are accessed by reflection because the project is still compiled for JDK 8.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadSupport {
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method FACTORY_METHOD = findMethod(findClass("java.lang.Thread$Builder"), "factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static Class<?> findClass(final String className) {
+        try {
+            return Class.forName(className);
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+    }
+    
+    private static Method findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        if (null == clazz) {
+            return null;
+        }
+        try {
+            return clazz.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD && null != FACTORY_METHOD && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @return virtual thread factory, empty if virtual thread is not supported by current JVM
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static Optional<ThreadFactory> createThreadFactory() {
+        return isSupported() ? Optional.of((ThreadFactory) FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null))) : Optional.empty();
+    }
+    
+    /**
+     * Create executor service which starts a new thread for each task.
+     *
+     * @param threadFactory thread factory
+     * @return executor service, empty if virtual thread is not supported by current JVM
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static Optional<ExecutorService> createThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        return isSupported() ? Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory)) : Optional.empty();
+    }
+}
@@ -20,11 +20,13 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedGroupResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -69,4 +71,32 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and gather results in completion order.
+     *
+     * <p>Results are gathered as soon as each group completes, so the first failure cancels uncompleted groups without waiting for slower groups.
+     * Groups are executed serially by {@link #execute(ExecutionGroupContext, JDBCExecutorCallback)} if in distributed transaction.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result in completion order
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> callback) throws SQLException {
+        if (connectionContext.getTransactionContext().isInDistributedTransaction()) {
+            return execute(executionGroupContext, callback);
+        }
+        try (CompletionOrderedGroupResults<T> groupResults = executorEngine.executeInCompletionOrder(executionGroupContext, null, callback, 0L)) {
+            List<T> result = new LinkedList<>();
+            while (groupResults.hasNext()) {
+                result.addAll(groupResults.next());
+            }
+            return result;
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
@@ -91,4 +91,15 @@ public interface QueryResult extends ExecuteResult, AutoCloseable {
      * @return query result meta data
      */
     QueryResultMetaData getMetaData();
+    
+    /**
+     * Cancel query result, so the rest rows are not transferred any more.
+     *
+     * @throws SQLException SQL exception
+     */
+    default void cancel() throws SQLException {
+    }
+    
+    @Override
+    void close() throws SQLException;
 }
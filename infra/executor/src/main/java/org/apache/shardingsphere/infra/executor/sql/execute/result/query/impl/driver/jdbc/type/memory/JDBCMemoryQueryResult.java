@@ -20,16 +20,36 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * JDBC query result for memory loading.
  */
 public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     
+    private final Collection<MemoryQueryResultDataRow> rows;
+    
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        this(resultSet, databaseType, new QueryResultSpillBudget(0L));
+    }
+    
+    public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final QueryResultSpillBudget spillBudget) throws SQLException {
+        this(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet, spillBudget));
+    }
+    
+    private JDBCMemoryQueryResult(final JDBCQueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+        super(metaData, rows);
+        this.rows = rows;
+    }
+    
+    @Override
+    public void close() {
+        if (rows instanceof SpillableQueryResultDataRows) {
+            ((SpillableQueryResultDataRows) rows).close();
+        }
     }
 }
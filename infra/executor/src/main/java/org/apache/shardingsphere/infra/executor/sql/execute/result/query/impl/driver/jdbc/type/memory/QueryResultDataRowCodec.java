@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec of query result data row.
+ *
+ * <p>Each value is written as a type tag followed by its compact binary form.
+ * Values without binary form (such as blob, clob and array) are kept on heap and referenced by index.</p>
+ */
+final class QueryResultDataRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte SHORT = 2;
+    
+    private static final byte INTEGER = 3;
+    
+    private static final byte LONG = 4;
+    
+    private static final byte FLOAT = 5;
+    
+    private static final byte DOUBLE = 6;
+    
+    private static final byte BIG_INTEGER = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte STRING = 9;
+    
+    private static final byte BYTES = 10;
+    
+    private static final byte DATE = 11;
+    
+    private static final byte TIME = 12;
+    
+    private static final byte TIMESTAMP = 13;
+    
+    private static final byte HEAP_REFERENCE = 14;
+    
+    private final List<Object> heapValues = new ArrayList<>();
+    
+    /**
+     * Estimate encoded length of row.
+     *
+     * @param row row to be estimated
+     * @return estimated encoded length in bytes
+     */
+    static long estimateLength(final List<Object> row) {
+        long result = 0L;
+        for (Object each : row) {
+            result += 1 + estimateValueLength(each);
+        }
+        return result;
+    }
+    
+    private static int estimateValueLength(final Object value) {
+        if (null == value) {
+            return 0;
+        }
+        Class<?> type = value.getClass();
+        if (Boolean.class == type) {
+            return 1;
+        }
+        if (Short.class == type) {
+            return 2;
+        }
+        if (Integer.class == type || Float.class == type) {
+            return 4;
+        }
+        if (Long.class == type || Double.class == type || Date.class == type || Time.class == type) {
+            return 8;
+        }
+        if (Timestamp.class == type) {
+            return 12;
+        }
+        if (BigInteger.class == type) {
+            return 4 + ((BigInteger) value).bitLength() / 8 + 1;
+        }
+        if (BigDecimal.class == type) {
+            return 8 + ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1;
+        }
+        if (String.class == type) {
+            return 4 + ((String) value).length() * 3;
+        }
+        if (byte[].class == type) {
+            return 4 + ((byte[]) value).length;
+        }
+        return 4;
+    }
+    
+    /**
+     * Encode row.
+     *
+     * @param row row to be encoded
+     * @param output output
+     * @throws IOException IO exception
+     */
+    void encode(final List<Object> row, final DataOutput output) throws IOException {
+        for (Object each : row) {
+            encodeValue(each, output);
+        }
+    }
+    
+    private void encodeValue(final Object value, final DataOutput output) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (Boolean.class == type) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (Short.class == type) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (Integer.class == type) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (Long.class == type) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (Float.class == type) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (Double.class == type) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (BigInteger.class == type) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray(), output);
+        } else if (BigDecimal.class == type) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray(), output);
+        } else if (String.class == type) {
+            output.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), output);
+        } else if (byte[].class == type) {
+            output.writeByte(BYTES);
+            writeBytes((byte[]) value, output);
+        } else if (Date.class == type) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == type) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == type) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else {
+            output.writeByte(HEAP_REFERENCE);
+            output.writeInt(heapValues.size());
+            heapValues.add(value);
+        }
+    }
+    
+    private void writeBytes(final byte[] value, final DataOutput output) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    /**
+     * Decode row.
+     *
+     * @param buffer buffer positioned at the beginning of row
+     * @param columnCount column count
+     * @return decoded row
+     */
+    List<Object> decode(final ByteBuffer buffer, final int columnCount) {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(decodeValue(buffer));
+        }
+        return result;
+    }
+    
+    private Object decodeValue(final ByteBuffer buffer) {
+        byte type = buffer.get();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return 0 != buffer.get();
+            case SHORT:
+                return buffer.getShort();
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case FLOAT:
+                return buffer.getFloat();
+            case DOUBLE:
+                return buffer.getDouble();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(buffer));
+            case BIG_DECIMAL:
+                int scale = buffer.getInt();
+                return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+            case STRING:
+                return new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(buffer);
+            case DATE:
+                return new Date(buffer.getLong());
+            case TIME:
+                return new Time(buffer.getLong());
+            case TIMESTAMP:
+                Timestamp result = new Timestamp(buffer.getLong());
+                result.setNanos(buffer.getInt());
+                return result;
+            case HEAP_REFERENCE:
+                return heapValues.get(buffer.getInt());
+            default:
+                throw new IllegalStateException(String.format("Unknown spilled value type `%s`.", type));
+        }
+    }
+    
+    private byte[] readBytes(final ByteBuffer buffer) {
+        byte[] result = new byte[buffer.getInt()];
+        buffer.get(result);
+        return result;
+    }
+}
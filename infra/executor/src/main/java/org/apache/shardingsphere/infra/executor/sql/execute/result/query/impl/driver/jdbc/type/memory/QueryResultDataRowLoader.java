@@ -50,12 +50,42 @@ public final class QueryResultDataRowLoader {
     public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
         Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = resultSetMapper.load(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            result.add(new MemoryQueryResultDataRow(loadRowData(columnCount, resultSet)));
+        }
+        return result;
+    }
+    
+    /**
+     * Load query result data row with spill budget.
+     *
+     * @param columnCount column count
+     * @param resultSet result set
+     * @param spillBudget spill budget of query, rows loaded after it is used up will be spilled to local temporary file
+     * @return query result data row
+     * @throws SQLException SQL exception
+     */
+    public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet, final QueryResultSpillBudget spillBudget) throws SQLException {
+        if (!spillBudget.isEnabled()) {
+            return load(columnCount, resultSet);
+        }
+        SpillableQueryResultDataRows result = new SpillableQueryResultDataRows(columnCount, spillBudget);
+        try {
+            while (resultSet.next()) {
+                result.append(loadRowData(columnCount, resultSet));
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            result.finishAppend();
+        } catch (final SQLException | RuntimeException ex) {
+            result.close();
+            throw ex;
+        }
+        return result;
+    }
+    
+    private List<Object> loadRowData(final int columnCount, final ResultSet resultSet) throws SQLException {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Object rowValue = resultSetMapper.load(resultSet, columnIndex);
+            result.add(resultSet.wasNull() ? null : rowValue);
         }
         return result;
     }
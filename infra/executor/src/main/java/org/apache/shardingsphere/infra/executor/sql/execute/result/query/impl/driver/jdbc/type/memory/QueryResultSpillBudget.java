@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Query result spill budget.
+ *
+ * <p>The budget is shared by all memory query results of one query, rows loaded after the budget is used up are spilled to local temporary files.</p>
+ */
+public final class QueryResultSpillBudget {
+    
+    private final long bytes;
+    
+    private final AtomicLong remainingBytes;
+    
+    public QueryResultSpillBudget(final long bytes) {
+        this.bytes = bytes;
+        remainingBytes = new AtomicLong(bytes);
+    }
+    
+    /**
+     * Judge whether spill is enabled.
+     *
+     * @return spill is enabled or not
+     */
+    public boolean isEnabled() {
+        return bytes > 0L;
+    }
+    
+    /**
+     * Try to acquire bytes from budget.
+     *
+     * @param length length of bytes to be acquired
+     * @return acquired or not
+     */
+    public boolean tryAcquire(final long length) {
+        return remainingBytes.addAndGet(-length) >= 0L;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.exception.generic.FileIOException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Spillable query result data rows.
+ *
+ * <p>Rows are kept on heap until the spill budget of query is used up, the following rows are encoded into a local temporary file,
+ * and read back lazily through memory mapped regions. The mapped region is unmapped and the file is deleted once all rows are read or rows are closed.</p>
+ */
+final class SpillableQueryResultDataRows extends AbstractCollection<MemoryQueryResultDataRow> implements AutoCloseable {
+    
+    private static final int MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+    
+    private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+    
+    private final int columnCount;
+    
+    private final QueryResultSpillBudget spillBudget;
+    
+    private final Collection<MemoryQueryResultDataRow> memoryRows = new LinkedList<>();
+    
+    private final QueryResultDataRowCodec codec = new QueryResultDataRowCodec();
+    
+    private final ByteArrayOutputStream rowBuffer = new ByteArrayOutputStream();
+    
+    private final DataOutputStream rowOutput = new DataOutputStream(rowBuffer);
+    
+    private File file;
+    
+    private DataOutputStream fileOutput;
+    
+    private FileChannel fileChannel;
+    
+    private MappedByteBuffer region;
+    
+    private long regionStart;
+    
+    private int spilledRowCount;
+    
+    private boolean closed;
+    
+    SpillableQueryResultDataRows(final int columnCount, final QueryResultSpillBudget spillBudget) {
+        this.columnCount = columnCount;
+        this.spillBudget = spillBudget;
+    }
+    
+    private static Consumer<ByteBuffer> createUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            Object unsafe = unsafeField.get(null);
+            return buffer -> invokeQuietly(invokeCleanerMethod, unsafe, buffer);
+        } catch (final ReflectiveOperationException ignored) {
+            return SpillableQueryResultDataRows::cleanDirectBuffer;
+        }
+    }
+    
+    private static void cleanDirectBuffer(final ByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (null != cleaner) {
+                invokeQuietly(cleaner.getClass().getMethod("clean"), cleaner);
+            }
+        } catch (final ReflectiveOperationException ignored) {
+            // mapped region is released by GC if it can not be unmapped
+        }
+    }
+    
+    private static void invokeQuietly(final Method method, final Object target, final Object... args) {
+        try {
+            method.invoke(target, args);
+        } catch (final ReflectiveOperationException ignored) {
+            // mapped region is released by GC if it can not be unmapped
+        }
+    }
+    
+    /**
+     * Append row.
+     *
+     * @param row row to be appended
+     */
+    void append(final List<Object> row) {
+        if (null == file) {
+            if (spillBudget.tryAcquire(QueryResultDataRowCodec.estimateLength(row))) {
+                memoryRows.add(new MemoryQueryResultDataRow(row));
+                return;
+            }
+            openSpillFile();
+        }
+        try {
+            rowBuffer.reset();
+            codec.encode(row, rowOutput);
+            fileOutput.writeInt(rowBuffer.size());
+            rowBuffer.writeTo(fileOutput);
+        } catch (final IOException ex) {
+            throw new FileIOException(file, ex);
+        }
+        spilledRowCount++;
+    }
+    
+    private void openSpillFile() {
+        try {
+            file = Files.createTempFile("shardingsphere-query-result-", ".spill").toFile();
+            fileOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())));
+        } catch (final IOException ex) {
+            throw new FileIOException(null == file ? new File(System.getProperty("java.io.tmpdir")) : file, ex);
+        }
+    }
+    
+    /**
+     * Finish append.
+     */
+    void finishAppend() {
+        if (null == fileOutput) {
+            return;
+        }
+        try {
+            fileOutput.close();
+            fileOutput = null;
+            fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        } catch (final IOException ex) {
+            throw new FileIOException(file, ex);
+        }
+    }
+    
+    /**
+     * Judge whether rows are spilled.
+     *
+     * @return rows are spilled or not
+     */
+    boolean isSpilled() {
+        return null != file;
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultDataRow> iterator() {
+        return new SpillableRowIterator();
+    }
+    
+    @Override
+    public int size() {
+        return memoryRows.size() + spilledRowCount;
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null == file || closed) {
+            return;
+        }
+        closed = true;
+        unmapRegion();
+        try {
+            if (null != fileOutput) {
+                fileOutput.close();
+                fileOutput = null;
+            }
+            if (null != fileChannel) {
+                fileChannel.close();
+                fileChannel = null;
+            }
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException ex) {
+            throw new FileIOException(file, ex);
+        }
+    }
+    
+    private synchronized MemoryQueryResultDataRow readSpilledRow(final SpillableRowIterator iterator) {
+        if (closed) {
+            throw new NoSuchElementException();
+        }
+        ensureMapped(iterator.position, Integer.BYTES);
+        int rowLength = region.getInt((int) (iterator.position - regionStart));
+        iterator.position += Integer.BYTES;
+        ensureMapped(iterator.position, rowLength);
+        region.position((int) (iterator.position - regionStart));
+        List<Object> result = codec.decode(region, columnCount);
+        iterator.position += rowLength;
+        return new MemoryQueryResultDataRow(result);
+    }
+    
+    private void ensureMapped(final long position, final int length) {
+        if (null != region && position >= regionStart && position + length <= regionStart + region.limit()) {
+            return;
+        }
+        unmapRegion();
+        try {
+            long size = Math.min(fileChannel.size() - position, Math.max(MAPPED_REGION_SIZE, length));
+            region = fileChannel.map(MapMode.READ_ONLY, position, size);
+            regionStart = position;
+        } catch (final IOException ex) {
+            throw new FileIOException(file, ex);
+        }
+    }
+    
+    private void unmapRegion() {
+        if (null != region) {
+            UNMAPPER.accept(region);
+            region = null;
+        }
+    }
+    
+    private final class SpillableRowIterator implements Iterator<MemoryQueryResultDataRow> {
+        
+        private final Iterator<MemoryQueryResultDataRow> memoryRowIterator = memoryRows.iterator();
+        
+        private int readSpilledRowCount;
+        
+        private long position;
+        
+        @Override
+        public boolean hasNext() {
+            return memoryRowIterator.hasNext() || readSpilledRowCount < spilledRowCount;
+        }
+        
+        @Override
+        public MemoryQueryResultDataRow next() {
+            if (memoryRowIterator.hasNext()) {
+                return memoryRowIterator.next();
+            }
+            if (readSpilledRowCount >= spilledRowCount) {
+                throw new NoSuchElementException();
+            }
+            MemoryQueryResultDataRow result = readSpilledRow(this);
+            if (++readSpilledRowCount == spilledRowCount) {
+                close();
+            }
+            return result;
+        }
+    }
+}
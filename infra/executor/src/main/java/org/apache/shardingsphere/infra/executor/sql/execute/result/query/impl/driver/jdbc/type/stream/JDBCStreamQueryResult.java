@@ -32,6 +32,7 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -146,6 +147,14 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
         return resultSet.wasNull();
     }
     
+    @Override
+    public void cancel() throws SQLException {
+        Statement statement = resultSet.getStatement();
+        if (null != statement) {
+            statement.cancel();
+        }
+    }
+    
     @Override
     public void close() throws SQLException {
         resultSet.close();
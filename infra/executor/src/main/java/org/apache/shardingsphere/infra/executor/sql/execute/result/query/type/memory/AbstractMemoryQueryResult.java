@@ -114,6 +114,6 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     }
     
     @Override
-    public final void close() {
+    public void close() {
     }
 }
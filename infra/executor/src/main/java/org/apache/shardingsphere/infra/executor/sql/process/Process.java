@@ -45,6 +45,10 @@ public final class Process {
     
     private final Map<Integer, Statement> processStatements = new ConcurrentHashMap<>();
     
+    private final Map<String, AtomicInteger> dataSourceTotalUnitCounts = new ConcurrentHashMap<>();
+    
+    private final Map<String, AtomicInteger> dataSourceCompletedUnitCounts = new ConcurrentHashMap<>();
+    
     private final String id;
     
     private final long startMillis;
@@ -83,6 +87,7 @@ public final class Process {
         hostname = grantee.map(Grantee::getHostname).orElse("");
         totalUnitCount = new AtomicInteger(getTotalUnitCount(executionGroupContext));
         processStatements.putAll(createProcessStatements(executionGroupContext));
+        dataSourceTotalUnitCounts.putAll(createDataSourceTotalUnitCounts(executionGroupContext));
         completedUnitCount = new AtomicInteger(0);
         this.idle = new AtomicBoolean(idle);
         interrupted = new AtomicBoolean();
@@ -109,6 +114,16 @@ public final class Process {
         return result;
     }
     
+    private Map<String, AtomicInteger> createDataSourceTotalUnitCounts(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
+        Map<String, AtomicInteger> result = new LinkedHashMap<>();
+        for (ExecutionGroup<? extends SQLExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (SQLExecutionUnit executionUnit : each.getInputs()) {
+                result.computeIfAbsent(executionUnit.getExecutionUnit().getDataSourceName(), key -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+        return result;
+    }
+    
     /**
      * Complete execution unit.
      */
@@ -116,6 +131,16 @@ public final class Process {
         completedUnitCount.incrementAndGet();
     }
     
+    /**
+     * Complete execution unit of data source.
+     *
+     * @param dataSourceName data source name
+     */
+    public void completeExecutionUnit(final String dataSourceName) {
+        completeExecutionUnit();
+        dataSourceCompletedUnitCounts.computeIfAbsent(dataSourceName, key -> new AtomicInteger()).incrementAndGet();
+    }
+    
     /**
      * Is interrupted.
      *
@@ -99,7 +99,7 @@ public final class ProcessEngine {
         if (null == process) {
             return;
         }
-        process.completeExecutionUnit();
+        process.completeExecutionUnit(executionUnit.getExecutionUnit().getDataSourceName());
         process.removeProcessStatement(executionUnit.getExecutionUnit());
     }
     
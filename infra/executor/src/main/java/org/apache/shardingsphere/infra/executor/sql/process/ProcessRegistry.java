@@ -26,7 +26,9 @@ import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionI
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Process registry.
@@ -72,6 +74,14 @@ public final class ProcessRegistry {
         oldProcess.getIdle().set(newProcess.getIdle().get());
         oldProcess.getInterrupted().compareAndSet(false, newProcess.getInterrupted().get());
         oldProcess.getProcessStatements().putAll(newProcess.getProcessStatements());
+        mergeDataSourceUnitCounts(oldProcess.getDataSourceTotalUnitCounts(), newProcess.getDataSourceTotalUnitCounts());
+        mergeDataSourceUnitCounts(oldProcess.getDataSourceCompletedUnitCounts(), newProcess.getDataSourceCompletedUnitCounts());
+    }
+    
+    private void mergeDataSourceUnitCounts(final Map<String, AtomicInteger> oldUnitCounts, final Map<String, AtomicInteger> newUnitCounts) {
+        for (Entry<String, AtomicInteger> entry : newUnitCounts.entrySet()) {
+            oldUnitCounts.computeIfAbsent(entry.getKey(), key -> new AtomicInteger()).addAndGet(entry.getValue().get());
+        }
     }
     
     /**
@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.util.yaml.YamlConfiguration;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * YAML process.
  */
@@ -44,6 +47,10 @@ public final class YamlProcess implements YamlConfiguration {
     
     private int completedUnitCount;
     
+    private Map<String, Integer> dataSourceTotalUnitCounts = new LinkedHashMap<>();
+    
+    private Map<String, Integer> dataSourceCompletedUnitCounts = new LinkedHashMap<>();
+    
     private boolean idle;
     
     private boolean interrupted;
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.process.Process;
 import org.apache.shardingsphere.infra.executor.sql.process.yaml.YamlProcess;
 import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -40,6 +41,8 @@ public final class YamlProcessSwapper implements YamlConfigurationSwapper<YamlPr
         result.setHostname(data.getHostname());
         result.setTotalUnitCount(data.getTotalUnitCount().get());
         result.setCompletedUnitCount(data.getCompletedUnitCount().get());
+        data.getDataSourceTotalUnitCounts().forEach((key, value) -> result.getDataSourceTotalUnitCounts().put(key, value.get()));
+        data.getDataSourceCompletedUnitCounts().forEach((key, value) -> result.getDataSourceCompletedUnitCounts().put(key, value.get()));
         result.setIdle(data.isIdle());
         result.setInterrupted(data.isInterrupted());
         return result;
@@ -47,8 +50,17 @@ public final class YamlProcessSwapper implements YamlConfigurationSwapper<YamlPr
     
     @Override
     public Process swapToObject(final YamlProcess yamlConfig) {
-        return new Process(yamlConfig.getId(), yamlConfig.getStartMillis(), yamlConfig.getSql(), yamlConfig.getDatabaseName(), yamlConfig.getUsername(), yamlConfig.getHostname(),
+        Process result = new Process(yamlConfig.getId(), yamlConfig.getStartMillis(), yamlConfig.getSql(), yamlConfig.getDatabaseName(), yamlConfig.getUsername(), yamlConfig.getHostname(),
                 new AtomicInteger(yamlConfig.getTotalUnitCount()), new AtomicInteger(yamlConfig.getCompletedUnitCount()), new AtomicBoolean(yamlConfig.isIdle()),
                 new AtomicBoolean(yamlConfig.isInterrupted()));
+        swapToDataSourceUnitCounts(yamlConfig.getDataSourceTotalUnitCounts(), result.getDataSourceTotalUnitCounts());
+        swapToDataSourceUnitCounts(yamlConfig.getDataSourceCompletedUnitCounts(), result.getDataSourceCompletedUnitCounts());
+        return result;
+    }
+    
+    private void swapToDataSourceUnitCounts(final Map<String, Integer> yamlUnitCounts, final Map<String, AtomicInteger> unitCounts) {
+        if (null != yamlUnitCounts) {
+            yamlUnitCounts.forEach((key, value) -> unitCounts.put(key, new AtomicInteger(value)));
+        }
     }
 }
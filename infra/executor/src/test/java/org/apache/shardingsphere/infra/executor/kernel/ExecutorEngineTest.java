@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedGroupResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,10 +32,14 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +95,90 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        try (CompletionOrderedGroupResults<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, 0L)) {
+            assertThat(actual.next().size(), is(2));
+            assertThat(actual.next().size(), is(2));
+            assertFalse(actual.hasNext());
+        }
+        latch.await();
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithoutRemainingResults() throws SQLException, InterruptedException {
+        try (CompletionOrderedGroupResults<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, 0L)) {
+            actual.next();
+            actual.next();
+            assertThrows(NoSuchElementException.class, actual::next);
+        }
+        latch.await();
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithEmptyGroups() throws SQLException {
+        ExecutionGroupContext<Object> emptyExecutionGroupContext = createMockedExecutionGroups(0, 0);
+        try (CompletionOrderedGroupResults<String> actual = executorEngine.executeInCompletionOrder(emptyExecutionGroupContext, firstCallback, callback, 0L)) {
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFailure() throws SQLException {
+        SQLException expected = new SQLException("failed");
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+            throw expected;
+        };
+        try (CompletionOrderedGroupResults<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, failedCallback, 0L)) {
+            assertThat(actual.next().size(), is(2));
+            assertThat(assertThrows(SQLException.class, actual::next), is(expected));
+        }
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithTimeout() throws SQLException {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            try {
+                blockingLatch.await();
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            return new LinkedList<>();
+        };
+        try (CompletionOrderedGroupResults<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, blockingCallback, 10L)) {
+            assertThat(actual.next().size(), is(2));
+            assertThrows(SQLExecutionTimeoutException.class, actual::next);
+        } finally {
+            blockingLatch.countDown();
+        }
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithTimeoutNotInterruptRunningGroups() throws SQLException, InterruptedException {
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CountDownLatch completedLatch = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        ExecutorCallback<Object, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            startedLatch.countDown();
+            try {
+                blockingLatch.await();
+            } catch (final InterruptedException ignored) {
+                interrupted.set(true);
+            }
+            completedLatch.countDown();
+            return new LinkedList<>();
+        };
+        try (CompletionOrderedGroupResults<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, blockingCallback, 10L)) {
+            assertThat(actual.next().size(), is(2));
+            startedLatch.await();
+            assertThrows(SQLExecutionTimeoutException.class, actual::next);
+        } finally {
+            blockingLatch.countDown();
+        }
+        completedLatch.await();
+        assertFalse(interrupted.get());
+    }
 }
@@ -22,6 +22,7 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -50,6 +51,13 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    void assertExecuteWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "test-%d", true);
+        assertThat(executorServiceManager.getExecutorService().submit(() -> "foo").get(), is("foo"));
+        executorServiceManager.close();
+    }
+    
     private void assertFinished(final AtomicBoolean finished) {
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).pollInterval(100L, TimeUnit.MILLISECONDS).until(finished::get);
     }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -33,4 +34,12 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildVirtualWithNameFormat() {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual("test");
+        assertThat(threadFactory.isPresent(), is(VirtualThreadSupport.isSupported()));
+        threadFactory.ifPresent(optional -> assertThat(optional.newThread(() -> {
+        }).getName(), is("ShardingSphere-test")));
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedGroupResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -30,12 +31,14 @@ import org.junit.jupiter.api.Test;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +57,18 @@ class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroup<JDBCExecutionUnit> group = new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class)));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(group), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeInCompletionOrder(any(), any(), any(), anyLong())).thenReturn(
+                new CompletionOrderedGroupResults<>(Collections.singletonList("test"), mock(CompletionService.class), Collections.emptyList(), 0L, System.nanoTime()));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet));
+        assertThat(jdbcExecutor.executeInCompletionOrder(context, null), is(Collections.singletonList("test")));
+    }
+    
     @Test
     void assertExecuteSQLException() {
         try {
@@ -27,6 +27,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
 import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.Blob;
@@ -391,6 +395,64 @@ class JDBCMemoryQueryResultTest {
         assertThat(queryResult.getRowCount(), is(0L));
     }
     
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(4);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.DECIMAL);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.TIMESTAMP);
+        when(resultSetMetaData.getColumnType(4)).thenReturn(Types.CLOB);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        Timestamp timestamp = new Timestamp(0L);
+        timestamp.setNanos(123456789);
+        Clob clob = mock(Clob.class);
+        when(resultSet.getString(1)).thenReturn("foo", "bar", null);
+        when(resultSet.getBigDecimal(2)).thenReturn(new BigDecimal("1.10"), new BigDecimal("-2.5"), BigDecimal.ZERO);
+        when(resultSet.getTimestamp(3)).thenReturn(timestamp);
+        when(resultSet.getClob(4)).thenReturn(clob);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType, new QueryResultSpillBudget(1L));
+        assertThat(actual.getRowCount(), is(3L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("bar"));
+        assertThat(actual.getValue(2, BigDecimal.class), is(new BigDecimal("-2.5")));
+        assertThat(actual.getValue(3, Timestamp.class), is(timestamp));
+        assertThat(actual.getValue(4, Clob.class), is(clob));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertThat(actual.getValue(2, BigDecimal.class), is(BigDecimal.ZERO));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseWithSpillBeforeAllRowsRead() throws SQLException, IOException {
+        long originalSpillFileCount = getSpillFileCount();
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet.getString(1)).thenReturn("foo", "bar", "baz");
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType, new QueryResultSpillBudget(1L));
+        assertThat(getSpillFileCount(), is(originalSpillFileCount + 1L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        actual.close();
+        assertThat(getSpillFileCount(), is(originalSpillFileCount));
+    }
+    
+    private long getSpillFileCount() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-query-result-")).count();
+        }
+    }
+    
     private ResultSet mockResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
@@ -26,17 +26,20 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -266,6 +269,22 @@ class JDBCStreamQueryResultTest {
         assertTrue(actual.wasNull());
     }
     
+    @Test
+    void assertCancel() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        new JDBCStreamQueryResult(resultSet).cancel();
+        verify(statement).cancel();
+        verify(resultSet, never()).close();
+    }
+    
+    @Test
+    void assertCancelWithoutStatement() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        assertDoesNotThrow(() -> new JDBCStreamQueryResult(resultSet).cancel());
+    }
+    
     private ResultSet getResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
@@ -19,9 +19,14 @@ package org.apache.shardingsphere.infra.executor.sql.process;
 
 import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
@@ -38,11 +43,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -89,7 +100,29 @@ class ProcessEngineTest {
     @Test
     void assertCompleteSQLUnitExecution() {
         when(processRegistry.get("foo_id")).thenReturn(mock(Process.class));
-        new ProcessEngine().completeSQLUnitExecution(mock(SQLExecutionUnit.class), "foo_id");
+        new ProcessEngine().completeSQLUnitExecution(mock(SQLExecutionUnit.class, RETURNS_DEEP_STUBS), "foo_id");
         verify(processRegistry).get("foo_id");
     }
+    
+    @Test
+    void assertCompleteSQLUnitExecutionWithDataSourceUnitCounts() {
+        JDBCExecutionUnit fooExecutionUnit = createJDBCExecutionUnit("foo_ds", "CREATE TABLE foo_tbl_0 (id INT)");
+        JDBCExecutionUnit anotherFooExecutionUnit = createJDBCExecutionUnit("foo_ds", "CREATE TABLE foo_tbl_1 (id INT)");
+        JDBCExecutionUnit barExecutionUnit = createJDBCExecutionUnit("bar_ds", "CREATE TABLE foo_tbl_0 (id INT)");
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Arrays.asList(new ExecutionGroup<>(Collections.singletonList(fooExecutionUnit)),
+                new ExecutionGroup<>(Arrays.asList(anotherFooExecutionUnit, barExecutionUnit))), new ExecutionGroupReportContext("foo_id", "foo_db"));
+        Process process = new Process("CREATE TABLE foo_tbl (id INT)", executionGroupContext);
+        when(processRegistry.get("foo_id")).thenReturn(process);
+        new ProcessEngine().completeSQLUnitExecution(fooExecutionUnit, "foo_id");
+        assertThat(process.getTotalUnitCount().get(), is(3));
+        assertThat(process.getCompletedUnitCount().get(), is(1));
+        assertThat(process.getDataSourceTotalUnitCounts().get("foo_ds").get(), is(2));
+        assertThat(process.getDataSourceTotalUnitCounts().get("bar_ds").get(), is(1));
+        assertThat(process.getDataSourceCompletedUnitCounts().get("foo_ds").get(), is(1));
+        assertFalse(process.getDataSourceCompletedUnitCounts().containsKey("bar_ds"));
+    }
+    
+    private JDBCExecutionUnit createJDBCExecutionUnit(final String dataSourceName, final String sql) {
+        return new JDBCExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql, Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY, mock(Statement.class));
+    }
 }
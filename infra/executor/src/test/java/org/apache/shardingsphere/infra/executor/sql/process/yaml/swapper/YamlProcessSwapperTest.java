@@ -53,6 +53,8 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getCompletedUnitCount(), is(0));
         assertThat(actual.getTotalUnitCount(), is(0));
+        assertTrue(actual.getDataSourceTotalUnitCounts().isEmpty());
+        assertTrue(actual.getDataSourceCompletedUnitCounts().isEmpty());
         assertFalse(actual.isIdle());
     }
     
@@ -67,6 +69,8 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getTotalUnitCount().get(), is(10));
         assertThat(actual.getCompletedUnitCount().get(), is(5));
+        assertThat(actual.getDataSourceTotalUnitCounts().get("foo_ds").get(), is(10));
+        assertThat(actual.getDataSourceCompletedUnitCounts().get("foo_ds").get(), is(5));
         assertTrue(actual.isIdle());
     }
     
@@ -80,6 +84,8 @@ class YamlProcessSwapperTest {
         result.setHostname("localhost");
         result.setTotalUnitCount(10);
         result.setCompletedUnitCount(5);
+        result.getDataSourceTotalUnitCounts().put("foo_ds", 10);
+        result.getDataSourceCompletedUnitCounts().put("foo_ds", 5);
         result.setIdle(true);
         return result;
     }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Only supports expressions composed of literal text and placeholders like {@code ${column}} or {@code ${column % 2}},
+ * which covers the common shapes of inline sharding algorithm. It is immutable and can be evaluated concurrently.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledInlineExpression {
+    
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("^([A-Za-z_][A-Za-z0-9_]*)$");
+    
+    private static final Pattern MODULO_PATTERN = Pattern.compile("^([A-Za-z_][A-Za-z0-9_]*)\\s*%\\s*([1-9][0-9]{0,17})$");
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "owner", "delegate", "super", "null", "true", "false"));
+    
+    private final List<Segment> segments;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with placeholders already handled
+     * @return compiled inline expression, empty if expression is not supported
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        if (null == inlineExpression) {
+            return Optional.empty();
+        }
+        List<Segment> result = new ArrayList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int placeholderBegin = inlineExpression.indexOf("${", index);
+            String literal = -1 == placeholderBegin ? inlineExpression.substring(index) : inlineExpression.substring(index, placeholderBegin);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                result.add(new Segment(literal, null, 0L));
+            }
+            if (-1 == placeholderBegin) {
+                break;
+            }
+            int placeholderEnd = inlineExpression.indexOf('}', placeholderBegin);
+            if (-1 == placeholderEnd) {
+                return Optional.empty();
+            }
+            Optional<Segment> placeholder = compilePlaceholder(inlineExpression.substring(placeholderBegin + 2, placeholderEnd));
+            if (!placeholder.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(placeholder.get());
+            index = placeholderEnd + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(result));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\');
+    }
+    
+    private static Optional<Segment> compilePlaceholder(final String placeholder) {
+        String expression = placeholder.trim();
+        if (expression.startsWith("(") && expression.endsWith(")")) {
+            expression = expression.substring(1, expression.length() - 1).trim();
+        }
+        Matcher variableMatcher = VARIABLE_PATTERN.matcher(expression);
+        if (variableMatcher.matches()) {
+            return isReservedWord(variableMatcher.group(1)) ? Optional.empty() : Optional.of(new Segment(null, variableMatcher.group(1), 0L));
+        }
+        Matcher moduloMatcher = MODULO_PATTERN.matcher(expression);
+        if (moduloMatcher.matches()) {
+            return isReservedWord(moduloMatcher.group(1)) ? Optional.empty() : Optional.of(new Segment(null, moduloMatcher.group(1), Long.parseLong(moduloMatcher.group(2))));
+        }
+        return Optional.empty();
+    }
+    
+    private static boolean isReservedWord(final String variable) {
+        return RESERVED_WORDS.contains(variable);
+    }
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param map arguments
+     * @return evaluated result, empty if any argument is missing or its type is not supported by compiled expression
+     */
+    Optional<String> evaluate(final Map<String, Comparable<?>> map) {
+        StringBuilder result = new StringBuilder();
+        for (Segment each : segments) {
+            if (null != each.literal) {
+                result.append(each.literal);
+                continue;
+            }
+            Comparable<?> value = map.get(each.variable);
+            if (0L == each.divisor) {
+                if (!isString(value) && !isIntegral(value)) {
+                    return Optional.empty();
+                }
+                result.append(value);
+            } else {
+                if (!isIntegral(value)) {
+                    return Optional.empty();
+                }
+                result.append(((Number) value).longValue() % each.divisor);
+            }
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private boolean isString(final Object value) {
+        return null != value && String.class == value.getClass();
+    }
+    
+    private boolean isIntegral(final Object value) {
+        if (null == value) {
+            return false;
+        }
+        Class<?> type = value.getClass();
+        return Integer.class == type || Long.class == type || Short.class == type || Byte.class == type;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Segment {
+        
+        private final String literal;
+        
+        private final String variable;
+        
+        private final long divisor;
+    }
+}
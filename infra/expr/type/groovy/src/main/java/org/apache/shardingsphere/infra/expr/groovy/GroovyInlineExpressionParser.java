@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -51,6 +52,10 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private String inlineExpression;
     
+    private volatile CompiledInlineExpression compiledInlineExpression;
+    
+    private volatile Closure<?> closure;
+    
     @Override
     public void init(final Properties props) {
         inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
@@ -84,16 +89,42 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     /**
      * Turn inline expression into Groovy Closure. This function will replace all inline expression placeholders.
      * For compatibility reasons, it does not check whether the unit of the input parameter map is null.
+     * Common shapes like {@code t_order_${order_id % 2}} are evaluated by compiled expression, and others fall back to Groovy Closure.
+     * The compiled expression and Groovy Closure are created once and reused, so the parser instance can be cached and shared by threads.
      * @return The result of the Groovy Closure pattern.
      */
     @Override
     public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
-        Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}")).rehydrate(new Expando(), null, null);
+        Optional<String> result = getCompiledInlineExpression().flatMap(each -> each.evaluate(map));
+        return result.orElseGet(() -> evaluateWithClosure(map));
+    }
+    
+    private Optional<CompiledInlineExpression> getCompiledInlineExpression() {
+        if (null == compiledInlineExpression && null == closure) {
+            Optional<CompiledInlineExpression> compiled = CompiledInlineExpression.compile(handlePlaceHolder(inlineExpression));
+            if (compiled.isPresent()) {
+                compiledInlineExpression = compiled.get();
+            } else {
+                closure = createClosure();
+            }
+        }
+        return Optional.ofNullable(compiledInlineExpression);
+    }
+    
+    private String evaluateWithClosure(final Map<String, Comparable<?>> map) {
+        if (null == closure) {
+            closure = createClosure();
+        }
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         map.forEach(result::setProperty);
         return result.call().toString();
     }
     
+    private Closure<?> createClosure() {
+        return (Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}");
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @Test
+    void assertCompileUnsupportedExpression() {
+        assertFalse(CompiledInlineExpression.compile(null).isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.hashCode() % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[0, 1]}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${it}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_\"order\"_${order_id}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluate() {
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("user_id", 3);
+        args.put("order_id", 10L);
+        assertThat(CompiledInlineExpression.compile("ds_${user_id % 2}.t_order_${(order_id % 4)}").get().evaluate(args).get(), is("ds_1.t_order_2"));
+        assertThat(CompiledInlineExpression.compile("t_order_${order_id}").get().evaluate(Collections.singletonMap("order_id", "foo")).get(), is("t_order_foo"));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression expression = CompiledInlineExpression.compile("t_order_${order_id % 2}").get();
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", "foo")).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", new BigDecimal("1"))).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+        assertTrue(expression.evaluate(Collections.singletonMap("order_id", (short) 1)).isPresent());
+    }
+}
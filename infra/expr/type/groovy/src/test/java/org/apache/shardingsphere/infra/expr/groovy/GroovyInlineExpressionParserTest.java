@@ -142,6 +142,23 @@ class GroovyInlineExpressionParserTest {
                 new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "${1+2}"))).evaluateWithArgs(new LinkedHashMap<>()), is("3"));
     }
     
+    @Test
+    void assertEvaluateWithArgsForModulo() {
+        InlineExpressionParser parser = TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", PropertiesBuilder.build(
+                new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "t_order_$->{order_id % 4}")));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", 10)), is("t_order_2"));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", 11L)), is("t_order_3"));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", -3)), is("t_order_-3"));
+    }
+    
+    @Test
+    void assertEvaluateWithArgsForClosureFallback() {
+        InlineExpressionParser parser = TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", PropertiesBuilder.build(
+                new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "t_user_${name.toUpperCase()}")));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("name", "foo")), is("t_user_FOO"));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("name", "bar")), is("t_user_BAR"));
+    }
+    
     @Test
     @SneakyThrows({ExecutionException.class, InterruptedException.class})
     void assertThreadSafety() {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.merge.result.impl.decorator;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -59,4 +60,22 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    /**
+     * Close query results of decorated merged result, which will not be read any more.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected final void closeQueryResults() throws SQLException {
+        if (mergedResult instanceof StreamMergedResult) {
+            ((StreamMergedResult) mergedResult).closeQueryResults();
+        } else {
+            mergedResult.close();
+        }
+    }
 }
@@ -74,4 +74,14 @@ public abstract class StreamMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    /**
+     * Close query results before the merged result is closed, it is called when no more data will be read, such as the row count of pagination is reached.
+     *
+     * <p>Query results are cancelled before closed, because closing streaming query results of some drivers reads all the rest rows.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public void closeQueryResults() throws SQLException {
+    }
 }
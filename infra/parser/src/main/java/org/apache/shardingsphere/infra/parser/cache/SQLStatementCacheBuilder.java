@@ -21,7 +21,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
@@ -35,13 +35,11 @@ public final class SQLStatementCacheBuilder {
      * Build SQL statement cache.
      *
      * @param sqlStatementCacheOption SQL statement cache option
-     * @param parseTreeCacheOption parse tree cache option
-     * @param databaseType database type
+     * @param sqlStatementParserExecutor SQL statement parser executor to load missed SQL statements
      * @return built SQL statement cache
      */
-    public static LoadingCache<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
-                                                           final CacheOption parseTreeCacheOption) {
+    public static LoadingCache<String, SQLStatement> build(final CacheOption sqlStatementCacheOption, final SQLStatementParserExecutor sqlStatementParserExecutor) {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
+                .recordStats().build(new SQLStatementCacheLoader(sqlStatementParserExecutor));
     }
 }
@@ -18,9 +18,8 @@
 package org.apache.shardingsphere.infra.parser.cache;
 
 import com.github.benmanes.caffeine.cache.CacheLoader;
-import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
-import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -28,17 +27,14 @@ import javax.annotation.ParametersAreNonnullByDefault;
 /**
  * SQL statement cache loader.
  */
+@RequiredArgsConstructor
 public final class SQLStatementCacheLoader implements CacheLoader<String, SQLStatement> {
     
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
-    public SQLStatementCacheLoader(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
-    }
-    
     @ParametersAreNonnullByDefault
     @Override
     public SQLStatement load(final String sql) {
-        return sqlStatementParserExecutor.parse(sql);
+        return sqlStatementParserExecutor.parse(sql, true);
     }
 }
@@ -22,6 +22,9 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.CacheStatus;
+import org.apache.shardingsphere.sql.parser.core.database.cache.AdaptiveCacheSizeAdjuster;
+import org.apache.shardingsphere.sql.parser.core.database.cache.CacheStatusBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
 /**
@@ -33,17 +36,28 @@ public final class SQLStatementParserEngine {
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final AdaptiveCacheSizeAdjuster sqlStatementCacheSizeAdjuster;
+    
     @Getter
     private final CacheOption sqlStatementCacheOption;
     
     @Getter
     private final CacheOption parseTreeCacheOption;
     
+    @Getter
+    private final boolean simpleDMLParserEnabled;
+    
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
-        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, false);
+    }
+    
+    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean simpleDMLParserEnabled) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, simpleDMLParserEnabled);
+        sqlStatementCache = SQLStatementCacheBuilder.build(sqlStatementCacheOption, sqlStatementParserExecutor);
+        sqlStatementCacheSizeAdjuster = new AdaptiveCacheSizeAdjuster(sqlStatementCache, sqlStatementCacheOption);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
+        this.simpleDMLParserEnabled = simpleDMLParserEnabled;
     }
     
     /**
@@ -54,6 +68,29 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+        if (!useCache) {
+            return sqlStatementParserExecutor.parse(sql, false);
+        }
+        SQLStatement result = sqlStatementCache.get(sql);
+        sqlStatementCacheSizeAdjuster.onAccess();
+        return result;
+    }
+    
+    /**
+     * Get SQL statement cache status.
+     *
+     * @return SQL statement cache status
+     */
+    public CacheStatus getSQLStatementCacheStatus() {
+        return CacheStatusBuilder.build(sqlStatementCache);
+    }
+    
+    /**
+     * Get parse tree cache status.
+     *
+     * @return parse tree cache status
+     */
+    public CacheStatus getParseTreeCacheStatus() {
+        return sqlStatementParserExecutor.getParseTreeCacheStatus();
     }
 }
@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -39,17 +40,28 @@ public final class SQLStatementParserEngineFactory {
      * @param databaseType database type
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
+     * @param simpleDMLParserEnabled whether to parse simple DML without ANTLR
      * @return SQL statement parser engine
      */
-    public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType,
-                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
+                                                                       final CacheOption parseTreeCacheOption, final boolean simpleDMLParserEnabled) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption));
-        } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)) {
-            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, simpleDMLParserEnabled));
+        } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)
+                || result.isSimpleDMLParserEnabled() != simpleDMLParserEnabled) {
+            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, simpleDMLParserEnabled);
             ENGINES.put(databaseType, result);
         }
         return result;
     }
+    
+    /**
+     * Get all created SQL statement parser engines.
+     *
+     * @return created SQL statement parser engines
+     */
+    public static Map<DatabaseType, SQLStatementParserEngine> getSQLStatementParserEngines() {
+        return Collections.unmodifiableMap(ENGINES);
+    }
 }
@@ -19,10 +19,14 @@ package org.apache.shardingsphere.infra.parser.sql;
 
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.CacheStatus;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.api.SimpleDMLStatementParserEngine;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser executor.
  */
@@ -32,18 +36,37 @@ public final class SQLStatementParserExecutor {
     
     private final SQLStatementVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
+    private final SimpleDMLStatementParserEngine simpleDMLStatementParserEngine;
+    
+    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean simpleDMLParserEnabled) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        simpleDMLStatementParserEngine = simpleDMLParserEnabled ? new SimpleDMLStatementParserEngine(databaseType) : null;
     }
     
     /**
      * Parse to SQL statement.
      *
      * @param sql SQL to be parsed
+     * @param useCache whether to use parse tree cache
      * @return SQL statement
      */
-    public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+    public SQLStatement parse(final String sql, final boolean useCache) {
+        if (null != simpleDMLStatementParserEngine) {
+            Optional<SQLStatement> result = simpleDMLStatementParserEngine.parse(sql);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return visitorEngine.visit(parserEngine.parse(sql, useCache));
+    }
+    
+    /**
+     * Get parse tree cache status.
+     *
+     * @return parse tree cache status
+     */
+    public CacheStatus getParseTreeCacheStatus() {
+        return parserEngine.getParseTreeCacheStatus();
     }
 }
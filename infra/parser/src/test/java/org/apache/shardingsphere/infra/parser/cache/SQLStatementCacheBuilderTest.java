@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.parser.cache;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,7 @@ class SQLStatementCacheBuilderTest {
     
     @Test
     void assertBuild() {
-        assertThat(SQLStatementCacheBuilder.build(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(2000, 65535L), new CacheOption(128, 1024L)), isA(LoadingCache.class));
+        SQLStatementParserExecutor sqlStatementParserExecutor = new SQLStatementParserExecutor(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(128, 1024L), false);
+        assertThat(SQLStatementCacheBuilder.build(new CacheOption(2000, 65535L), sqlStatementParserExecutor), isA(LoadingCache.class));
     }
 }
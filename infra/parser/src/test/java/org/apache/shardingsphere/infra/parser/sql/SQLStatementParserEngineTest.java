@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLStatementParserEngineTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseWithCache() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L), new CacheOption(128, 1024L));
+        engine.parse(SQL, true);
+        engine.parse(SQL, true);
+        assertThat(engine.getSQLStatementCacheStatus().getMissCount(), is(1L));
+        assertThat(engine.getSQLStatementCacheStatus().getHitCount(), is(1L));
+        assertThat(engine.getParseTreeCacheStatus().getMissCount(), is(1L));
+        assertThat(engine.getParseTreeCacheStatus().getHitCount(), is(0L));
+        assertThat(engine.getParseTreeCacheStatus().getEstimatedSize(), is(1L));
+    }
+    
+    @Test
+    void assertParseWithoutCache() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L), new CacheOption(128, 1024L));
+        engine.parse(SQL, false);
+        assertThat(engine.getSQLStatementCacheStatus().getMissCount(), is(0L));
+        assertThat(engine.getParseTreeCacheStatus().getMissCount(), is(0L));
+    }
+}
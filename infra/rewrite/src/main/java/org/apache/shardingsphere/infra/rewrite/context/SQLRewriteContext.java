@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.rewrite.context;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplateCache;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.SQLTokenGenerators;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.builder.DefaultTokenGeneratorBuilder;
@@ -35,6 +37,7 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL rewrite context.
@@ -59,6 +62,10 @@ public final class SQLRewriteContext {
     
     private final ConnectionContext connectionContext;
     
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private RouteSQLTemplateCache routeSQLTemplateCache;
+    
     public SQLRewriteContext(final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params,
                              final ConnectionContext connectionContext, final HintValueContext hintValueContext) {
         this.database = database;
@@ -90,6 +97,15 @@ public final class SQLRewriteContext {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Find route SQL template cache.
+     *
+     * @return route SQL template cache
+     */
+    public Optional<RouteSQLTemplateCache> findRouteSQLTemplateCache() {
+        return Optional.ofNullable(routeSQLTemplateCache);
+    }
+    
     /**
      * Generate SQL tokens.
      */
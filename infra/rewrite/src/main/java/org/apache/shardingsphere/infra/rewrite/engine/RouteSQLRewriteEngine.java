@@ -33,6 +33,9 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplate;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplateCache;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
@@ -40,12 +43,15 @@ import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Route SQL rewrite engine.
@@ -74,19 +80,32 @@ public final class RouteSQLRewriteEngine {
     
     private Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
+        List<SQLToken> sqlTokens = getSortedSQLTokens(sqlRewriteContext);
+        RouteSQLTemplate template = getRouteSQLTemplate(sqlRewriteContext, sqlTokens).orElse(null);
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                result.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                result.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, template, sqlTokens, routeUnits));
             } else {
                 for (RouteUnit each : routeUnits) {
-                    result.put(each, createSQLRewriteUnit(sqlRewriteContext, routeContext, each));
+                    result.put(each, createSQLRewriteUnit(sqlRewriteContext, routeContext, template, sqlTokens, each));
                 }
             }
         }
         return result;
     }
     
+    private List<SQLToken> getSortedSQLTokens(final SQLRewriteContext sqlRewriteContext) {
+        List<SQLToken> result = new ArrayList<>(sqlRewriteContext.getSqlTokens());
+        Collections.sort(result);
+        return result;
+    }
+    
+    private Optional<RouteSQLTemplate> getRouteSQLTemplate(final SQLRewriteContext sqlRewriteContext, final List<SQLToken> sqlTokens) {
+        Optional<RouteSQLTemplateCache> templateCache = sqlRewriteContext.findRouteSQLTemplateCache();
+        return templateCache.isPresent() ? templateCache.get().get(sqlRewriteContext.getSql(), sqlTokens) : RouteSQLTemplate.compile(sqlRewriteContext.getSql(), sqlTokens);
+    }
+    
     private Map<String, Collection<RouteUnit>> aggregateRouteUnitGroups(final Collection<RouteUnit> routeUnits) {
         Map<String, Collection<RouteUnit>> result = new LinkedHashMap<>(routeUnits.size(), 1F);
         for (RouteUnit each : routeUnits) {
@@ -108,13 +127,14 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext,
+                                                final RouteSQLTemplate template, final List<SQLToken> sqlTokens, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
         List<Object> params = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtils.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext.getSql(), sqlRewriteContext.getSqlTokens(), each).toSQL()));
+            sql.add(SQLUtils.trimSemicolon(getActualSQL(sqlRewriteContext, template, sqlTokens, each)));
             if (containsDollarMarker && !params.isEmpty()) {
                 continue;
             }
@@ -123,12 +143,13 @@ public final class RouteSQLRewriteEngine {
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final RouteUnit routeUnit) {
-        return new SQLRewriteUnit(getActualSQL(sqlRewriteContext, routeUnit), getParameters(sqlRewriteContext, routeContext, routeUnit));
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext,
+                                                final RouteSQLTemplate template, final List<SQLToken> sqlTokens, final RouteUnit routeUnit) {
+        return new SQLRewriteUnit(getActualSQL(sqlRewriteContext, template, sqlTokens, routeUnit), getParameters(sqlRewriteContext, routeContext, routeUnit));
     }
     
-    private String getActualSQL(final SQLRewriteContext sqlRewriteContext, final RouteUnit routeUnit) {
-        return new RouteSQLBuilder(sqlRewriteContext.getSql(), sqlRewriteContext.getSqlTokens(), routeUnit).toSQL();
+    private String getActualSQL(final SQLRewriteContext sqlRewriteContext, final RouteSQLTemplate template, final List<SQLToken> sqlTokens, final RouteUnit routeUnit) {
+        return null == template ? new RouteSQLBuilder(sqlRewriteContext.getSql(), sqlRewriteContext.getSqlTokens(), routeUnit).toSQL() : template.toSQL(sqlTokens, routeUnit);
     }
     
     private List<Object> getParameters(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final RouteUnit routeUnit) {
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.generic.ComposableSQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Route SQL template.
+ *
+ * <p>Constant SQL fragments between SQL tokens are compiled once, and each route unit only fills the SQL token slots.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RouteSQLTemplate {
+    
+    private final String headFragment;
+    
+    private final String[] conjunctionFragments;
+    
+    private final int estimatedLength;
+    
+    /**
+     * Compile route SQL template.
+     *
+     * @param sql SQL
+     * @param sqlTokens SQL tokens sorted by start index
+     * @return compiled route SQL template, empty if SQL tokens can not be compiled
+     */
+    public static Optional<RouteSQLTemplate> compile(final String sql, final List<SQLToken> sqlTokens) {
+        if (sqlTokens.isEmpty()) {
+            return Optional.of(new RouteSQLTemplate(sql, new String[0], sql.length()));
+        }
+        String[] conjunctionFragments = new String[sqlTokens.size()];
+        int index = 0;
+        int nextStartIndex = sqlTokens.get(0).getStartIndex();
+        String headFragment = sql.substring(0, nextStartIndex);
+        for (SQLToken each : sqlTokens) {
+            if (each instanceof ComposableSQLToken) {
+                return Optional.empty();
+            }
+            nextStartIndex = sqlTokens.size() - 1 == index ? sql.length() : sqlTokens.get(index + 1).getStartIndex();
+            conjunctionFragments[index] = sql.substring(Math.min(getConjunctionStartIndex(each), sql.length()), nextStartIndex);
+            index++;
+        }
+        return Optional.of(new RouteSQLTemplate(headFragment, conjunctionFragments, sql.length()));
+    }
+    
+    private static int getConjunctionStartIndex(final SQLToken sqlToken) {
+        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    }
+    
+    /**
+     * Fill SQL token slots with route unit.
+     *
+     * @param sqlTokens SQL tokens sorted by start index, must be the same shape as the compiled ones
+     * @param routeUnit route unit
+     * @return actual SQL
+     */
+    public String toSQL(final List<SQLToken> sqlTokens, final RouteUnit routeUnit) {
+        if (0 == conjunctionFragments.length) {
+            return headFragment;
+        }
+        StringBuilder result = new StringBuilder(estimatedLength);
+        result.append(headFragment);
+        int index = 0;
+        for (SQLToken each : sqlTokens) {
+            result.append(each instanceof RouteUnitAware ? ((RouteUnitAware) each).toString(routeUnit) : each.toString());
+            result.append(conjunctionFragments[index++]);
+        }
+        return result.toString();
+    }
+}
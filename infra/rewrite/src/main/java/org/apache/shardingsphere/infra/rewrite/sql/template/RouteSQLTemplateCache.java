@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache for route SQL template.
+ */
+public final class RouteSQLTemplateCache {
+    
+    private final Cache<RouteSQLTemplateKey, Optional<RouteSQLTemplate>> cache;
+    
+    public RouteSQLTemplateCache(final int initialCapacity, final long maximumSize) {
+        cache = Caffeine.newBuilder().initialCapacity(initialCapacity).maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get route SQL template, compile and cache it if absent.
+     *
+     * @param sql SQL
+     * @param sqlTokens SQL tokens sorted by start index
+     * @return route SQL template, empty if SQL tokens can not be compiled
+     */
+    public Optional<RouteSQLTemplate> get(final String sql, final List<SQLToken> sqlTokens) {
+        return cache.get(new RouteSQLTemplateKey(sql, sqlTokens), unused -> RouteSQLTemplate.compile(sql, sqlTokens));
+    }
+    
+    /**
+     * Get estimated size of cached templates.
+     *
+     * @return estimated size
+     */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate, 1.0 if there is no request yet
+     */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+}
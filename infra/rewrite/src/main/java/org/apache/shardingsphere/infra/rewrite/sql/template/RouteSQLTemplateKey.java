@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import lombok.EqualsAndHashCode;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Substitutable;
+
+import java.util.List;
+
+/**
+ * Route SQL template key.
+ */
+@EqualsAndHashCode
+public final class RouteSQLTemplateKey {
+    
+    private final String sql;
+    
+    private final int[] tokenBoundaries;
+    
+    public RouteSQLTemplateKey(final String sql, final List<SQLToken> sqlTokens) {
+        this.sql = sql;
+        tokenBoundaries = new int[sqlTokens.size() * 2];
+        int index = 0;
+        for (SQLToken each : sqlTokens) {
+            tokenBoundaries[index++] = each.getStartIndex();
+            tokenBoundaries[index++] = each instanceof Substitutable ? ((Substitutable) each).getStopIndex() : -1;
+        }
+    }
+}
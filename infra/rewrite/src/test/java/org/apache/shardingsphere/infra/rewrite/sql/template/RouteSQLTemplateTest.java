@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.generic.ComposableSQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class RouteSQLTemplateTest {
+    
+    @Test
+    void assertToSQLWithoutSQLToken() {
+        assertThat(RouteSQLTemplate.compile("SELECT * FROM tbl", Collections.emptyList()).get().toSQL(Collections.emptyList(), createRouteUnit("tbl_0")), is("SELECT * FROM tbl"));
+    }
+    
+    @Test
+    void assertToSQLWithMultipleRouteUnits() {
+        String sql = "SELECT * FROM tbl WHERE id=? AND name=?";
+        List<SQLToken> sqlTokens = Arrays.asList(new RouteUnitAwareSQLTokenFixture(14, 16), new SQLTokenFixture(24, 25));
+        RouteSQLTemplate actual = RouteSQLTemplate.compile(sql, sqlTokens).get();
+        assertThat(actual.toSQL(sqlTokens, createRouteUnit("tbl_0")), is("SELECT * FROM tbl_0 WHERE XXX=? AND name=?"));
+        assertThat(actual.toSQL(sqlTokens, createRouteUnit("tbl_1")), is("SELECT * FROM tbl_1 WHERE XXX=? AND name=?"));
+    }
+    
+    @Test
+    void assertCompileWithComposableSQLToken() {
+        assertFalse(RouteSQLTemplate.compile("SELECT * FROM tbl", Collections.singletonList(new ComposableSQLToken(14, 16))).isPresent());
+    }
+    
+    @Test
+    void assertGetFromCache() {
+        RouteSQLTemplateCache cache = new RouteSQLTemplateCache(16, 16L);
+        String sql = "SELECT * FROM tbl WHERE id=?";
+        List<SQLToken> sqlTokens = Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16));
+        assertThat(cache.get(sql, sqlTokens).get().toSQL(sqlTokens, createRouteUnit("tbl_0")), is("SELECT * FROM tbl_0 WHERE id=?"));
+        List<SQLToken> otherSQLTokens = Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16));
+        assertThat(cache.get(sql, otherSQLTokens).get().toSQL(otherSQLTokens, createRouteUnit("tbl_1")), is("SELECT * FROM tbl_1 WHERE id=?"));
+        assertThat(cache.getSize(), is(1L));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitRate(), is(0.5D));
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.driver.executor.engine.facade.DriverExecutorFac
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.Statemen
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.sqlfederation.engine.SQLFederationEngine;
 
 import java.sql.Connection;
@@ -91,7 +93,7 @@ public final class StandardDriverExecutorFacade implements DriverExecutorFacade
     public ResultSet executeQuery(final ShardingSphereDatabase database, final QueryContext queryContext, final Statement statement, final Map<String, Integer> columnLabelAndIndexMap,
                                   final StatementAddCallback addCallback, final StatementReplayCallback replayCallback) throws SQLException {
         SQLAuditEngine.audit(queryContext, connection.getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData(), database);
-        return queryExecutor.executeQuery(database, queryContext, createDriverExecutionPrepareEngine(database, jdbcDriverType), statement, columnLabelAndIndexMap, addCallback, replayCallback);
+        return queryExecutor.executeQuery(database, queryContext, createDriverExecutionPrepareEngine(database, queryContext), statement, columnLabelAndIndexMap, addCallback, replayCallback);
     }
     
     @Override
@@ -99,7 +101,7 @@ public final class StandardDriverExecutorFacade implements DriverExecutorFacade
     public int executeUpdate(final ShardingSphereDatabase database, final QueryContext queryContext,
                              final StatementExecuteUpdateCallback executeUpdateCallback, final StatementAddCallback addCallback, final StatementReplayCallback replayCallback) throws SQLException {
         SQLAuditEngine.audit(queryContext, connection.getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData(), database);
-        return updateExecutor.executeUpdate(database, queryContext, createDriverExecutionPrepareEngine(database, jdbcDriverType), executeUpdateCallback, addCallback, replayCallback);
+        return updateExecutor.executeUpdate(database, queryContext, createDriverExecutionPrepareEngine(database, queryContext), executeUpdateCallback, addCallback, replayCallback);
     }
     
     @Override
@@ -107,15 +109,24 @@ public final class StandardDriverExecutorFacade implements DriverExecutorFacade
     public boolean execute(final ShardingSphereDatabase database, final QueryContext queryContext,
                            final StatementExecuteCallback executeCallback, final StatementAddCallback addCallback, final StatementReplayCallback replayCallback) throws SQLException {
         SQLAuditEngine.audit(queryContext, connection.getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData(), database);
-        return executeExecutor.execute(database, queryContext, createDriverExecutionPrepareEngine(database, jdbcDriverType), executeCallback, addCallback, replayCallback);
+        return executeExecutor.execute(database, queryContext, createDriverExecutionPrepareEngine(database, queryContext), executeCallback, addCallback, replayCallback);
     }
     
-    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final ShardingSphereDatabase database, final String jdbcDriverType) {
-        int maxConnectionsSizePerQuery = connection.getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final ShardingSphereDatabase database, final QueryContext queryContext) {
+        int maxConnectionsSizePerQuery = getMaxConnectionsSizePerQuery(queryContext, connection.getContextManager().getMetaDataContexts().getMetaData().getProps());
         return new DriverExecutionPrepareEngine<>(jdbcDriverType, maxConnectionsSizePerQuery, connection.getDatabaseConnectionManager(), statementManager, statementOption,
                 database.getRuleMetaData().getRules(), database.getResourceMetaData().getStorageUnits());
     }
     
+    private int getMaxConnectionsSizePerQuery(final QueryContext queryContext, final ConfigurationProperties props) {
+        int ddlMaxConnectionsSizePerQuery = props.<Integer>getValue(ConfigurationPropertyKey.DDL_MAX_CONNECTIONS_SIZE_PER_QUERY);
+        if (ddlMaxConnectionsSizePerQuery > 0 && queryContext.getSqlStatementContext().getSqlStatement() instanceof DDLStatement
+                && !connection.getDatabaseConnectionManager().getConnectionContext().getTransactionContext().isInTransaction()) {
+            return ddlMaxConnectionsSizePerQuery;
+        }
+        return props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+    }
+    
     @Override
     public Optional<ResultSet> getResultSet(final ShardingSphereDatabase database,
                                             final SQLStatementContext sqlStatementContext, final Statement statement, final List<? extends Statement> statements) throws SQLException {
@@ -104,7 +104,7 @@ public final class DriverJDBCPushDownExecuteUpdateExecutor {
             processEngine.executeSQL(executionGroupContext, executionContext.getQueryContext());
             JDBCExecutorCallback<Integer> callback = new ExecuteUpdateCallbackFactory(prepareEngine.getType())
                     .newInstance(database, executionContext.getQueryContext().getSqlStatementContext().getSqlStatement(), updateCallback);
-            List<Integer> updateCounts = jdbcExecutor.execute(executionGroupContext, callback);
+            List<Integer> updateCounts = jdbcExecutor.executeInCompletionOrder(executionGroupContext, callback);
             if (MetaDataRefreshEngine.isRefreshMetaDataRequired(executionContext.getQueryContext().getSqlStatementContext())) {
                 new MetaDataRefreshEngine(connection.getContextManager().getPersistServiceFacade().getMetaDataManagerPersistService(), database, props)
                         .refresh(executionContext.getQueryContext().getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
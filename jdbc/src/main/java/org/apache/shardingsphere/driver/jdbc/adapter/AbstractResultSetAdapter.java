@@ -124,6 +124,12 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        } finally {
+            closeMergedResult();
+        }
     }
+    
+    protected abstract void closeMergedResult() throws SQLException;
 }
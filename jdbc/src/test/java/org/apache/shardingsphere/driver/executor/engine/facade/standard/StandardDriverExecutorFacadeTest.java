@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.facade.standard;
+
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqlfederation.rule.builder.DefaultSQLFederationRuleConfigurationBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StandardDriverExecutorFacadeTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(
+            new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "2"), new Property(ConfigurationPropertyKey.DDL_MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "8")));
+    
+    private ShardingSphereConnection connection;
+    
+    @BeforeEach
+    void setUp() {
+        connection = mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS);
+        when(connection.getCurrentDatabaseName()).thenReturn("foo_db");
+        when(connection.getContextManager().getMetaDataContexts().getMetaData().getDatabase("foo_db").getProtocolType())
+                .thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(connection.getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(
+                new RuleMetaData(Collections.singleton(new SQLFederationRule(new DefaultSQLFederationRuleConfigurationBuilder().build(), Collections.emptyMap()))));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizePerQueryWhenExecuteDDLNotInTransaction() throws ReflectiveOperationException {
+        assertThat(getMaxConnectionsSizePerQuery(mock(DDLStatement.class)), is(8));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizePerQueryWhenExecuteDDLInTransaction() throws ReflectiveOperationException {
+        when(connection.getDatabaseConnectionManager().getConnectionContext().getTransactionContext().isInTransaction()).thenReturn(true);
+        assertThat(getMaxConnectionsSizePerQuery(mock(DDLStatement.class)), is(2));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizePerQueryWhenExecuteDMLNotInTransaction() throws ReflectiveOperationException {
+        assertThat(getMaxConnectionsSizePerQuery(mock(InsertStatement.class)), is(2));
+    }
+    
+    private int getMaxConnectionsSizePerQuery(final SQLStatement sqlStatement) throws ReflectiveOperationException {
+        QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(queryContext.getSqlStatementContext().getSqlStatement()).thenReturn(sqlStatement);
+        StandardDriverExecutorFacade facade = new StandardDriverExecutorFacade(connection, mock(StatementOption.class), mock(StatementManager.class), JDBCDriverType.STATEMENT);
+        return (int) Plugins.getMemberAccessor().invoke(
+                StandardDriverExecutorFacade.class.getDeclaredMethod("getMaxConnectionsSizePerQuery", QueryContext.class, ConfigurationProperties.class), facade, queryContext, props);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sqlfederation.spi;
 
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -49,4 +50,21 @@ public interface SQLFederationDecider<T extends ShardingSphereRule> extends Orde
      */
     boolean decide(SelectStatementContext selectStatementContext, List<Object> parameters,
                    RuleMetaData globalRuleMetaData, ShardingSphereDatabase database, T rule, Collection<DataNode> includedDataNodes);
+    
+    /**
+     * Judge whether to use SQL federation with configuration properties.
+     *
+     * @param selectStatementContext select statement context
+     * @param parameters parameters
+     * @param globalRuleMetaData global rule meta data
+     * @param database database
+     * @param rule rule
+     * @param props configuration properties
+     * @param includedDataNodes included data nodes
+     * @return use SQL federation or not
+     */
+    default boolean decide(final SelectStatementContext selectStatementContext, final List<Object> parameters, final RuleMetaData globalRuleMetaData,
+                           final ShardingSphereDatabase database, final T rule, final ConfigurationProperties props, final Collection<DataNode> includedDataNodes) {
+        return decide(selectStatementContext, parameters, globalRuleMetaData, database, rule, includedDataNodes);
+    }
 }
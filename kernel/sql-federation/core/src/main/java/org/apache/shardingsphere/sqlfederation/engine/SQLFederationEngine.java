@@ -161,7 +161,8 @@ public final class SQLFederationEngine implements AutoCloseable {
         ShardingSphereDatabase usedDatabase = queryContext.getUsedDatabase();
         Collection<DataNode> includedDataNodes = new HashSet<>();
         for (Entry<ShardingSphereRule, SQLFederationDecider> entry : deciders.entrySet()) {
-            boolean isUseSQLFederation = entry.getValue().decide(selectStatementContext, queryContext.getParameters(), globalRuleMetaData, usedDatabase, entry.getKey(), includedDataNodes);
+            boolean isUseSQLFederation = entry.getValue().decide(
+                    selectStatementContext, queryContext.getParameters(), globalRuleMetaData, usedDatabase, entry.getKey(), metaData.getProps(), includedDataNodes);
             if (isUseSQLFederation) {
                 return true;
             }
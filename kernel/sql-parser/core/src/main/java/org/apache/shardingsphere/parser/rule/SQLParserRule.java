@@ -37,10 +37,13 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final boolean simpleDMLParserEnabled;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        simpleDMLParserEnabled = ruleConfig.isSimpleDMLParserEnabled();
     }
     
     /**
@@ -50,6 +53,6 @@ public final class SQLParserRule implements GlobalRule {
      * @return SQL parser engine
      */
     public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
-        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache);
+        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, simpleDMLParserEnabled);
     }
 }
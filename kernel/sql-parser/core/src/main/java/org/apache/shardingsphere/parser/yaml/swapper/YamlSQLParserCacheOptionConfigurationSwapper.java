@@ -31,11 +31,16 @@ public final class YamlSQLParserCacheOptionConfigurationSwapper implements YamlC
         YamlSQLParserCacheOptionRuleConfiguration result = new YamlSQLParserCacheOptionRuleConfiguration();
         result.setInitialCapacity(data.getInitialCapacity());
         result.setMaximumSize(data.getMaximumSize());
+        if (data.isAdaptive()) {
+            result.setAdaptiveMaximumSize(data.getAdaptiveMaximumSize());
+        }
         return result;
     }
     
     @Override
     public CacheOption swapToObject(final YamlSQLParserCacheOptionRuleConfiguration yamlConfig) {
-        return new CacheOption(yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize());
+        return null == yamlConfig.getAdaptiveMaximumSize()
+                ? new CacheOption(yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize())
+                : new CacheOption(yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize(), yamlConfig.getAdaptiveMaximumSize());
     }
 }
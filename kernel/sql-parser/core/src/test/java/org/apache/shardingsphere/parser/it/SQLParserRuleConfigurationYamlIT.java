@@ -24,6 +24,7 @@ import org.apache.shardingsphere.test.it.yaml.YamlRuleConfigurationIT;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SQLParserRuleConfigurationYamlIT extends YamlRuleConfigurationIT {
     
@@ -39,6 +40,7 @@ class SQLParserRuleConfigurationYamlIT extends YamlRuleConfigurationIT {
     private void assertSQLParserRule(final YamlSQLParserRuleConfiguration actual) {
         assertSQLStatementCache(actual.getSqlStatementCache());
         assertSQLParseTreeCache(actual.getParseTreeCache());
+        assertTrue(actual.isSimpleDMLParserEnabled());
     }
     
     private void assertSQLStatementCache(final YamlSQLParserCacheOptionRuleConfiguration actual) {
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlSQLParserCacheOptionConfigurationSwapperTest {
     
@@ -31,6 +33,13 @@ class YamlSQLParserCacheOptionConfigurationSwapperTest {
         YamlSQLParserCacheOptionRuleConfiguration actual = new YamlSQLParserCacheOptionConfigurationSwapper().swapToYamlConfiguration(new CacheOption(2, 5L));
         assertThat(actual.getInitialCapacity(), is(2));
         assertThat(actual.getMaximumSize(), is(5L));
+        assertNull(actual.getAdaptiveMaximumSize());
+    }
+    
+    @Test
+    void assertSwapAdaptiveToYamlConfiguration() {
+        YamlSQLParserCacheOptionRuleConfiguration actual = new YamlSQLParserCacheOptionConfigurationSwapper().swapToYamlConfiguration(new CacheOption(2, 5L, 10L));
+        assertThat(actual.getAdaptiveMaximumSize(), is(10L));
     }
     
     @Test
@@ -42,4 +51,15 @@ class YamlSQLParserCacheOptionConfigurationSwapperTest {
         assertThat(actual.getInitialCapacity(), is(2));
         assertThat(actual.getMaximumSize(), is(5L));
     }
+    
+    @Test
+    void assertSwapAdaptiveToObject() {
+        YamlSQLParserCacheOptionRuleConfiguration cacheOptionRuleConfig = new YamlSQLParserCacheOptionRuleConfiguration();
+        cacheOptionRuleConfig.setInitialCapacity(2);
+        cacheOptionRuleConfig.setMaximumSize(5L);
+        cacheOptionRuleConfig.setAdaptiveMaximumSize(10L);
+        CacheOption actual = new YamlSQLParserCacheOptionConfigurationSwapper().swapToObject(cacheOptionRuleConfig);
+        assertThat(actual.getAdaptiveMaximumSize(), is(10L));
+        assertTrue(actual.isAdaptive());
+    }
 }
@@ -25,17 +25,20 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlSQLParserRuleConfigurationSwapperTest {
     
     @Test
     void assertSwapToYamlConfiguration() {
-        SQLParserRuleConfiguration ruleConfig = new SQLParserRuleConfiguration(new CacheOption(2, 5L), new CacheOption(4, 7L));
+        SQLParserRuleConfiguration ruleConfig = new SQLParserRuleConfiguration(new CacheOption(2, 5L), new CacheOption(4, 7L), true);
         YamlSQLParserRuleConfiguration actual = new YamlSQLParserRuleConfigurationSwapper().swapToYamlConfiguration(ruleConfig);
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(7L));
+        assertTrue(actual.isSimpleDMLParserEnabled());
     }
     
     @Test
@@ -46,6 +49,7 @@ class YamlSQLParserRuleConfigurationSwapperTest {
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(1024L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(2000));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(65535L));
+        assertFalse(actual.isSimpleDMLParserEnabled());
     }
     
     @Test
@@ -57,10 +61,12 @@ class YamlSQLParserRuleConfigurationSwapperTest {
         yamlConfig.setSqlStatementCache(new YamlSQLParserCacheOptionRuleConfiguration());
         yamlConfig.getSqlStatementCache().setInitialCapacity(4);
         yamlConfig.getSqlStatementCache().setMaximumSize(7L);
+        yamlConfig.setSimpleDMLParserEnabled(true);
         SQLParserRuleConfiguration actual = new YamlSQLParserRuleConfigurationSwapper().swapToObject(yamlConfig);
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(7L));
+        assertTrue(actual.isSimpleDMLParserEnabled());
     }
 }
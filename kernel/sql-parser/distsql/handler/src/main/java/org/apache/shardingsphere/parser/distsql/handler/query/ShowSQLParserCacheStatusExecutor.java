@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.parser.distsql.handler.query;
+
+import org.apache.shardingsphere.distsql.handler.engine.query.DistSQLQueryExecutor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.distsql.statement.queryable.ShowSQLParserCacheStatusStatement;
+import org.apache.shardingsphere.sql.parser.api.CacheStatus;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+
+/**
+ * Show SQL parser cache status executor.
+ */
+public final class ShowSQLParserCacheStatusExecutor implements DistSQLQueryExecutor<ShowSQLParserCacheStatusStatement> {
+    
+    @Override
+    public Collection<String> getColumnNames(final ShowSQLParserCacheStatusStatement sqlStatement) {
+        return Arrays.asList("database_type", "cache", "hit_count", "miss_count", "hit_rate", "eviction_count", "average_load_penalty_nanos", "estimated_size", "maximum_size");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShowSQLParserCacheStatusStatement sqlStatement, final ContextManager contextManager) {
+        Collection<LocalDataQueryResultRow> result = new LinkedList<>();
+        for (Entry<DatabaseType, SQLStatementParserEngine> entry : SQLStatementParserEngineFactory.getSQLStatementParserEngines().entrySet()) {
+            result.add(createRow(entry.getKey(), "sql_statement_cache", entry.getValue().getSQLStatementCacheStatus()));
+            result.add(createRow(entry.getKey(), "parse_tree_cache", entry.getValue().getParseTreeCacheStatus()));
+        }
+        return result;
+    }
+    
+    private LocalDataQueryResultRow createRow(final DatabaseType databaseType, final String cacheName, final CacheStatus cacheStatus) {
+        return new LocalDataQueryResultRow(databaseType.getType(), cacheName, cacheStatus.getHitCount(), cacheStatus.getMissCount(), String.valueOf(cacheStatus.getHitRate()),
+                cacheStatus.getEvictionCount(), (long) cacheStatus.getAverageLoadPenalty(), cacheStatus.getEstimatedSize(), cacheStatus.getMaximumSize());
+    }
+    
+    @Override
+    public Class<ShowSQLParserCacheStatusStatement> getType() {
+        return ShowSQLParserCacheStatusStatement.class;
+    }
+}
@@ -41,13 +41,13 @@ public final class AlterSQLParserRuleExecutor implements GlobalRuleDefinitionExe
         CacheOption sqlStatementCache = null == sqlStatement.getSqlStatementCache()
                 ? rule.getConfiguration().getSqlStatementCache()
                 : createCacheOption(rule.getConfiguration().getSqlStatementCache(), sqlStatement.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(parseTreeCache, sqlStatementCache);
+        return new SQLParserRuleConfiguration(parseTreeCache, sqlStatementCache, rule.getConfiguration().isSimpleDMLParserEnabled());
     }
     
     private CacheOption createCacheOption(final CacheOption cacheOption, final CacheOptionSegment segment) {
         int initialCapacity = null == segment.getInitialCapacity() ? cacheOption.getInitialCapacity() : segment.getInitialCapacity();
         long maximumSize = null == segment.getMaximumSize() ? cacheOption.getMaximumSize() : segment.getMaximumSize();
-        return new CacheOption(initialCapacity, maximumSize);
+        return new CacheOption(initialCapacity, maximumSize, cacheOption.getAdaptiveMaximumSize());
     }
     
     @Override
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.parser.distsql.handler.query;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.distsql.statement.queryable.ShowSQLParserCacheStatusStatement;
+import org.apache.shardingsphere.sql.parser.api.CacheStatus;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(SQLStatementParserEngineFactory.class)
+class ShowSQLParserCacheStatusExecutorTest {
+    
+    @Test
+    void assertGetRows() {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getType()).thenReturn("FIXTURE");
+        SQLStatementParserEngine parserEngine = mock(SQLStatementParserEngine.class);
+        when(parserEngine.getSQLStatementCacheStatus()).thenReturn(new CacheStatus(3L, 1L, 0.75D, 0L, 2000D, 1L, 1024L));
+        when(parserEngine.getParseTreeCacheStatus()).thenReturn(new CacheStatus(0L, 0L, 1D, 0L, 0D, 0L, 128L));
+        when(SQLStatementParserEngineFactory.getSQLStatementParserEngines()).thenReturn(Collections.singletonMap(databaseType, parserEngine));
+        Collection<LocalDataQueryResultRow> actual = new ShowSQLParserCacheStatusExecutor().getRows(new ShowSQLParserCacheStatusStatement(), mock(ContextManager.class));
+        assertThat(actual.size(), is(2));
+        Iterator<LocalDataQueryResultRow> iterator = actual.iterator();
+        LocalDataQueryResultRow row = iterator.next();
+        assertThat(row.getCell(1), is("FIXTURE"));
+        assertThat(row.getCell(2), is("sql_statement_cache"));
+        assertThat(row.getCell(3), is("3"));
+        assertThat(row.getCell(4), is("1"));
+        assertThat(row.getCell(5), is("0.75"));
+        assertThat(row.getCell(6), is("0"));
+        assertThat(row.getCell(7), is("2000"));
+        assertThat(row.getCell(8), is("1"));
+        assertThat(row.getCell(9), is("1024"));
+        row = iterator.next();
+        assertThat(row.getCell(2), is("parse_tree_cache"));
+        assertThat(row.getCell(9), is("128"));
+    }
+}
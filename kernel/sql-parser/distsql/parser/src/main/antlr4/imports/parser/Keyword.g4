@@ -47,6 +47,14 @@ SQL_STATEMENT_CACHE
     : S Q L UL_ S T A T E M E N T UL_ C A C H E
     ;
 
+CACHE
+    : C A C H E
+    ;
+
+STATUS
+    : S T A T U S
+    ;
+
 INITIAL_CAPACITY
     : I N I T I A L UL_ C A P A C I T Y
     ;
@@ -23,6 +23,10 @@ showSQLParserRule
     : SHOW SQL_PARSER RULE
     ;
 
+showSQLParserCacheStatus
+    : SHOW SQL_PARSER CACHE STATUS
+    ;
+
 alterSQLParserRule
     : ALTER SQL_PARSER RULE sqlParserRuleDefinition
     ;
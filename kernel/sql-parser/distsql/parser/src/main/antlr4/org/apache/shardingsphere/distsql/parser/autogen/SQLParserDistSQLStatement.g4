@@ -21,6 +21,7 @@ import Symbol, RALStatement;
 
 execute
     : (showSQLParserRule
+    | showSQLParserCacheStatus
     | alterSQLParserRule
     ) SEMI_? EOF
     ;
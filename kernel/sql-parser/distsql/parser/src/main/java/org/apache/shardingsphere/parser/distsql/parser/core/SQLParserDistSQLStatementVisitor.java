@@ -21,9 +21,11 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.distsql.parser.autogen.SQLParserDistSQLStatementBaseVisitor;
 import org.apache.shardingsphere.distsql.parser.autogen.SQLParserDistSQLStatementParser.AlterSQLParserRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.SQLParserDistSQLStatementParser.CacheOptionContext;
+import org.apache.shardingsphere.distsql.parser.autogen.SQLParserDistSQLStatementParser.ShowSQLParserCacheStatusContext;
 import org.apache.shardingsphere.distsql.parser.autogen.SQLParserDistSQLStatementParser.ShowSQLParserRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.SQLParserDistSQLStatementParser.SqlParserRuleDefinitionContext;
 import org.apache.shardingsphere.parser.distsql.segment.CacheOptionSegment;
+import org.apache.shardingsphere.parser.distsql.statement.queryable.ShowSQLParserCacheStatusStatement;
 import org.apache.shardingsphere.parser.distsql.statement.queryable.ShowSQLParserRuleStatement;
 import org.apache.shardingsphere.parser.distsql.statement.updatable.AlterSQLParserRuleStatement;
 import org.apache.shardingsphere.sql.parser.api.ASTNode;
@@ -40,6 +42,11 @@ public final class SQLParserDistSQLStatementVisitor extends SQLParserDistSQLStat
         return new ShowSQLParserRuleStatement();
     }
     
+    @Override
+    public ASTNode visitShowSQLParserCacheStatus(final ShowSQLParserCacheStatusContext ctx) {
+        return new ShowSQLParserCacheStatusStatement();
+    }
+    
     @Override
     public ASTNode visitAlterSQLParserRule(final AlterSQLParserRuleContext ctx) {
         return visit(ctx.sqlParserRuleDefinition());
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.postgresql.parser;
+
+import org.apache.shardingsphere.sql.parser.spi.DialectSimpleDMLStatementFactory;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLUpdateStatement;
+
+/**
+ * Simple DML statement factory for PostgreSQL.
+ */
+public final class PostgreSQLSimpleDMLStatementFactory implements DialectSimpleDMLStatementFactory {
+    
+    @Override
+    public PostgreSQLSelectStatement newSelectStatement() {
+        return new PostgreSQLSelectStatement();
+    }
+    
+    @Override
+    public PostgreSQLInsertStatement newInsertStatement() {
+        return new PostgreSQLInsertStatement();
+    }
+    
+    @Override
+    public PostgreSQLUpdateStatement newUpdateStatement() {
+        return new PostgreSQLUpdateStatement();
+    }
+    
+    @Override
+    public PostgreSQLDeleteStatement newDeleteStatement() {
+        return new PostgreSQLDeleteStatement();
+    }
+    
+    @Override
+    public boolean isDollarParameterMarkerSupported() {
+        return true;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -33,8 +33,27 @@ public final class CacheOption {
     
     private final long maximumSize;
     
+    private final long adaptiveMaximumSize;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize) {
+        this(initialCapacity, maximumSize, 0L);
+    }
+    
+    /**
+     * Judge whether adaptive mode is enabled.
+     *
+     * <p>In adaptive mode, maximum size is grown up to adaptive maximum size or shrunk down to initial capacity at runtime.</p>
+     *
+     * @return adaptive mode is enabled or not
+     */
+    public boolean isAdaptive() {
+        return adaptiveMaximumSize > maximumSize;
+    }
+    
     @Override
     public String toString() {
-        return String.format("initialCapacity: %d, maximumSize: %d", initialCapacity, maximumSize);
+        return isAdaptive()
+                ? String.format("initialCapacity: %d, maximumSize: %d, adaptiveMaximumSize: %d", initialCapacity, maximumSize, adaptiveMaximumSize)
+                : String.format("initialCapacity: %d, maximumSize: %d", initialCapacity, maximumSize);
     }
 }
@@ -21,6 +21,8 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.cache.AdaptiveCacheSizeAdjuster;
+import org.apache.shardingsphere.sql.parser.core.database.cache.CacheStatusBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 
@@ -33,9 +35,12 @@ public final class SQLParserEngine {
     
     private final LoadingCache<String, ParseASTNode> parseTreeCache;
     
+    private final AdaptiveCacheSizeAdjuster parseTreeCacheSizeAdjuster;
+    
     public SQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption) {
         sqlParserExecutor = new SQLParserExecutor(databaseType);
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType);
+        parseTreeCacheSizeAdjuster = new AdaptiveCacheSizeAdjuster(parseTreeCache, cacheOption);
     }
     
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption) {
@@ -50,6 +55,20 @@ public final class SQLParserEngine {
      * @return parse AST node
      */
     public ParseASTNode parse(final String sql, final boolean useCache) {
-        return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
+        if (!useCache) {
+            return sqlParserExecutor.parse(sql);
+        }
+        ParseASTNode result = parseTreeCache.get(sql);
+        parseTreeCacheSizeAdjuster.onAccess();
+        return result;
+    }
+    
+    /**
+     * Get parse tree cache status.
+     *
+     * @return parse tree cache status
+     */
+    public CacheStatus getParseTreeCacheStatus() {
+        return CacheStatusBuilder.build(parseTreeCache);
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.database.simple.SimpleDMLStatementParser;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+import org.apache.shardingsphere.sql.parser.spi.DialectSimpleDMLStatementFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+/**
+ * Simple DML statement parser engine.
+ *
+ * <p>Recognizes simple point DML such as {@code SELECT col FROM tbl WHERE pk = ?} without ANTLR.
+ * SQL which is not fully recognized should be parsed by {@link SQLParserEngine} and {@link SQLStatementVisitorEngine}.</p>
+ */
+public final class SimpleDMLStatementParserEngine {
+    
+    private final DialectSimpleDMLStatementFactory statementFactory;
+    
+    private final Collection<String> keywords;
+    
+    public SimpleDMLStatementParserEngine(final DatabaseType databaseType) {
+        Optional<DialectSQLParserFacade> parserFacade = DatabaseTypedSPILoader.findService(DialectSQLParserFacade.class, databaseType);
+        // Only use the factory of the same dialect as ANTLR parser, so that branch database types with their own parser keep their own statements.
+        statementFactory = parserFacade.flatMap(optional -> TypedSPILoader.findService(DialectSimpleDMLStatementFactory.class, optional.getType())).orElse(null);
+        keywords = null == statementFactory ? Collections.emptySet() : loadKeywords(parserFacade.get().getLexerClass());
+    }
+    
+    public SimpleDMLStatementParserEngine(final String databaseType) {
+        this(TypedSPILoader.getService(DatabaseType.class, databaseType));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Collection<String> loadKeywords(final Class<? extends SQLLexer> lexerClass) {
+        // Every keyword of the dialect is a token of ANTLR lexer, so identifiers which are not any token name are known to be safe.
+        Vocabulary vocabulary = ((Lexer) lexerClass.getConstructor(CharStream.class).newInstance(CharStreams.fromString(""))).getVocabulary();
+        Collection<String> result = new HashSet<>(vocabulary.getMaxTokenType() * 2, 1F);
+        for (int i = 1; i <= vocabulary.getMaxTokenType(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(i);
+            if (null != symbolicName) {
+                result.add(symbolicName);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse simple DML statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement, empty if dialect does not support or SQL is not simple DML
+     */
+    public Optional<SQLStatement> parse(final String sql) {
+        return null == statementFactory ? Optional.empty() : new SimpleDMLStatementParser(statementFactory, keywords, sql).parse();
+    }
+}
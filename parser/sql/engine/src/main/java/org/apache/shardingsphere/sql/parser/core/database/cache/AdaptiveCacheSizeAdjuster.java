@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive cache size adjuster.
+ *
+ * <p>Every fixed count of accesses, the maximum size of cache is doubled if the miss rate is high and entries were evicted,
+ * or halved if the heap headroom is low. Maximum size is always kept between initial capacity and adaptive maximum size.</p>
+ */
+public final class AdaptiveCacheSizeAdjuster {
+    
+    private static final long ADJUST_INTERVAL = 4096L;
+    
+    private static final double GROW_MISS_RATE = 0.1D;
+    
+    private static final double MINIMUM_HEAP_HEADROOM = 0.2D;
+    
+    private final Cache<?, ?> cache;
+    
+    private final boolean adaptive;
+    
+    private final long lowerBound;
+    
+    private final long upperBound;
+    
+    private final AtomicLong accessCount = new AtomicLong();
+    
+    private CacheStats lastStats = CacheStats.empty();
+    
+    public AdaptiveCacheSizeAdjuster(final Cache<?, ?> cache, final CacheOption option) {
+        this.cache = cache;
+        adaptive = option.isAdaptive();
+        lowerBound = Math.max(1L, Math.min(option.getInitialCapacity(), option.getMaximumSize()));
+        upperBound = option.getAdaptiveMaximumSize();
+    }
+    
+    /**
+     * Record an access of cache, and adjust maximum size of cache if needed.
+     */
+    public void onAccess() {
+        if (adaptive && 0L == accessCount.incrementAndGet() % ADJUST_INTERVAL) {
+            adjust(getHeapHeadroom());
+        }
+    }
+    
+    synchronized void adjust(final double heapHeadroom) {
+        CacheStats currentStats = cache.stats();
+        CacheStats intervalStats = currentStats.minus(lastStats);
+        lastStats = currentStats;
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(calculateMaximumSize(eviction.getMaximum(), intervalStats, heapHeadroom)));
+    }
+    
+    private long calculateMaximumSize(final long currentMaximumSize, final CacheStats intervalStats, final double heapHeadroom) {
+        if (heapHeadroom < MINIMUM_HEAP_HEADROOM) {
+            return Math.max(lowerBound, currentMaximumSize / 2L);
+        }
+        if (intervalStats.missRate() > GROW_MISS_RATE && intervalStats.evictionCount() > 0L) {
+            return Math.min(upperBound, currentMaximumSize * 2L);
+        }
+        return currentMaximumSize;
+    }
+    
+    private double getHeapHeadroom() {
+        Runtime runtime = Runtime.getRuntime();
+        long maxMemory = runtime.maxMemory();
+        return Long.MAX_VALUE == maxMemory ? 1D : (double) (maxMemory - runtime.totalMemory() + runtime.freeMemory()) / maxMemory;
+    }
+}
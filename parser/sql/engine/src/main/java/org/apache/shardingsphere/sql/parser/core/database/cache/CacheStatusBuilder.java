@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.CacheStatus;
+
+/**
+ * Cache status builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheStatusBuilder {
+    
+    /**
+     * Build cache status.
+     *
+     * @param cache cache built with statistics recorded
+     * @return built cache status
+     */
+    public static CacheStatus build(final Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        long maximumSize = cache.policy().eviction().map(Eviction::getMaximum).orElse(-1L);
+        return new CacheStatus(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), stats.averageLoadPenalty(), cache.estimatedSize(), maximumSize);
+    }
+}
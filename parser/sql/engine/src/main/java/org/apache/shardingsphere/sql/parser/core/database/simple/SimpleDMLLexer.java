@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.simple;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.core.database.simple.SimpleDMLToken.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lexer of simple DML.
+ *
+ * <p>Only plain identifiers, unsigned numbers, single quoted strings without escapes, parameter markers and a few symbols are supported.
+ * Comments, quoted identifiers and any other character make the whole SQL unsupported.</p>
+ */
+@RequiredArgsConstructor
+final class SimpleDMLLexer {
+    
+    private static final String SYMBOLS = ",()=.*";
+    
+    private static final int MAX_DOLLAR_PARAMETER_DIGITS = 5;
+    
+    private final String sql;
+    
+    private final boolean dollarParameterMarkerSupported;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @return tokens, empty if SQL contains unsupported character
+     */
+    Optional<List<SimpleDMLToken>> tokenize() {
+        List<SimpleDMLToken> result = new ArrayList<>(32);
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            if (isWhitespace(each)) {
+                index++;
+                continue;
+            }
+            Type type;
+            int stopIndex;
+            if (isIdentifierStart(each)) {
+                type = Type.IDENTIFIER;
+                stopIndex = scanIdentifier(index);
+            } else if (isDigit(each)) {
+                type = Type.NUMBER;
+                stopIndex = scanNumber(index);
+            } else if ('\'' == each) {
+                type = Type.STRING;
+                stopIndex = scanString(index);
+            } else if ('?' == each) {
+                type = Type.PARAMETER_MARKER;
+                stopIndex = index;
+            } else if ('$' == each && dollarParameterMarkerSupported) {
+                type = Type.PARAMETER_MARKER;
+                stopIndex = scanDollarParameterMarker(index);
+            } else if (-1 != SYMBOLS.indexOf(each)) {
+                type = Type.SYMBOL;
+                stopIndex = index;
+            } else {
+                return Optional.empty();
+            }
+            if (-1 == stopIndex) {
+                return Optional.empty();
+            }
+            result.add(new SimpleDMLToken(type, index, stopIndex, sql.substring(index, stopIndex + 1)));
+            index = stopIndex + 1;
+        }
+        return Optional.of(result);
+    }
+    
+    private int scanIdentifier(final int startIndex) {
+        int index = startIndex + 1;
+        while (index < sql.length() && isIdentifierPart(sql.charAt(index))) {
+            index++;
+        }
+        return isAttachable(index) ? index - 1 : -1;
+    }
+    
+    private int scanNumber(final int startIndex) {
+        int index = scanDigits(startIndex);
+        if (index < sql.length() && '.' == sql.charAt(index)) {
+            if (index + 1 >= sql.length() || !isDigit(sql.charAt(index + 1))) {
+                return -1;
+            }
+            index = scanDigits(index + 1);
+        }
+        return isAttachable(index) && (index >= sql.length() || '.' != sql.charAt(index)) ? index - 1 : -1;
+    }
+    
+    private int scanDigits(final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int scanString(final int startIndex) {
+        int index = startIndex + 1;
+        while (index < sql.length() && '\'' != sql.charAt(index)) {
+            if ('\\' == sql.charAt(index)) {
+                return -1;
+            }
+            index++;
+        }
+        return index < sql.length() && isAttachable(index + 1) ? index : -1;
+    }
+    
+    private int scanDollarParameterMarker(final int startIndex) {
+        int index = scanDigits(startIndex + 1);
+        int digits = index - startIndex - 1;
+        return digits > 0 && digits <= MAX_DOLLAR_PARAMETER_DIGITS && '0' != sql.charAt(startIndex + 1) && isAttachable(index) ? index - 1 : -1;
+    }
+    
+    private boolean isAttachable(final int nextIndex) {
+        if (nextIndex >= sql.length()) {
+            return true;
+        }
+        char next = sql.charAt(nextIndex);
+        return isWhitespace(next) || -1 != SYMBOLS.indexOf(next);
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\n' == ch || '\r' == ch;
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return isIdentifierStart(ch) || isDigit(ch);
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
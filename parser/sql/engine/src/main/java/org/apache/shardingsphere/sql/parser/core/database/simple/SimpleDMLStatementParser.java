@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.simple;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.core.database.simple.SimpleDMLToken.Type;
+import org.apache.shardingsphere.sql.parser.spi.DialectSimpleDMLStatementFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.statement.core.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.statement.core.value.literal.impl.StringLiteralValue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Simple DML statement parser.
+ *
+ * <p>Recognizes the following shapes and builds the same segments as ANTLR visitors of MySQL and PostgreSQL do:</p>
+ * <ul>
+ *     <li>{@code SELECT * | col [, col ...] FROM tbl [WHERE col = value [AND col = value ...]]}</li>
+ *     <li>{@code INSERT INTO tbl [(col [, col ...])] VALUES (value [, value ...]) [, (value [, value ...]) ...]}</li>
+ *     <li>{@code UPDATE tbl SET col = value [, col = value ...] [WHERE col = value [AND col = value ...]]}</li>
+ *     <li>{@code DELETE FROM tbl [WHERE col = value [AND col = value ...]]}</li>
+ * </ul>
+ *
+ * <p>Value is parameter marker, unsigned number or string literal. Identifiers must not be any keyword of the dialect, because even non-reserved keywords
+ * may be visited differently by ANTLR visitors. Any other SQL is not recognized and should be parsed by ANTLR.</p>
+ */
+@RequiredArgsConstructor
+public final class SimpleDMLStatementParser {
+    
+    private static final UnrecognizedSQLException UNRECOGNIZED = new UnrecognizedSQLException();
+    
+    private final DialectSimpleDMLStatementFactory statementFactory;
+    
+    private final Collection<String> keywords;
+    
+    private final String sql;
+    
+    private final Collection<ParameterMarkerSegment> parameterMarkerSegments = new LinkedList<>();
+    
+    private List<SimpleDMLToken> tokens;
+    
+    private int position;
+    
+    private ParameterMarkerType parameterMarkerType;
+    
+    /**
+     * Parse simple DML statement.
+     *
+     * @return SQL statement, empty if SQL is not recognized
+     */
+    public Optional<SQLStatement> parse() {
+        Optional<List<SimpleDMLToken>> tokenized = new SimpleDMLLexer(sql, statementFactory.isDollarParameterMarkerSupported()).tokenize();
+        if (!tokenized.isPresent() || tokenized.get().isEmpty()) {
+            return Optional.empty();
+        }
+        tokens = tokenized.get();
+        try {
+            AbstractSQLStatement result = parseStatement();
+            if (position != tokens.size()) {
+                return Optional.empty();
+            }
+            result.addParameterMarkerSegments(parameterMarkerSegments);
+            return Optional.of(result);
+        } catch (final UnrecognizedSQLException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private AbstractSQLStatement parseStatement() {
+        SimpleDMLToken first = tokens.get(0);
+        if (first.isKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (first.isKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (first.isKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        if (first.isKeyword("DELETE")) {
+            return parseDelete();
+        }
+        throw UNRECOGNIZED;
+    }
+    
+    private SelectStatement parseSelect() {
+        SelectStatement result = statementFactory.newSelectStatement();
+        expectKeyword("SELECT");
+        ProjectionsSegment projections;
+        if (peek().isSymbol('*')) {
+            SimpleDMLToken asterisk = next();
+            projections = new ProjectionsSegment(asterisk.getStartIndex(), asterisk.getStopIndex());
+            projections.getProjections().add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+        } else {
+            int startIndex = peek().getStartIndex();
+            Collection<ColumnProjectionSegment> columnProjections = new LinkedList<>();
+            do {
+                columnProjections.add(new ColumnProjectionSegment(parseColumn()));
+            } while (skipSymbol(','));
+            projections = new ProjectionsSegment(startIndex, previous().getStopIndex());
+            projections.getProjections().addAll(columnProjections);
+        }
+        result.setProjections(projections);
+        expectKeyword("FROM");
+        result.setFrom(parseTable());
+        parseWhere().ifPresent(result::setWhere);
+        return result;
+    }
+    
+    private InsertStatement parseInsert() {
+        InsertStatement result = statementFactory.newInsertStatement();
+        expectKeyword("INSERT");
+        expectKeyword("INTO");
+        SimpleTableSegment table = parseTable();
+        InsertColumnsSegment insertColumns = peek().isSymbol('(') ? parseInsertColumns() : null;
+        SimpleDMLToken values = expectKeyword("VALUES");
+        result.setInsertColumns(null == insertColumns ? new InsertColumnsSegment(values.getStartIndex() - 1, values.getStartIndex() - 1, Collections.emptyList()) : insertColumns);
+        do {
+            result.getValues().add(parseInsertValues());
+        } while (skipSymbol(','));
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        SimpleDMLToken leftParenthesis = next();
+        List<ColumnSegment> columns = new LinkedList<>();
+        do {
+            columns.add(parseSimpleColumn());
+        } while (skipSymbol(','));
+        SimpleDMLToken rightParenthesis = expectSymbol(')');
+        // Dialects disagree on whether parentheses are included in boundary, so only recognize columns which are adjacent to parentheses.
+        checkRecognized(leftParenthesis.getStopIndex() + 1 == columns.get(0).getStartIndex() && columns.get(columns.size() - 1).getStopIndex() + 1 == rightParenthesis.getStartIndex());
+        return new InsertColumnsSegment(leftParenthesis.getStartIndex(), rightParenthesis.getStopIndex(), columns);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        SimpleDMLToken leftParenthesis = expectSymbol('(');
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            values.add(parseValue());
+        } while (skipSymbol(','));
+        SimpleDMLToken rightParenthesis = expectSymbol(')');
+        return new InsertValuesSegment(leftParenthesis.getStartIndex(), rightParenthesis.getStopIndex(), values);
+    }
+    
+    private UpdateStatement parseUpdate() {
+        UpdateStatement result = statementFactory.newUpdateStatement();
+        expectKeyword("UPDATE");
+        result.setTable(parseTable());
+        SimpleDMLToken set = expectKeyword("SET");
+        // Dialects disagree on how to locate start of set assignment, so only recognize single whitespace after SET.
+        checkRecognized(set.getStopIndex() + 2 == peek().getStartIndex());
+        Collection<ColumnAssignmentSegment> assignments = new LinkedList<>();
+        do {
+            assignments.add(parseAssignment());
+        } while (skipSymbol(','));
+        result.setSetAssignment(new SetAssignmentSegment(set.getStartIndex(), previous().getStopIndex(), assignments));
+        parseWhere().ifPresent(result::setWhere);
+        return result;
+    }
+    
+    private ColumnAssignmentSegment parseAssignment() {
+        ColumnSegment column = parseSimpleColumn();
+        expectSymbol('=');
+        ExpressionSegment value = parseValue();
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column);
+        return new ColumnAssignmentSegment(column.getStartIndex(), previous().getStopIndex(), columns, value);
+    }
+    
+    private DeleteStatement parseDelete() {
+        DeleteStatement result = statementFactory.newDeleteStatement();
+        expectKeyword("DELETE");
+        expectKeyword("FROM");
+        result.setTable(parseTable());
+        parseWhere().ifPresent(result::setWhere);
+        return result;
+    }
+    
+    private Optional<WhereSegment> parseWhere() {
+        if (position == tokens.size() || !peek().isKeyword("WHERE")) {
+            return Optional.empty();
+        }
+        SimpleDMLToken where = next();
+        ExpressionSegment expr = parseComparison();
+        while (position < tokens.size() && peek().isKeyword("AND")) {
+            SimpleDMLToken operator = next();
+            ExpressionSegment right = parseComparison();
+            expr = createBinaryOperationExpression(expr, right, operator.getText());
+        }
+        return Optional.of(new WhereSegment(where.getStartIndex(), previous().getStopIndex(), expr));
+    }
+    
+    private ExpressionSegment parseComparison() {
+        ColumnSegment column = parseColumn();
+        SimpleDMLToken operator = expectSymbol('=');
+        return createBinaryOperationExpression(column, parseValue(), operator.getText());
+    }
+    
+    private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+        int stopIndex = previous().getStopIndex();
+        return new BinaryOperationExpression(left.getStartIndex(), stopIndex, left, right, operator, sql.substring(left.getStartIndex(), stopIndex + 1));
+    }
+    
+    private ExpressionSegment parseValue() {
+        SimpleDMLToken token = next();
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                return createParameterMarker(token);
+            case NUMBER:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case STRING:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                throw UNRECOGNIZED;
+        }
+    }
+    
+    private ParameterMarkerExpressionSegment createParameterMarker(final SimpleDMLToken token) {
+        ParameterMarkerType type = "?".equals(token.getText()) ? ParameterMarkerType.QUESTION : ParameterMarkerType.DOLLAR;
+        checkRecognized(null == parameterMarkerType || parameterMarkerType == type);
+        parameterMarkerType = type;
+        int parameterIndex = ParameterMarkerType.QUESTION == type ? parameterMarkerSegments.size() : Integer.parseInt(token.getText().substring(1)) - 1;
+        ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex, type);
+        parameterMarkerSegments.add(result);
+        return result;
+    }
+    
+    private SimpleTableSegment parseTable() {
+        SimpleDMLToken first = expectIdentifier();
+        if (!skipSymbol('.')) {
+            return new SimpleTableSegment(new TableNameSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        SimpleDMLToken name = expectIdentifier();
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(name.getStartIndex(), name.getStopIndex(), new IdentifierValue(name.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        SimpleDMLToken first = expectIdentifier();
+        if (!skipSymbol('.')) {
+            return new ColumnSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText()));
+        }
+        SimpleDMLToken name = expectIdentifier();
+        ColumnSegment result = new ColumnSegment(first.getStartIndex(), name.getStopIndex(), new IdentifierValue(name.getText()));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ColumnSegment parseSimpleColumn() {
+        SimpleDMLToken name = expectIdentifier();
+        return new ColumnSegment(name.getStartIndex(), name.getStopIndex(), new IdentifierValue(name.getText()));
+    }
+    
+    private SimpleDMLToken expectKeyword(final String keyword) {
+        SimpleDMLToken result = next();
+        checkRecognized(result.isKeyword(keyword));
+        return result;
+    }
+    
+    private SimpleDMLToken expectSymbol(final char symbol) {
+        SimpleDMLToken result = next();
+        checkRecognized(result.isSymbol(symbol));
+        return result;
+    }
+    
+    private SimpleDMLToken expectIdentifier() {
+        SimpleDMLToken result = next();
+        checkRecognized(Type.IDENTIFIER == result.getType() && !keywords.contains(result.getText().toUpperCase()));
+        return result;
+    }
+    
+    private boolean skipSymbol(final char symbol) {
+        if (position < tokens.size() && tokens.get(position).isSymbol(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private SimpleDMLToken peek() {
+        checkRecognized(position < tokens.size());
+        return tokens.get(position);
+    }
+    
+    private SimpleDMLToken next() {
+        SimpleDMLToken result = peek();
+        position++;
+        return result;
+    }
+    
+    private SimpleDMLToken previous() {
+        return tokens.get(position - 1);
+    }
+    
+    private void checkRecognized(final boolean recognized) {
+        if (!recognized) {
+            throw UNRECOGNIZED;
+        }
+    }
+    
+    private static final class UnrecognizedSQLException extends RuntimeException {
+        
+        private static final long serialVersionUID = -2385434640539004245L;
+        
+        UnrecognizedSQLException() {
+            super(null, null, false, false);
+        }
+    }
+}
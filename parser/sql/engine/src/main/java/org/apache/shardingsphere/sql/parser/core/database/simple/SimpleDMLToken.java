@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.simple;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Token of simple DML.
+ */
+@RequiredArgsConstructor
+@Getter
+final class SimpleDMLToken {
+    
+    private final Type type;
+    
+    private final int startIndex;
+    
+    private final int stopIndex;
+    
+    private final String text;
+    
+    /**
+     * Judge whether token is keyword.
+     *
+     * @param keyword keyword
+     * @return token is keyword or not
+     */
+    boolean isKeyword(final String keyword) {
+        return Type.IDENTIFIER == type && keyword.equalsIgnoreCase(text);
+    }
+    
+    /**
+     * Judge whether token is symbol.
+     *
+     * @param symbol symbol
+     * @return token is symbol or not
+     */
+    boolean isSymbol(final char symbol) {
+        return Type.SYMBOL == type && symbol == text.charAt(0);
+    }
+    
+    enum Type {
+        
+        IDENTIFIER, NUMBER, STRING, PARAMETER_MARKER, SYMBOL
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.spi;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+
+/**
+ * Dialect simple DML statement factory.
+ *
+ * <p>Dialects which provide this SPI opt in to the fast path of simple point DML, which builds SQL statement without ANTLR.</p>
+ */
+public interface DialectSimpleDMLStatementFactory extends DatabaseTypedSPI {
+    
+    /**
+     * Create new select statement.
+     *
+     * @return created select statement
+     */
+    SelectStatement newSelectStatement();
+    
+    /**
+     * Create new insert statement.
+     *
+     * @return created insert statement
+     */
+    InsertStatement newInsertStatement();
+    
+    /**
+     * Create new update statement.
+     *
+     * @return created update statement
+     */
+    UpdateStatement newUpdateStatement();
+    
+    /**
+     * Create new delete statement.
+     *
+     * @return created delete statement
+     */
+    DeleteStatement newDeleteStatement();
+    
+    /**
+     * Whether dollar parameter marker is supported, i.e. {@code $1}.
+     *
+     * @return dollar parameter marker is supported or not
+     */
+    default boolean isDollarParameterMarkerSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AdaptiveCacheSizeAdjusterTest {
+    
+    @Test
+    void assertGrowWhenMissRateIsHigh() {
+        LoadingCache<String, String> cache = createCache(4L);
+        AdaptiveCacheSizeAdjuster adjuster = new AdaptiveCacheSizeAdjuster(cache, new CacheOption(2, 4L, 10L));
+        loadDistinctKeys(cache, 16);
+        adjuster.adjust(1D);
+        assertThat(getMaximumSize(cache), is(8L));
+        loadDistinctKeys(cache, 32);
+        adjuster.adjust(1D);
+        assertThat(getMaximumSize(cache), is(10L));
+    }
+    
+    @Test
+    void assertKeepWhenMissRateIsLow() {
+        LoadingCache<String, String> cache = createCache(4L);
+        AdaptiveCacheSizeAdjuster adjuster = new AdaptiveCacheSizeAdjuster(cache, new CacheOption(2, 4L, 10L));
+        for (int i = 0; i < 100; i++) {
+            cache.get("foo");
+        }
+        adjuster.adjust(1D);
+        assertThat(getMaximumSize(cache), is(4L));
+    }
+    
+    @Test
+    void assertShrinkWhenHeapHeadroomIsLow() {
+        LoadingCache<String, String> cache = createCache(8L);
+        AdaptiveCacheSizeAdjuster adjuster = new AdaptiveCacheSizeAdjuster(cache, new CacheOption(3, 8L, 16L));
+        adjuster.adjust(0.1D);
+        assertThat(getMaximumSize(cache), is(4L));
+        adjuster.adjust(0.1D);
+        assertThat(getMaximumSize(cache), is(3L));
+    }
+    
+    @Test
+    void assertNotAdjustWhenNotAdaptive() {
+        LoadingCache<String, String> cache = createCache(4L);
+        AdaptiveCacheSizeAdjuster adjuster = new AdaptiveCacheSizeAdjuster(cache, new CacheOption(2, 4L));
+        loadDistinctKeys(cache, 10000);
+        for (int i = 0; i < 10000; i++) {
+            adjuster.onAccess();
+        }
+        assertThat(getMaximumSize(cache), is(4L));
+    }
+    
+    private LoadingCache<String, String> createCache(final long maximumSize) {
+        return Caffeine.newBuilder().executor(Runnable::run).maximumSize(maximumSize).recordStats().build(key -> key);
+    }
+    
+    private void loadDistinctKeys(final LoadingCache<String, String> cache, final int count) {
+        for (int i = 0; i < count; i++) {
+            cache.get(String.valueOf(i));
+        }
+        cache.cleanUp();
+    }
+    
+    private long getMaximumSize(final LoadingCache<String, String> cache) {
+        return cache.policy().eviction().orElseThrow(IllegalStateException::new).getMaximum();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.simple;
+
+import org.apache.shardingsphere.sql.parser.fixture.DialectSimpleDMLStatementFactoryFixture;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleDMLStatementParserTest {
+    
+    private static final Collection<String> KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "FROM", "WHERE", "AND", "INSERT", "INTO", "VALUES", "UPDATE", "SET", "DELETE", "USER", "RANK"));
+    
+    @Test
+    void assertParseSelect() {
+        String sql = "SELECT t_order.order_id, status FROM db.t_order WHERE order_id = ? AND user_id = 10";
+        Optional<SQLStatement> actual = new SimpleDMLStatementParser(new DialectSimpleDMLStatementFactoryFixture(), KEYWORDS, sql).parse();
+        assertTrue(actual.isPresent());
+        SelectStatement selectStatement = (SelectStatement) actual.get();
+        assertThat(selectStatement.getProjections().getStartIndex(), is(7));
+        assertThat(selectStatement.getProjections().getStopIndex(), is(30));
+        ColumnProjectionSegment firstProjection = (ColumnProjectionSegment) selectStatement.getProjections().getProjections().iterator().next();
+        assertThat(firstProjection.getColumn().getIdentifier().getValue(), is("order_id"));
+        assertThat(firstProjection.getColumn().getOwner().get().getIdentifier().getValue(), is("t_order"));
+        SimpleTableSegment table = (SimpleTableSegment) selectStatement.getFrom().get();
+        assertThat(table.getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(table.getOwner().get().getIdentifier().getValue(), is("db"));
+        WhereSegment where = selectStatement.getWhere().get();
+        assertThat(where.getStartIndex(), is(48));
+        assertThat(where.getStopIndex(), is(sql.length() - 1));
+        BinaryOperationExpression andExpression = (BinaryOperationExpression) where.getExpr();
+        assertThat(andExpression.getOperator(), is("AND"));
+        assertThat(andExpression.getText(), is("order_id = ? AND user_id = 10"));
+        BinaryOperationExpression rightExpression = (BinaryOperationExpression) andExpression.getRight();
+        assertThat(((LiteralExpressionSegment) rightExpression.getRight()).getLiterals(), is(10));
+        assertThat(selectStatement.getParameterCount(), is(1));
+    }
+    
+    @Test
+    void assertParseInsert() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, 'init'), (?, ?)";
+        InsertStatement actual = (InsertStatement) new SimpleDMLStatementParser(new DialectSimpleDMLStatementFactoryFixture(), KEYWORDS, sql).parse().get();
+        assertThat(actual.getTable().getTableName().getIdentifier().getValue(), is("t_order"));
+        InsertColumnsSegment insertColumns = actual.getInsertColumns().get();
+        assertThat(insertColumns.getStartIndex(), is(20));
+        assertThat(insertColumns.getStopIndex(), is(37));
+        assertThat(insertColumns.getColumns().size(), is(2));
+        assertThat(actual.getValues().size(), is(2));
+        Iterator<InsertValuesSegment> values = actual.getValues().iterator();
+        assertThat(((LiteralExpressionSegment) values.next().getValues().get(1)).getLiterals(), is("init"));
+        assertThat(((ParameterMarkerExpressionSegment) values.next().getValues().get(1)).getParameterMarkerIndex(), is(2));
+        assertThat(actual.getParameterCount(), is(3));
+    }
+    
+    @Test
+    void assertParseInsertWithoutColumns() {
+        String sql = "INSERT INTO t_order VALUES ($1, $2)";
+        InsertStatement actual = (InsertStatement) new SimpleDMLStatementParser(new DialectSimpleDMLStatementFactoryFixture(), KEYWORDS, sql).parse().get();
+        assertThat(actual.getInsertColumns().get().getStartIndex(), is(19));
+        assertTrue(actual.getInsertColumns().get().getColumns().isEmpty());
+        ParameterMarkerExpressionSegment parameterMarker = (ParameterMarkerExpressionSegment) actual.getValues().iterator().next().getValues().get(1);
+        assertThat(parameterMarker.getParameterMarkerIndex(), is(1));
+        assertThat(parameterMarker.getParameterMarkerType(), is(ParameterMarkerType.DOLLAR));
+    }
+    
+    @Test
+    void assertParseUpdate() {
+        String sql = "UPDATE t_order SET status = ?, user_id = ? WHERE order_id = ?";
+        UpdateStatement actual = (UpdateStatement) new SimpleDMLStatementParser(new DialectSimpleDMLStatementFactoryFixture(), KEYWORDS, sql).parse().get();
+        assertThat(actual.getSetAssignment().getStartIndex(), is(15));
+        assertThat(actual.getSetAssignment().getStopIndex(), is(41));
+        ColumnAssignmentSegment assignment = actual.getSetAssignment().getAssignments().iterator().next();
+        assertThat(assignment.getColumns().get(0).getIdentifier().getValue(), is("status"));
+        assertThat(((ParameterMarkerExpressionSegment) assignment.getValue()).getParameterMarkerIndex(), is(0));
+        BinaryOperationExpression condition = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        assertThat(((ColumnSegment) condition.getLeft()).getIdentifier().getValue(), is("order_id"));
+        assertThat(((ParameterMarkerExpressionSegment) condition.getRight()).getParameterMarkerIndex(), is(2));
+    }
+    
+    @Test
+    void assertParseDelete() {
+        String sql = "delete from t_order where order_id = 1.5";
+        SQLStatement actual = new SimpleDMLStatementParser(new DialectSimpleDMLStatementFactoryFixture(), KEYWORDS, sql).parse().get();
+        assertThat(actual, instanceOf(DeleteStatement.class));
+        assertThat(actual.getParameterCount(), is(0));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "SELECT COUNT(*) FROM t_order", "SELECT * FROM t_order WHERE order_id = ? /* comment */", "SELECT * FROM t_order WHERE order_id = ?;",
+            "SELECT * FROM t_order WHERE order_id = ? FOR UPDATE", "SELECT * FROM t_order o WHERE o.order_id = ?", "SELECT * FROM t_order WHERE order_id > ?",
+            "SELECT * FROM t_order WHERE order_id = ? OR user_id = ?", "SELECT * FROM `t_order` WHERE order_id = ?", "SELECT * FROM t_order WHERE status = 'a''b'",
+            "SELECT * FROM t_order WHERE status = E'a'", "SELECT * FROM t_order WHERE order_id = ? AND user_id = $1", "SELECT * FROM user WHERE id = ?",
+            "SELECT rank FROM t_order WHERE order_id = ?", "UPDATE t_order SET rank = ? WHERE order_id = ?",
+            "INSERT INTO t_order ( order_id) VALUES (?)", "INSERT INTO t_order SELECT * FROM t_order_item", "UPDATE t_order SET  status = ?", "DELETE t_order WHERE order_id = ?"})
+    void assertNotRecognized(final String sql) {
+        assertFalse(new SimpleDMLStatementParser(new DialectSimpleDMLStatementFactoryFixture(), KEYWORDS, sql).parse().isPresent());
+    }
+}
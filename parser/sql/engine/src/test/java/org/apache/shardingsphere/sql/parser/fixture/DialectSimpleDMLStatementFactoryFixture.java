@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.fixture;
+
+import org.apache.shardingsphere.sql.parser.spi.DialectSimpleDMLStatementFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLUpdateStatement;
+
+public final class DialectSimpleDMLStatementFactoryFixture implements DialectSimpleDMLStatementFactory {
+    
+    @Override
+    public SelectStatement newSelectStatement() {
+        return new MySQLSelectStatement();
+    }
+    
+    @Override
+    public InsertStatement newInsertStatement() {
+        return new MySQLInsertStatement();
+    }
+    
+    @Override
+    public UpdateStatement newUpdateStatement() {
+        return new MySQLUpdateStatement();
+    }
+    
+    @Override
+    public DeleteStatement newDeleteStatement() {
+        return new MySQLDeleteStatement();
+    }
+    
+    @Override
+    public boolean isDollarParameterMarkerSupported() {
+        return true;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "FIXTURE";
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.QueryResultSpillBudget;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
@@ -115,6 +116,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private final Collection<ResultSet> cachedResultSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
     
+    private final Collection<QueryResult> cachedQueryResults = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    
     private List<QueryHeader> queryHeaders;
     
     private MergedResult mergedResult;
@@ -183,6 +186,15 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add query result.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final QueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         if (proxySQLExecutor.getSqlFederationEngine().decide(queryContext, contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData())) {
@@ -256,7 +268,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         DatabaseType protocolType = database.getProtocolType();
         ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, protocolType, database.getResourceMetaData(),
-                queryContext.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true);
+                queryContext.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true,
+                new QueryResultSpillBudget(contextManager.getMetaDataContexts().getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_RESULT_SPILL_THRESHOLD)));
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine(isReturnGeneratedKeys, contextManager.getMetaDataContexts());
         SQLFederationContext context = new SQLFederationContext(
                 false, queryContext, contextManager.getMetaDataContexts().getMetaData(), databaseConnectionManager.getConnectionSession().getProcessId());
@@ -368,9 +381,26 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get row values.
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public List<Object> getRowValues() throws SQLException {
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
+        result.addAll(closeQueryResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -382,6 +412,30 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
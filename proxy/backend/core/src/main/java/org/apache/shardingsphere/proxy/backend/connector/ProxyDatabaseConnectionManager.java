@@ -145,13 +145,25 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
         for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
-                }
+                executeSessionVariableSQLs(statement, setSQLs);
             }
         }
     }
     
+    private void executeSessionVariableSQLs(final Statement statement, final List<String> sqls) throws SQLException {
+        if (sqls.isEmpty()) {
+            return;
+        }
+        if (1 == sqls.size()) {
+            statement.execute(sqls.get(0));
+            return;
+        }
+        for (String each : sqls) {
+            statement.addBatch(each);
+        }
+        statement.executeBatch();
+    }
+    
     private void releaseConnection(final List<Connection> connections, final SQLException sqlException) {
         for (Connection each : connections) {
             try {
@@ -345,9 +357,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
         for (Connection each : values) {
             try (Statement statement = each.createStatement()) {
-                for (String eachResetSQL : resetSQLs) {
-                    statement.execute(eachResetSQL);
-                }
+                executeSessionVariableSQLs(statement, resetSQLs);
             } catch (final SQLException ex) {
                 exceptions.add(ex);
             }
@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -183,13 +184,21 @@ public final class ProxySQLExecutor {
     public List<ExecuteResult> execute(final ExecutionContext executionContext) throws SQLException {
         String databaseName = databaseConnectionManager.getConnectionSession().getUsedDatabaseName();
         Collection<ShardingSphereRule> rules = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getRuleMetaData().getRules();
-        int maxConnectionsSizePerQuery = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        int maxConnectionsSizePerQuery = getMaxConnectionsSizePerQuery(executionContext, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
         boolean isReturnGeneratedKeys = executionContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         return hasRawExecutionRule(rules) ? rawExecute(executionContext, rules, maxConnectionsSizePerQuery)
                 : useDriverToExecute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
     }
     
+    private int getMaxConnectionsSizePerQuery(final ExecutionContext executionContext, final ConfigurationProperties props) {
+        int ddlMaxConnectionsSizePerQuery = props.<Integer>getValue(ConfigurationPropertyKey.DDL_MAX_CONNECTIONS_SIZE_PER_QUERY);
+        if (ddlMaxConnectionsSizePerQuery > 0 && executionContext.getSqlStatementContext().getSqlStatement() instanceof DDLStatement
+                && !databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction()) {
+            return ddlMaxConnectionsSizePerQuery;
+        }
+        return props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+    }
+    
     private boolean hasRawExecutionRule(final Collection<ShardingSphereRule> rules) {
         for (ShardingSphereRule each : rules) {
             if (each.getAttributes().findAttribute(RawExecutionRuleAttribute.class).isPresent()) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
 
@@ -27,6 +28,9 @@ import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Resource lock.
+ *
+ * <p>Writers await until channel becomes writable again, and are woken up by channel writability changed or channel inactive events.
+ * Writability is still checked every 200 milliseconds in case of a missed notification.</p>
  */
 public final class ResourceLock {
     
@@ -40,18 +44,28 @@ public final class ResourceLock {
      * Await.
      *
      * @param context channel handler context
+     * @return whether writing is stalled by back pressure or not
      */
+    public boolean doAwait(final ChannelHandlerContext context) {
+        Channel channel = context.channel();
+        if (channel.isWritable() || !channel.isActive()) {
+            return false;
+        }
+        context.flush();
+        awaitWritable(channel);
+        return true;
+    }
+    
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @SneakyThrows(InterruptedException.class)
-    public void doAwait(final ChannelHandlerContext context) {
-        while (!context.channel().isWritable() && context.channel().isActive()) {
-            context.flush();
-            lock.lock();
-            try {
+    private void awaitWritable(final Channel channel) {
+        lock.lock();
+        try {
+            while (!channel.isWritable() && channel.isActive()) {
                 condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
-            } finally {
-                lock.unlock();
             }
+        } finally {
+            lock.unlock();
         }
     }
     
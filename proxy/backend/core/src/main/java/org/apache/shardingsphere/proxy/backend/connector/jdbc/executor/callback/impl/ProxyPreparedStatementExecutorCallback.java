@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.impl;
 
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.QueryResultSpillBudget;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
@@ -34,8 +35,8 @@ public final class ProxyPreparedStatementExecutorCallback extends ProxyJDBCExecu
     
     public ProxyPreparedStatementExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
                                                   final DatabaseConnector databaseConnector, final boolean isReturnGeneratedKeys,
-                                                  final boolean isExceptionThrown, final boolean fetchMetaData) {
-        super(protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, fetchMetaData);
+                                                  final boolean isExceptionThrown, final boolean fetchMetaData, final QueryResultSpillBudget spillBudget) {
+        super(protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, fetchMetaData, spillBudget);
     }
     
     @Override
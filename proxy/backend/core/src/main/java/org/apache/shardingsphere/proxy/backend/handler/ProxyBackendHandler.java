@@ -22,6 +22,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Proxy backend handler.
@@ -56,6 +57,18 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row values.
+     *
+     * <p>Values are read without creating query response cells, which is used by text protocol to write result row.</p>
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    default List<Object> getRowValues() throws SQLException {
+        return getRowData().getData();
+    }
+    
     /**
      * Close.
      *
@@ -24,7 +24,13 @@ import org.apache.shardingsphere.infra.exception.kernel.syntax.UnsupportedVariab
  */
 public enum DistSQLVariable {
     
-    CACHED_CONNECTIONS;
+    CACHED_CONNECTIONS,
+    
+    SUPPORTED_SQL_CHECK_CACHE_HIT_RATE,
+    
+    ROUTE_SQL_TEMPLATE_CACHE_SIZE,
+    
+    ROUTE_SQL_TEMPLATE_CACHE_HIT_RATE;
     
     /**
      * Returns the variable constant of the specified variable name.
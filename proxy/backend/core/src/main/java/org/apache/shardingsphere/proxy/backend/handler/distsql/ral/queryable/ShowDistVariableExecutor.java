@@ -22,24 +22,26 @@ import org.apache.shardingsphere.distsql.handler.aware.DistSQLExecutorConnection
 import org.apache.shardingsphere.distsql.handler.engine.DistSQLConnectionContext;
 import org.apache.shardingsphere.distsql.handler.engine.query.DistSQLQueryExecutor;
 import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowDistVariableStatement;
+import org.apache.shardingsphere.infra.checker.SupportedSQLCheckCache;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
-import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplateCache;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 import org.apache.shardingsphere.logging.constant.LoggingConstants;
 import org.apache.shardingsphere.logging.logger.ShardingSphereLogger;
 import org.apache.shardingsphere.logging.util.LoggingUtils;
 import org.apache.shardingsphere.mode.manager.ContextManager;
-import org.apache.shardingsphere.infra.exception.kernel.syntax.UnsupportedVariableException;
 import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.common.DistSQLVariable;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Show dist variable executor.
@@ -64,7 +66,7 @@ public final class ShowDistVariableExecutor implements DistSQLQueryExecutor<Show
         if (isTemporaryConfigurationKey(variableName)) {
             return Collections.singleton(new LocalDataQueryResultRow(variableName.toLowerCase(), getTemporaryConfigurationValue(metaData, variableName)));
         }
-        return Collections.singleton(new LocalDataQueryResultRow(variableName.toLowerCase(), getConnectionSize(variableName)));
+        return Collections.singleton(new LocalDataQueryResultRow(variableName.toLowerCase(), getDistSQLVariableValue(metaData, variableName)));
     }
     
     private boolean isConfigurationKey(final String variableName) {
@@ -102,9 +104,28 @@ public final class ShowDistVariableExecutor implements DistSQLQueryExecutor<Show
         return getStringResult(metaData.getTemporaryProps().getValue(TemporaryConfigurationPropertyKey.valueOf(variableName)).toString());
     }
     
-    private String getConnectionSize(final String variableName) {
-        ShardingSpherePreconditions.checkState(DistSQLVariable.CACHED_CONNECTIONS == DistSQLVariable.getValueOf(variableName), () -> new UnsupportedVariableException(variableName));
-        return String.valueOf(connectionContext.getConnectionSize());
+    private String getDistSQLVariableValue(final ShardingSphereMetaData metaData, final String variableName) {
+        switch (DistSQLVariable.getValueOf(variableName)) {
+            case SUPPORTED_SQL_CHECK_CACHE_HIT_RATE:
+                return String.valueOf(SupportedSQLCheckCache.getInstance().getHitRate());
+            case ROUTE_SQL_TEMPLATE_CACHE_SIZE:
+                return String.valueOf(getRouteSQLTemplateCaches(metaData).stream().mapToLong(RouteSQLTemplateCache::getSize).sum());
+            case ROUTE_SQL_TEMPLATE_CACHE_HIT_RATE:
+                return String.valueOf(getRouteSQLTemplateCacheHitRate(getRouteSQLTemplateCaches(metaData)));
+            default:
+                return String.valueOf(connectionContext.getConnectionSize());
+        }
+    }
+    
+    private Collection<RouteSQLTemplateCache> getRouteSQLTemplateCaches(final ShardingSphereMetaData metaData) {
+        return metaData.getDatabases().values().stream().map(each -> each.getRuleMetaData().findSingleRule(ShardingRule.class)).filter(Optional::isPresent).map(Optional::get)
+                .filter(ShardingRule::isShardingCacheEnabled).map(each -> each.getShardingCache().getRouteSQLTemplateCache()).collect(Collectors.toList());
+    }
+    
+    private double getRouteSQLTemplateCacheHitRate(final Collection<RouteSQLTemplateCache> caches) {
+        long hitCount = caches.stream().mapToLong(RouteSQLTemplateCache::getHitCount).sum();
+        long requestCount = hitCount + caches.stream().mapToLong(RouteSQLTemplateCache::getMissCount).sum();
+        return 0L == requestCount ? 1.0D : (double) hitCount / requestCount;
     }
     
     private String getStringResult(final Object value) {
@@ -27,6 +27,8 @@ public final class ServerPreparedStatementRegistry {
     
     private final Map<Object, ServerPreparedStatement> preparedStatements = new ConcurrentHashMap<>();
     
+    private final Map<Object, SharedServerPreparedStatement<?>> sharedPreparedStatements = new ConcurrentHashMap<>();
+    
     /**
      * Add {@link ServerPreparedStatement} into registry.
      *
@@ -35,6 +37,19 @@ public final class ServerPreparedStatementRegistry {
      */
     public void addPreparedStatement(final Object statementId, final ServerPreparedStatement serverPreparedStatement) {
         preparedStatements.put(statementId, serverPreparedStatement);
+        releaseSharedPreparedStatement(statementId);
+    }
+    
+    /**
+     * Add {@link ServerPreparedStatement} created from {@link SharedServerPreparedStatement} into registry.
+     *
+     * @param statementId statement ID
+     * @param serverPreparedStatement server prepared statement
+     * @param sharedPreparedStatement acquired shared server prepared statement, which will be released when server prepared statement removed
+     */
+    public void addPreparedStatement(final Object statementId, final ServerPreparedStatement serverPreparedStatement, final SharedServerPreparedStatement<?> sharedPreparedStatement) {
+        addPreparedStatement(statementId, serverPreparedStatement);
+        sharedPreparedStatements.put(statementId, sharedPreparedStatement);
     }
     
     /**
@@ -56,6 +71,14 @@ public final class ServerPreparedStatementRegistry {
      */
     public void removePreparedStatement(final Object statementId) {
         preparedStatements.remove(statementId);
+        releaseSharedPreparedStatement(statementId);
+    }
+    
+    private void releaseSharedPreparedStatement(final Object statementId) {
+        SharedServerPreparedStatement<?> sharedPreparedStatement = sharedPreparedStatements.remove(statementId);
+        if (null != sharedPreparedStatement) {
+            SharedServerPreparedStatementCache.getInstance().release(sharedPreparedStatement);
+        }
     }
     
     /**
@@ -63,5 +86,6 @@ public final class ServerPreparedStatementRegistry {
      */
     public void clear() {
         preparedStatements.clear();
+        sharedPreparedStatements.keySet().forEach(this::releaseSharedPreparedStatement);
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared server prepared statement.
+ *
+ * <p>Holds the immutable parts of server prepared statements with the same SQL, which are shared by all connections of ShardingSphere-Proxy.
+ * The mutable {@code SQLStatementContext} is still created by each connection from the shared bound SQL statement.</p>
+ *
+ * @param <T> type of protocol specific definition
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SharedServerPreparedStatement<T> {
+    
+    private final String sql;
+    
+    private final SQLStatement sqlStatement;
+    
+    private final T definition;
+    
+    @Setter(AccessLevel.PACKAGE)
+    private volatile long metaDataVersion;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger referenceCount = new AtomicInteger();
+    
+    void retain() {
+        referenceCount.incrementAndGet();
+    }
+    
+    void release() {
+        referenceCount.decrementAndGet();
+    }
+    
+    boolean isReferenced() {
+        return referenceCount.get() > 0;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shared server prepared statement cache.
+ *
+ * <p>Shared server prepared statements are reference counted by server prepared statement registries of connections.
+ * Unreferenced ones are kept for later prepares until the cache is full, and all of them are reloaded once the meta data version changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SharedServerPreparedStatementCache {
+    
+    private static final SharedServerPreparedStatementCache INSTANCE = new SharedServerPreparedStatementCache();
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private final Map<CacheKey, SharedServerPreparedStatement<?>> preparedStatements = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of shared server prepared statement cache.
+     *
+     * @return got instance
+     */
+    public static SharedServerPreparedStatementCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Acquire shared server prepared statement.
+     *
+     * @param <T> type of protocol specific definition
+     * @param protocolType protocol type
+     * @param metaData meta data
+     * @param databaseName current database name
+     * @param sql SQL without hint
+     * @param hintValueContext hint value context
+     * @param loader loader of shared server prepared statement, which is called if absent or meta data changed after loaded
+     * @return acquired shared server prepared statement, which should be released by server prepared statement registry
+     */
+    @SuppressWarnings("unchecked")
+    public <T> SharedServerPreparedStatement<T> acquire(final DatabaseType protocolType, final ShardingSphereMetaData metaData, final String databaseName, final String sql,
+                                                        final HintValueContext hintValueContext, final Supplier<SharedServerPreparedStatement<T>> loader) {
+        CacheKey key = new CacheKey(protocolType.getType(), databaseName, sql, hintValueContext.findHintDataSourceName().isPresent());
+        long metaDataVersion = getMetaDataVersion(metaData, databaseName);
+        SharedServerPreparedStatement<?> result = preparedStatements.get(key);
+        if (null == result || metaDataVersion != result.getMetaDataVersion()) {
+            SharedServerPreparedStatement<T> loaded = loader.get();
+            loaded.setMetaDataVersion(metaDataVersion);
+            if (preparedStatements.size() >= MAXIMUM_SIZE) {
+                preparedStatements.values().removeIf(each -> !each.isReferenced());
+            }
+            result = preparedStatements.merge(key, loaded, (oldValue, newValue) -> metaDataVersion == oldValue.getMetaDataVersion() ? oldValue : newValue);
+        }
+        result.retain();
+        return (SharedServerPreparedStatement<T>) result;
+    }
+    
+    private long getMetaDataVersion(final ShardingSphereMetaData metaData, final String databaseName) {
+        long result = null != databaseName && metaData.containsDatabase(databaseName) ? metaData.getDatabase(databaseName).getMetaDataVersion() : 0L;
+        for (ShardingSphereDatabase each : metaData.getDatabases().values()) {
+            result = Math.max(result, each.getMetaDataVersion());
+        }
+        return result;
+    }
+    
+    /**
+     * Release shared server prepared statement.
+     *
+     * @param preparedStatement shared server prepared statement to be released
+     */
+    public void release(final SharedServerPreparedStatement<?> preparedStatement) {
+        preparedStatement.release();
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size of cached shared server prepared statements
+     */
+    public int size() {
+        return preparedStatements.size();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String protocolType;
+        
+        private final String databaseName;
+        
+        private final String sql;
+        
+        private final boolean hintDataSourcePresent;
+    }
+}
@@ -140,6 +140,7 @@ public final class YamlDatabaseConfigurationImportExecutor {
         RuleConfigurationCheckEngine.check(ruleConfig, database);
         ruleConfigs.add(ruleConfig);
         database.getRuleMetaData().getRules().add(buildRule(ruleConfig, database));
+        database.refreshMetaDataVersion();
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -25,7 +25,10 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.QueryResultSpillBudget;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -50,6 +53,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -68,8 +72,13 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.plugins.MemberAccessor;
 import org.mockito.quality.Strictness;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
@@ -80,6 +89,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -177,6 +187,20 @@ class DatabaseConnectorTest {
         }
     }
     
+    @Test
+    void assertGetRowValues() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(createQueryContext(sqlStatementContext), databaseConnectionManager, false);
+        MemberAccessor accessor = Plugins.getMemberAccessor();
+        accessor.set(DatabaseConnector.class.getDeclaredField("queryHeaders"), engine, Arrays.asList(mock(QueryHeader.class), mock(QueryHeader.class)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("foo");
+        accessor.set(DatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        assertThat(engine.getRowValues(), is(Arrays.asList(1, "foo")));
+    }
+    
     private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext) {
         ConnectionContext connectionContext = mock(ConnectionContext.class);
         when(connectionContext.getCurrentDatabaseName()).thenReturn(Optional.of(DefaultDatabase.LOGIC_NAME));
@@ -225,6 +249,18 @@ class DatabaseConnectorTest {
         assertThat(actual.iterator().next(), is(resultSet));
     }
     
+    @Test
+    void assertAddQueryResultCorrectly() {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(createQueryContext(sqlStatementContext), databaseConnectionManager, false);
+        QueryResult queryResult = mock(QueryResult.class);
+        engine.add(queryResult);
+        Collection<?> actual = getField(engine, "cachedQueryResults");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(queryResult));
+    }
+    
     @Test
     void assertCloseCorrectly() throws SQLException {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
@@ -270,6 +306,38 @@ class DatabaseConnectorTest {
         assertThat(actual.getNextException().getNextException(), is(sqlExceptionByStatement));
     }
     
+    @Test
+    void assertCloseWithAbandonedSpilledQueryResult() throws SQLException, IOException {
+        long originalSpillFileCount = getSpillFileCount();
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(createQueryContext(sqlStatementContext), databaseConnectionManager, false);
+        QueryResult queryResult = new JDBCMemoryQueryResult(mockSpilledResultSet(), TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), new QueryResultSpillBudget(1L));
+        engine.add(queryResult);
+        assertThat(getSpillFileCount(), is(originalSpillFileCount + 1L));
+        assertTrue(queryResult.next());
+        engine.close();
+        assertThat(getSpillFileCount(), is(originalSpillFileCount));
+        assertTrue(((Collection<?>) getField(engine, "cachedQueryResults")).isEmpty());
+    }
+    
+    private ResultSet mockSpilledResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(result.getString(1)).thenReturn("foo", "bar", "baz");
+        return result;
+    }
+    
+    private long getSpillFileCount() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-query-result-")).count();
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private <T> T getField(final DatabaseConnector target, final String fieldName) {
@@ -122,6 +122,7 @@ class ProxyDatabaseConnectionManagerTest {
         when(metaData.getDatabase(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS));
         when(metaData.getDatabases().values().iterator().next().getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         TransactionRule transactionRule = mock(TransactionRule.class);
         when(transactionRule.getDefaultType()).thenReturn(TransactionType.LOCAL);
         when(metaData.getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.singletonList(transactionRule)));
@@ -255,6 +256,20 @@ class ProxyDatabaseConnectionManagerTest {
         verify(actualConnection.createStatement()).execute("SET key=value");
     }
     
+    @Test
+    void assertGetConnectionsAndReplayMultipleSessionVariablesInBatch() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key_0", "value_0");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key_1", "value_1");
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        databaseConnectionManager.getConnections(DefaultDatabase.LOGIC_NAME, "", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement()).addBatch("SET key_0=value_0");
+        verify(connection.createStatement()).addBatch("SET key_1=value_1");
+        verify(connection.createStatement()).executeBatch();
+        verify(connection.createStatement(), never()).execute(anyString());
+    }
+    
     @Test
     void assertGetConnectionsAndFailedToReplaySessionVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
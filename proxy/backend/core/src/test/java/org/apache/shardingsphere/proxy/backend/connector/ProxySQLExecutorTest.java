@@ -50,6 +50,7 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 import org.apache.shardingsphere.sql.parser.statement.mysql.ddl.MySQLCreateTableStatement;
 import org.apache.shardingsphere.sql.parser.statement.mysql.ddl.MySQLTruncateStatement;
@@ -60,6 +61,8 @@ import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLI
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,6 +70,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
@@ -74,6 +78,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -106,6 +112,7 @@ class ProxySQLExecutorTest {
         when(metaData.getDatabase(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS));
         when(metaData.getDatabases().values().iterator().next().getProtocolType()).thenReturn(databaseType);
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(transactionRule.getDefaultType()).thenReturn(TransactionType.XA);
         when(metaData.getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Arrays.asList(mock(SQLFederationRule.class), transactionRule)));
         ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
@@ -239,6 +246,33 @@ class ProxySQLExecutorTest {
         new ProxySQLExecutor(JDBCDriverType.STATEMENT, databaseConnectionManager, mock(DatabaseConnector.class), mockQueryContext()).checkExecutePrerequisites(executionContext);
     }
     
+    @Test
+    void assertGetMaxConnectionsSizePerQueryWhenExecuteDDLNotInTransaction() throws ReflectiveOperationException {
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(false);
+        assertThat(getMaxConnectionsSizePerQuery(new MySQLCreateTableStatement(false)), is(8));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizePerQueryWhenExecuteDDLInTransaction() throws ReflectiveOperationException {
+        assertThat(getMaxConnectionsSizePerQuery(new MySQLCreateTableStatement(false)), is(2));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizePerQueryWhenExecuteDMLNotInTransaction() throws ReflectiveOperationException {
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(false);
+        assertThat(getMaxConnectionsSizePerQuery(new MySQLInsertStatement()), is(2));
+    }
+    
+    private int getMaxConnectionsSizePerQuery(final SQLStatement sqlStatement) throws ReflectiveOperationException {
+        ExecutionContext executionContext = mock(ExecutionContext.class, RETURNS_DEEP_STUBS);
+        when(executionContext.getSqlStatementContext().getSqlStatement()).thenReturn(sqlStatement);
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "2"), new Property(ConfigurationPropertyKey.DDL_MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "8")));
+        ProxySQLExecutor proxySQLExecutor = new ProxySQLExecutor(JDBCDriverType.STATEMENT, databaseConnectionManager, mock(DatabaseConnector.class), mockQueryContext());
+        return (int) Plugins.getMemberAccessor().invoke(
+                ProxySQLExecutor.class.getDeclaredMethod("getMaxConnectionsSizePerQuery", ExecutionContext.class, ConfigurationProperties.class), proxySQLExecutor, executionContext, props);
+    }
+    
     private CreateTableStatementContext createMySQLCreateTableStatementContext() {
         MySQLCreateTableStatement sqlStatement = new MySQLCreateTableStatement(false);
         sqlStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
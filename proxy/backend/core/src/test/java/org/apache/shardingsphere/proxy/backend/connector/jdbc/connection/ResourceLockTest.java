@@ -28,11 +28,16 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -77,4 +82,40 @@ class ResourceLockTest {
         resourceLock.doAwait(channelHandlerContext);
         assertTrue(System.currentTimeMillis() >= startTime);
     }
+    
+    @Test
+    void assertDoAwaitUntilNotifiedWhenChannelWritable() throws ExecutionException, InterruptedException, TimeoutException {
+        AtomicBoolean writable = new AtomicBoolean(false);
+        when(channel.isWritable()).thenAnswer(invocation -> writable.get());
+        when(channel.isActive()).thenReturn(true);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        ResourceLock actual = new ResourceLock();
+        Future<Boolean> stalled = Executors.newSingleThreadExecutor().submit(() -> actual.doAwait(channelHandlerContext));
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        assertFalse(stalled.isDone());
+        writable.set(true);
+        actual.doNotify();
+        assertTrue(stalled.get(1L, TimeUnit.SECONDS));
+        verify(channelHandlerContext).flush();
+    }
+    
+    @Test
+    void assertDoAwaitWithoutNotificationWhenChannelWritable() throws ExecutionException, InterruptedException, TimeoutException {
+        AtomicBoolean writable = new AtomicBoolean(false);
+        when(channel.isWritable()).thenAnswer(invocation -> writable.get());
+        when(channel.isActive()).thenReturn(true);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        ResourceLock actual = new ResourceLock();
+        Future<Boolean> stalled = Executors.newSingleThreadExecutor().submit(() -> actual.doAwait(channelHandlerContext));
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        writable.set(true);
+        assertTrue(stalled.get(1L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void assertDoAwaitWhenChannelWritable() {
+        when(channel.isWritable()).thenReturn(true);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        assertFalse(new ResourceLock().doAwait(channelHandlerContext));
+    }
 }
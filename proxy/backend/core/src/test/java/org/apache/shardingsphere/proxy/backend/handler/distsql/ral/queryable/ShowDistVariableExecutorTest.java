@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
 
 import org.apache.shardingsphere.distsql.handler.engine.DistSQLConnectionContext;
 import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowDistVariableStatement;
+import org.apache.shardingsphere.infra.checker.SupportedSQLCheckCache;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -26,13 +27,18 @@ import org.apache.shardingsphere.infra.exception.kernel.syntax.UnsupportedVariab
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ExecutorStatementManager;
 import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.sql.template.RouteSQLTemplateCache;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -57,6 +63,59 @@ class ShowDistVariableExecutorTest {
         assertThat(row.getCell(2), is("1"));
     }
     
+    @Test
+    void assertShowSupportedSQLCheckCacheHitRate() {
+        ShowDistVariableExecutor executor = new ShowDistVariableExecutor();
+        Collection<LocalDataQueryResultRow> actual = executor.getRows(new ShowDistVariableStatement("SUPPORTED_SQL_CHECK_CACHE_HIT_RATE"), contextManager);
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("supported_sql_check_cache_hit_rate"));
+        assertThat(row.getCell(2), is(String.valueOf(SupportedSQLCheckCache.getInstance().getHitRate())));
+    }
+    
+    @Test
+    void assertShowRouteSQLTemplateCacheSize() {
+        mockShardingRuleWithRouteSQLTemplateCache();
+        ShowDistVariableExecutor executor = new ShowDistVariableExecutor();
+        Collection<LocalDataQueryResultRow> actual = executor.getRows(new ShowDistVariableStatement("ROUTE_SQL_TEMPLATE_CACHE_SIZE"), contextManager);
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("route_sql_template_cache_size"));
+        assertThat(row.getCell(2), is("2"));
+    }
+    
+    @Test
+    void assertShowRouteSQLTemplateCacheHitRate() {
+        mockShardingRuleWithRouteSQLTemplateCache();
+        ShowDistVariableExecutor executor = new ShowDistVariableExecutor();
+        Collection<LocalDataQueryResultRow> actual = executor.getRows(new ShowDistVariableStatement("ROUTE_SQL_TEMPLATE_CACHE_HIT_RATE"), contextManager);
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("route_sql_template_cache_hit_rate"));
+        assertThat(row.getCell(2), is("0.75"));
+    }
+    
+    @Test
+    void assertShowRouteSQLTemplateCacheHitRateWithoutShardingCache() {
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabases()).thenReturn(Collections.emptyMap());
+        ShowDistVariableExecutor executor = new ShowDistVariableExecutor();
+        Collection<LocalDataQueryResultRow> actual = executor.getRows(new ShowDistVariableStatement("ROUTE_SQL_TEMPLATE_CACHE_HIT_RATE"), contextManager);
+        assertThat(actual.iterator().next().getCell(2), is("1.0"));
+    }
+    
+    private void mockShardingRuleWithRouteSQLTemplateCache() {
+        RouteSQLTemplateCache routeSQLTemplateCache = mock(RouteSQLTemplateCache.class);
+        when(routeSQLTemplateCache.getSize()).thenReturn(2L);
+        when(routeSQLTemplateCache.getHitCount()).thenReturn(3L);
+        when(routeSQLTemplateCache.getMissCount()).thenReturn(1L);
+        ShardingRule shardingRule = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
+        when(shardingRule.isShardingCacheEnabled()).thenReturn(true);
+        when(shardingRule.getShardingCache().getRouteSQLTemplateCache()).thenReturn(routeSQLTemplateCache);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabases()).thenReturn(Collections.singletonMap("sharding_db", database));
+    }
+    
     @Test
     void assertShowPropsVariable() {
         when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property("sql-show", Boolean.TRUE.toString()))));
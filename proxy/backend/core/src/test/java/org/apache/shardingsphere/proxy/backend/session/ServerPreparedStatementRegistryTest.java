@@ -19,11 +19,15 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 class ServerPreparedStatementRegistryTest {
     
@@ -45,6 +49,20 @@ class ServerPreparedStatementRegistryTest {
         assertNull(registry.getPreparedStatement(1));
     }
     
+    @Test
+    void assertReleaseSharedPreparedStatement() {
+        SharedServerPreparedStatement<?> sharedPreparedStatement = new SharedServerPreparedStatement<>("SELECT 1", mock(SQLStatement.class), null);
+        sharedPreparedStatement.retain();
+        sharedPreparedStatement.retain();
+        ServerPreparedStatementRegistry registry = new ServerPreparedStatementRegistry();
+        registry.addPreparedStatement(1, new DummyServerPreparedStatement(), sharedPreparedStatement);
+        registry.addPreparedStatement(2, new DummyServerPreparedStatement(), sharedPreparedStatement);
+        registry.removePreparedStatement(1);
+        assertTrue(sharedPreparedStatement.isReferenced());
+        registry.clear();
+        assertFalse(sharedPreparedStatement.isReferenced());
+    }
+    
     private static class DummyServerPreparedStatement implements ServerPreparedStatement {
         
         @Override
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SharedServerPreparedStatementCacheTest {
+    
+    private final DatabaseType databaseType = mock(DatabaseType.class);
+    
+    @Test
+    void assertAcquireSharedPreparedStatementAcrossConnections() {
+        when(databaseType.getType()).thenReturn("FIXTURE");
+        ShardingSphereMetaData metaData = mockMetaData(1L);
+        SharedServerPreparedStatement<String> expected = acquire(metaData, "SELECT * FROM t_shared WHERE id = ?");
+        SharedServerPreparedStatement<String> actual = SharedServerPreparedStatementCache.getInstance().acquire(databaseType, metaData, "foo_db", "SELECT * FROM t_shared WHERE id = ?",
+                new HintValueContext(), () -> {
+                    throw new IllegalStateException("Shared server prepared statement should not be loaded again.");
+                });
+        assertThat(actual, is(expected));
+        assertTrue(actual.isReferenced());
+        SharedServerPreparedStatementCache.getInstance().release(actual);
+        SharedServerPreparedStatementCache.getInstance().release(expected);
+        assertFalse(actual.isReferenced());
+    }
+    
+    @Test
+    void assertReloadSharedPreparedStatementAfterMetaDataChanged() {
+        when(databaseType.getType()).thenReturn("FIXTURE");
+        SharedServerPreparedStatement<String> expired = acquire(mockMetaData(1L), "SELECT * FROM t_reloaded WHERE id = ?");
+        SharedServerPreparedStatement<String> actual = acquire(mockMetaData(2L), "SELECT * FROM t_reloaded WHERE id = ?");
+        assertThat(actual, not(expired));
+        assertThat(actual.getMetaDataVersion(), is(2L));
+        assertTrue(expired.isReferenced());
+    }
+    
+    private SharedServerPreparedStatement<String> acquire(final ShardingSphereMetaData metaData, final String sql) {
+        return SharedServerPreparedStatementCache.getInstance().acquire(databaseType, metaData, "foo_db", sql, new HintValueContext(),
+                () -> new SharedServerPreparedStatement<>(sql, mock(SQLStatement.class), "definition"));
+    }
+    
+    private ShardingSphereMetaData mockMetaData(final long metaDataVersion) {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getMetaDataVersion()).thenReturn(metaDataVersion);
+        when(result.containsDatabase("foo_db")).thenReturn(true);
+        when(result.getDatabase("foo_db")).thenReturn(database);
+        when(result.getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        return result;
+    }
+}
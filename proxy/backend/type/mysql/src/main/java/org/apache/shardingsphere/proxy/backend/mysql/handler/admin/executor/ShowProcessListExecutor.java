@@ -37,7 +37,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -83,7 +85,7 @@ public final class ShowProcessListExecutor implements DatabaseAdminQueryExecutor
         } else {
             int processDoneCount = process.getCompletedUnitCount().get();
             String statePrefix = "Executing ";
-            rowValues.add(statePrefix + processDoneCount + "/" + process.getTotalUnitCount().get());
+            rowValues.add(statePrefix + processDoneCount + "/" + process.getTotalUnitCount().get() + getDataSourceState(process));
             sql = process.getSql();
         }
         if (null != sql && sql.length() > 100 && !showFullProcesslist) {
@@ -93,6 +95,14 @@ public final class ShowProcessListExecutor implements DatabaseAdminQueryExecutor
         return new MemoryQueryResultDataRow(rowValues);
     }
     
+    private String getDataSourceState(final Process process) {
+        if (!showFullProcesslist || process.getDataSourceTotalUnitCounts().isEmpty()) {
+            return "";
+        }
+        return new TreeMap<>(process.getDataSourceTotalUnitCounts()).entrySet().stream().map(each -> String.format("%s %d/%d", each.getKey(),
+                process.getDataSourceCompletedUnitCounts().getOrDefault(each.getKey(), new AtomicInteger()).get(), each.getValue().get())).collect(Collectors.joining(", ", " (", ")"));
+    }
+    
     private QueryResultMetaData createQueryResultMetaData() {
         List<RawQueryResultColumnMetaData> columns = new ArrayList<>(8);
         columns.add(new RawQueryResultColumnMetaData("", "Id", "Id", Types.VARCHAR, "VARCHAR", 20, 0));
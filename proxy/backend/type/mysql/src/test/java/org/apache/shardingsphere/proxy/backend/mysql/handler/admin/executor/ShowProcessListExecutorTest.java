@@ -64,6 +64,24 @@ class ShowProcessListExecutorTest {
         }
     }
     
+    @Test
+    void assertExecuteWithFullProcessList() throws SQLException {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        Collection<Process> processes = mockProcessList();
+        Process process = processes.iterator().next();
+        process.getDataSourceTotalUnitCounts().put("foo_ds", new AtomicInteger(1));
+        process.getDataSourceTotalUnitCounts().put("bar_ds", new AtomicInteger(1));
+        process.getDataSourceCompletedUnitCounts().put("foo_ds", new AtomicInteger(1));
+        when(contextManager.getPersistServiceFacade().getProcessPersistService().getProcessList()).thenReturn(processes);
+        ShowProcessListExecutor showProcessListExecutor = new ShowProcessListExecutor(true);
+        showProcessListExecutor.execute(new ConnectionSession(mock(MySQLDatabaseType.class), new DefaultAttributeMap()));
+        MergedResult mergedResult = showProcessListExecutor.getMergedResult();
+        while (mergedResult.next()) {
+            assertThat(mergedResult.getValue(7, String.class), is("Executing 1/2 (bar_ds 0/1, foo_ds 1/1)"));
+        }
+    }
+    
     private Collection<Process> mockProcessList() {
         Process process = new Process("f6c2336a-63ba-41bf-941e-2e3504eb2c80", 1617939785160L,
                 "ALTER TABLE t_order ADD COLUMN a varchar(64) AFTER order_id", "foo_db", "root", "127.0.0.1", new AtomicInteger(2), new AtomicInteger(1), new AtomicBoolean(false),
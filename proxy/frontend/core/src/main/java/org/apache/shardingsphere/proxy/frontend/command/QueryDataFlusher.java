@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Query data flusher.
+ *
+ * <p>Query data is flushed every {@code proxy-frontend-flush-threshold} rows by default.
+ * If {@code proxy-frontend-flush-bytes-threshold} is configured, query data is flushed once bytes encoded since last flush reach the adaptive flush bytes threshold instead,
+ * which is halved when writing is stalled by back pressure of client, and doubled back to the configured value after flushing without stall.</p>
+ */
+public final class QueryDataFlusher {
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushThreshold;
+    
+    private final long maxFlushBytesThreshold;
+    
+    private final long minFlushBytesThreshold;
+    
+    private final AtomicLong encodedBytes;
+    
+    @Getter
+    private long flushBytesThreshold;
+    
+    private long flushedEncodedBytes;
+    
+    private int unflushedCount;
+    
+    private boolean stalled;
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final ResourceLock resourceLock, final ConfigurationProperties props) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        flushThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        int configuredFlushBytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        maxFlushBytesThreshold = configuredFlushBytesThreshold > 0 ? Math.min(configuredFlushBytesThreshold, context.channel().config().getWriteBufferHighWaterMark()) : 0L;
+        minFlushBytesThreshold = Math.max(maxFlushBytesThreshold >> 3, 1L);
+        flushBytesThreshold = maxFlushBytesThreshold;
+        encodedBytes = 0L == maxFlushBytesThreshold ? new AtomicLong() : getEncodedBytes(context);
+        flushedEncodedBytes = encodedBytes.get();
+    }
+    
+    private AtomicLong getEncodedBytes(final ChannelHandlerContext context) {
+        AtomicLong result = new AtomicLong();
+        AtomicLong existed = context.channel().attr(CommonConstants.ENCODED_BYTES_ATTRIBUTE_KEY).setIfAbsent(result);
+        return null == existed ? result : existed;
+    }
+    
+    /**
+     * Write query data packet, await if channel is not writable and flush if threshold is reached.
+     *
+     * @param packet query data packet
+     */
+    public void write(final DatabasePacket packet) {
+        if (resourceLock.doAwait(context)) {
+            stalled = true;
+            flushBytesThreshold = Math.max(flushBytesThreshold >> 1, minFlushBytesThreshold);
+        }
+        context.write(packet);
+        unflushedCount++;
+        if (isFlushRequired()) {
+            flush();
+        }
+    }
+    
+    private boolean isFlushRequired() {
+        return 0L == maxFlushBytesThreshold ? unflushedCount >= flushThreshold : encodedBytes.get() - flushedEncodedBytes >= flushBytesThreshold;
+    }
+    
+    /**
+     * Flush written query data.
+     */
+    public void flush() {
+        context.flush();
+        markFlushed();
+    }
+    
+    /**
+     * Complete writing query data.
+     *
+     * <p>The rest of written query data is flushed by command executor task, so channel is not flushed again here.</p>
+     */
+    public void complete() {
+        markFlushed();
+    }
+    
+    private void markFlushed() {
+        unflushedCount = 0;
+        flushedEncodedBytes = encodedBytes.get();
+        if (!stalled) {
+            flushBytesThreshold = Math.min(flushBytesThreshold << 1, maxFlushBytesThreshold);
+        }
+        stalled = false;
+    }
+}
@@ -29,22 +29,36 @@ public final class UserExecutorGroup {
     
     private static final String NAME_FORMAT = "Command-%d";
     
-    private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
+    private static volatile UserExecutorGroup instance;
     
     @Getter
     private final ExecutorService executorService;
     
-    private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+    private UserExecutorGroup(final boolean virtualThreadEnabled) {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, virtualThreadEnabled);
         executorService = executorServiceManager.getExecutorService();
     }
     
     /**
-     * Get instance of user executor group.
+     * Initialize user executor group.
+     *
+     * @param virtualThreadEnabled whether using virtual thread or not
+     */
+    public static synchronized void init(final boolean virtualThreadEnabled) {
+        if (null == instance) {
+            instance = new UserExecutorGroup(virtualThreadEnabled);
+        }
+    }
+    
+    /**
+     * Get instance of user executor group, platform thread is used if not initialized.
      *
      * @return user executor group
      */
     public static UserExecutorGroup getInstance() {
-        return INSTANCE;
+        if (null == instance) {
+            init(false);
+        }
+        return instance;
     }
 }
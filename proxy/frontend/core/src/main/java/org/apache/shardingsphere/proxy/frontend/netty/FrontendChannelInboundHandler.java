@@ -100,12 +100,14 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        connectionSession.getDatabaseConnectionManager().getResourceLock().doNotify();
         UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
     }
     
     private void closeAllResources() {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionSession.getConnectionId());
         connectionSession.getDatabaseConnectionManager().closeAllResources();
+        connectionSession.getServerPreparedStatementRegistry().clear();
         Optional.ofNullable(connectionSession.getProcessId()).ifPresent(processEngine::disconnect);
         databaseProtocolFrontendEngine.release(connectionSession);
     }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryDataFlusherTest {
+    
+    private static final int HIGH_WATER_MARK = 16 * 1024 * 1024;
+    
+    private final ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+    
+    private final ResourceLock resourceLock = mock(ResourceLock.class);
+    
+    private final AtomicLong encodedBytes = new AtomicLong();
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(HIGH_WATER_MARK);
+        when(context.channel().attr(CommonConstants.ENCODED_BYTES_ATTRIBUTE_KEY).setIfAbsent(any())).thenReturn(encodedBytes);
+    }
+    
+    private DatabasePacket mockPacket(final long encodedSize) {
+        DatabasePacket result = mock(DatabasePacket.class);
+        when(context.write(result)).thenAnswer(invocation -> {
+            encodedBytes.addAndGet(encodedSize);
+            return null;
+        });
+        return result;
+    }
+    
+    @Test
+    void assertWriteWithFlushThreshold() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "2"))));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        flusher.write(packet);
+        flusher.write(packet);
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+        assertThat(flusher.getFlushBytesThreshold(), is(0L));
+    }
+    
+    @Test
+    void assertWriteWithFlushBytesThreshold() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "1"), new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "1024"))));
+        DatabasePacket packet = mockPacket(600L);
+        flusher.write(packet);
+        verify(context, never()).flush();
+        flusher.write(packet);
+        verify(context).flush();
+        assertThat(flusher.getFlushBytesThreshold(), is(1024L));
+    }
+    
+    @Test
+    void assertWriteWithFlushBytesThresholdCountedSinceLastFlush() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "1024"))));
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(0L);
+        DatabasePacket packet = mockPacket(400L);
+        for (int i = 0; i < 6; i++) {
+            flusher.write(packet);
+        }
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    void assertAdaptFlushBytesThresholdByBackPressure() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "1024"))));
+        when(resourceLock.doAwait(context)).thenReturn(true, false);
+        DatabasePacket packet = mockPacket(600L);
+        flusher.write(packet);
+        assertThat(flusher.getFlushBytesThreshold(), is(512L));
+        flusher.write(packet);
+        assertThat(flusher.getFlushBytesThreshold(), is(1024L));
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    void assertFlushBytesThresholdLimitedByHighWaterMark() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), String.valueOf(Integer.MAX_VALUE)))));
+        assertThat(flusher.getFlushBytesThreshold(), is((long) HIGH_WATER_MARK));
+    }
+    
+    @Test
+    void assertFlush() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "2"))));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        flusher.flush();
+        flusher.write(packet);
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertComplete() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "2"))));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        flusher.complete();
+        flusher.write(packet);
+        verify(context, never()).flush();
+    }
+}
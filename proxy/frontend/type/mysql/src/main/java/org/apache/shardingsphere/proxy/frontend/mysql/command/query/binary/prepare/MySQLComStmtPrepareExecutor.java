@@ -31,6 +31,7 @@ import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
@@ -39,17 +40,20 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.mysql.exception.TooManyPlaceholdersException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnsupportedPreparedStatementException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
-import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SharedServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.SharedServerPreparedStatementCache;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatement;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatementDefinition;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLStatementIdGenerator;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.ParameterMarkerSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.AbstractSQLStatement;
@@ -61,7 +65,6 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * COM_STMT_PREPARE command executor for MySQL.
@@ -78,19 +81,18 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     @Override
     public Collection<DatabasePacket> execute() {
         failedIfContainsMultiStatements();
-        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
-        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
-        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(databaseType).parse(packet.getSQL(), true);
-        if (!MySQLComStmtPrepareChecker.isAllowedStatement(sqlStatement)) {
-            throw new UnsupportedPreparedStatementException();
-        }
-        SQLStatementContext sqlStatementContext = new SQLBindEngine(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(),
-                connectionSession.getCurrentDatabaseName(), packet.getHintValueContext()).bind(sqlStatement, Collections.emptyList());
+        SharedServerPreparedStatement<MySQLServerPreparedStatementDefinition> sharedPreparedStatement = SharedServerPreparedStatementCache.getInstance().acquire(
+                databaseType, metaData, connectionSession.getCurrentDatabaseName(), packet.getSQL(), packet.getHintValueContext(), () -> loadSharedPreparedStatement(metaData, databaseType));
+        SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(
+                metaData, sharedPreparedStatement.getSqlStatement(), Collections.emptyList(), connectionSession.getCurrentDatabaseName());
         int statementId = MySQLStatementIdGenerator.getInstance().nextStatementId(connectionSession.getConnectionId());
-        MySQLServerPreparedStatement serverPreparedStatement = new MySQLServerPreparedStatement(packet.getSQL(), sqlStatementContext, packet.getHintValueContext(), new CopyOnWriteArrayList<>());
-        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(statementId, serverPreparedStatement);
-        return createPackets(sqlStatementContext, statementId, serverPreparedStatement);
+        MySQLServerPreparedStatementDefinition definition = sharedPreparedStatement.getDefinition();
+        MySQLServerPreparedStatement serverPreparedStatement = new MySQLServerPreparedStatement(
+                packet.getSQL(), sqlStatementContext, packet.getHintValueContext(), definition.getParameterColumnDefinitionFlags());
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(statementId, serverPreparedStatement, sharedPreparedStatement);
+        return createPackets(statementId, sharedPreparedStatement.getSqlStatement().getParameterCount(), definition);
     }
     
     private void failedIfContainsMultiStatements() {
@@ -102,65 +104,84 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         }
     }
     
-    private Collection<DatabasePacket> createPackets(final SQLStatementContext sqlStatementContext, final int statementId, final MySQLServerPreparedStatement serverPreparedStatement) {
-        Collection<DatabasePacket> result = new LinkedList<>();
-        Collection<Projection> projections = getProjections(sqlStatementContext);
-        int parameterCount = sqlStatementContext.getSqlStatement().getParameterCount();
-        ShardingSpherePreconditions.checkState(parameterCount <= MAX_PARAMETER_COUNT, TooManyPlaceholdersException::new);
-        result.add(new MySQLComStmtPrepareOKPacket(statementId, projections.size(), parameterCount, 0));
-        int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
-        int statusFlags = ServerStatusFlagCalculator.calculateFor(connectionSession);
-        if (parameterCount > 0) {
-            result.addAll(createParameterColumnDefinition41Packets(sqlStatementContext, characterSet, serverPreparedStatement));
-            result.add(new MySQLEofPacket(statusFlags));
-        }
-        if (!projections.isEmpty() && sqlStatementContext instanceof SelectStatementContext) {
-            result.addAll(createProjectionColumnDefinition41Packets((SelectStatementContext) sqlStatementContext, characterSet));
-            result.add(new MySQLEofPacket(statusFlags));
+    private SharedServerPreparedStatement<MySQLServerPreparedStatementDefinition> loadSharedPreparedStatement(final ShardingSphereMetaData metaData, final DatabaseType databaseType) {
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(databaseType).parse(packet.getSQL(), true);
+        if (!MySQLComStmtPrepareChecker.isAllowedStatement(sqlStatement)) {
+            throw new UnsupportedPreparedStatementException();
         }
-        return result;
+        ShardingSpherePreconditions.checkState(sqlStatement.getParameterCount() <= MAX_PARAMETER_COUNT, TooManyPlaceholdersException::new);
+        SQLStatement boundSQLStatement = new SQLBindEngine(metaData, connectionSession.getCurrentDatabaseName(), packet.getHintValueContext()).bindSQLStatement(sqlStatement);
+        SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, Collections.emptyList(), connectionSession.getCurrentDatabaseName());
+        return new SharedServerPreparedStatement<>(packet.getSQL(), boundSQLStatement, createDefinition(sqlStatementContext));
     }
     
-    private Collection<Projection> getProjections(final SQLStatementContext sqlStatementContext) {
-        return sqlStatementContext instanceof SelectStatementContext ? ((SelectStatementContext) sqlStatementContext).getProjectionsContext().getExpandProjections() : Collections.emptyList();
+    private MySQLServerPreparedStatementDefinition createDefinition(final SQLStatementContext sqlStatementContext) {
+        List<Integer> parameterColumnDefinitionFlags = new ArrayList<>();
+        List<MySQLBinaryColumnType> parameterColumnTypes = new ArrayList<>();
+        if (sqlStatementContext.getSqlStatement().getParameterCount() > 0) {
+            addParameterColumnDefinitions(sqlStatementContext, parameterColumnDefinitionFlags, parameterColumnTypes);
+        }
+        List<Integer> projectionColumnDefinitionFlags = new ArrayList<>();
+        List<MySQLBinaryColumnType> projectionColumnTypes = new ArrayList<>();
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            addProjectionColumnDefinitions((SelectStatementContext) sqlStatementContext, projectionColumnDefinitionFlags, projectionColumnTypes);
+        }
+        return new MySQLServerPreparedStatementDefinition(Collections.unmodifiableList(parameterColumnDefinitionFlags), Collections.unmodifiableList(parameterColumnTypes),
+                Collections.unmodifiableList(projectionColumnDefinitionFlags), Collections.unmodifiableList(projectionColumnTypes));
     }
     
-    private Collection<MySQLPacket> createParameterColumnDefinition41Packets(final SQLStatementContext sqlStatementContext, final int characterSet,
-                                                                             final MySQLServerPreparedStatement serverPreparedStatement) {
+    private void addParameterColumnDefinitions(final SQLStatementContext sqlStatementContext, final List<Integer> columnDefinitionFlags, final List<MySQLBinaryColumnType> columnTypes) {
         List<ShardingSphereColumn> columnsOfParameterMarkers =
                 MySQLComStmtPrepareParameterMarkerExtractor.findColumnsOfParameterMarkers(sqlStatementContext.getSqlStatement(), getSchema(sqlStatementContext));
         Collection<ParameterMarkerSegment> parameterMarkerSegments = ((AbstractSQLStatement) sqlStatementContext.getSqlStatement()).getParameterMarkerSegments();
-        Collection<MySQLPacket> result = new ArrayList<>(parameterMarkerSegments.size());
-        Collection<Integer> paramColumnDefinitionFlags = new ArrayList<>(parameterMarkerSegments.size());
         for (int index = 0; index < parameterMarkerSegments.size(); index++) {
             ShardingSphereColumn column = columnsOfParameterMarkers.isEmpty() ? null : columnsOfParameterMarkers.get(index);
             if (null != column) {
-                int columnDefinitionFlag = calculateColumnDefinitionFlag(column);
-                result.add(createMySQLColumnDefinition41Packet(characterSet, columnDefinitionFlag, MySQLBinaryColumnType.valueOfJDBCType(column.getDataType())));
-                paramColumnDefinitionFlags.add(columnDefinitionFlag);
+                columnDefinitionFlags.add(calculateColumnDefinitionFlag(column));
+                columnTypes.add(MySQLBinaryColumnType.valueOfJDBCType(column.getDataType()));
             } else {
-                result.add(createMySQLColumnDefinition41Packet(characterSet, 0, MySQLBinaryColumnType.VAR_STRING));
-                paramColumnDefinitionFlags.add(0);
+                columnDefinitionFlags.add(0);
+                columnTypes.add(MySQLBinaryColumnType.VAR_STRING);
             }
         }
-        serverPreparedStatement.getParameterColumnDefinitionFlags().addAll(paramColumnDefinitionFlags);
-        return result;
     }
     
-    private Collection<MySQLPacket> createProjectionColumnDefinition41Packets(final SelectStatementContext selectStatementContext, final int characterSet) {
+    private void addProjectionColumnDefinitions(final SelectStatementContext selectStatementContext, final List<Integer> columnDefinitionFlags, final List<MySQLBinaryColumnType> columnTypes) {
         Collection<Projection> projections = selectStatementContext.getProjectionsContext().getExpandProjections();
         ShardingSphereSchema schema = getSchema(selectStatementContext);
-        Collection<MySQLPacket> result = new ArrayList<>(projections.size());
         for (Projection each : projections) {
             // TODO Calculate column definition flag for other projection types
-            if (each instanceof ColumnProjection) {
-                result.add(Optional.ofNullable(schema.getTable(((ColumnProjection) each).getOriginalTable().getValue()))
-                        .map(table -> table.getColumns().get(((ColumnProjection) each).getOriginalColumn().getValue()))
-                        .map(column -> createMySQLColumnDefinition41Packet(characterSet, calculateColumnDefinitionFlag(column), MySQLBinaryColumnType.valueOfJDBCType(column.getDataType())))
-                        .orElseGet(() -> createMySQLColumnDefinition41Packet(characterSet, 0, MySQLBinaryColumnType.VAR_STRING)));
-            } else {
-                result.add(createMySQLColumnDefinition41Packet(characterSet, 0, MySQLBinaryColumnType.VAR_STRING));
-            }
+            Optional<ShardingSphereColumn> column = each instanceof ColumnProjection ? findColumn(schema, (ColumnProjection) each) : Optional.empty();
+            columnDefinitionFlags.add(column.map(this::calculateColumnDefinitionFlag).orElse(0));
+            columnTypes.add(column.map(optional -> MySQLBinaryColumnType.valueOfJDBCType(optional.getDataType())).orElse(MySQLBinaryColumnType.VAR_STRING));
+        }
+    }
+    
+    private Optional<ShardingSphereColumn> findColumn(final ShardingSphereSchema schema, final ColumnProjection columnProjection) {
+        return Optional.ofNullable(schema.getTable(columnProjection.getOriginalTable().getValue())).map(table -> table.getColumns().get(columnProjection.getOriginalColumn().getValue()));
+    }
+    
+    private Collection<DatabasePacket> createPackets(final int statementId, final int parameterCount, final MySQLServerPreparedStatementDefinition definition) {
+        Collection<DatabasePacket> result = new LinkedList<>();
+        result.add(new MySQLComStmtPrepareOKPacket(statementId, definition.getProjectionColumnTypes().size(), parameterCount, 0));
+        int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        int statusFlags = ServerStatusFlagCalculator.calculateFor(connectionSession);
+        if (parameterCount > 0) {
+            result.addAll(createColumnDefinition41Packets(characterSet, definition.getParameterColumnDefinitionFlags(), definition.getParameterColumnTypes()));
+            result.add(new MySQLEofPacket(statusFlags));
+        }
+        if (!definition.getProjectionColumnTypes().isEmpty()) {
+            result.addAll(createColumnDefinition41Packets(characterSet, definition.getProjectionColumnDefinitionFlags(), definition.getProjectionColumnTypes()));
+            result.add(new MySQLEofPacket(statusFlags));
+        }
+        return result;
+    }
+    
+    private Collection<MySQLPacket> createColumnDefinition41Packets(final int characterSet, final List<Integer> columnDefinitionFlags, final List<MySQLBinaryColumnType> columnTypes) {
+        Collection<MySQLPacket> result = new ArrayList<>(columnTypes.size());
+        for (int i = 0; i < columnTypes.size(); i++) {
+            result.add(createMySQLColumnDefinition41Packet(characterSet, columnDefinitionFlags.get(i), columnTypes.get(i)));
         }
         return result;
     }
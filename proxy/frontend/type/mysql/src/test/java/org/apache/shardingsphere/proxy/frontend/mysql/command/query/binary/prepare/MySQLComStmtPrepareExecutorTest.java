@@ -73,6 +73,8 @@ import java.util.Iterator;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -162,6 +164,27 @@ class MySQLComStmtPrepareExecutorTest {
         MySQLStatementIdGenerator.getInstance().unregisterConnection(connectionId);
     }
     
+    @Test
+    void assertPrepareSameStatementTwice() {
+        String sql = "select age from foo_db.user where name = ?";
+        when(packet.getSQL()).thenReturn(sql);
+        when(packet.getHintValueContext()).thenReturn(new HintValueContext());
+        int connectionId = 3;
+        when(connectionSession.getConnectionId()).thenReturn(connectionId);
+        when(connectionSession.getCurrentDatabaseName()).thenReturn("foo_db");
+        MySQLStatementIdGenerator.getInstance().registerConnection(connectionId);
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new MySQLComStmtPrepareExecutor(packet, connectionSession).execute();
+        new MySQLComStmtPrepareExecutor(packet, connectionSession).execute();
+        MySQLServerPreparedStatement firstPreparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(1);
+        MySQLServerPreparedStatement secondPreparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(2);
+        assertThat(secondPreparedStatement.getSqlStatementContext(), not(sameInstance(firstPreparedStatement.getSqlStatementContext())));
+        assertThat(secondPreparedStatement.getSqlStatementContext().getSqlStatement(), sameInstance(firstPreparedStatement.getSqlStatementContext().getSqlStatement()));
+        assertThat(secondPreparedStatement.getParameterColumnDefinitionFlags(), sameInstance(firstPreparedStatement.getParameterColumnDefinitionFlags()));
+        MySQLStatementIdGenerator.getInstance().unregisterConnection(connectionId);
+    }
+    
     private int getColumnDefinitionFlag(final MySQLColumnDefinition41Packet packet) {
         ByteBuf byteBuf = Unpooled.buffer(22, 22);
         packet.write(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
@@ -217,6 +240,7 @@ class MySQLComStmtPrepareExecutorTest {
     @Test
     void assertPrepareNotAllowedStatement() {
         when(packet.getSQL()).thenReturn("begin");
+        when(packet.getHintValueContext()).thenReturn(new HintValueContext());
         ContextManager contextManager = mockContextManager();
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         assertThrows(UnsupportedPreparedStatementException.class, () -> new MySQLComStmtPrepareExecutor(packet, connectionSession).execute());
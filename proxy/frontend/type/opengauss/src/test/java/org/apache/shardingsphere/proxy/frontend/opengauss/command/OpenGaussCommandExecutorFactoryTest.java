@@ -123,8 +123,11 @@ class OpenGaussCommandExecutorFactoryTest {
         PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
         when(parsePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
         PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
         PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
+        when(describePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.DESCRIBE_COMMAND);
         PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
         PostgreSQLComClosePacket closePacket = mock(PostgreSQLComClosePacket.class);
         when(closePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.CLOSE_COMMAND);
         PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
@@ -30,11 +30,11 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataFlusher;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -92,29 +92,22 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
                     : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
             return;
         }
-        long dataRows = writeDataPackets(context, databaseConnectionManager, queryExecutor);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, databaseConnectionManager.getResourceLock(),
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+        long dataRows = writeDataPackets(flusher, queryExecutor);
         if (ResponseType.QUERY == queryExecutor.getResponseType()) {
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
         }
         context.write(databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
                 : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+        flusher.complete();
     }
     
-    private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
-                                  final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+    private long writeDataPackets(final QueryDataFlusher flusher, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0L;
-        int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
-            flushCount++;
-            databaseConnectionManager.getResourceLock().doAwait(context);
             DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
+            flusher.write(resultValue);
             if (resultValue instanceof PostgreSQLDataRowPacket) {
                 dataRows++;
             }
@@ -77,34 +77,56 @@ public final class PostgreSQLCommandExecutorFactory {
             return getCommandExecutor(commandPacketType, commandPacket, connectionSession, portalContext);
         }
         PostgreSQLAggregatedCommandPacket aggregatedCommandPacket = (PostgreSQLAggregatedCommandPacket) commandPacket;
-        if (aggregatedCommandPacket.isContainsBatchedStatements()) {
-            return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
-        }
-        List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
-        for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
-            result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
-        }
-        return new PostgreSQLAggregatedCommandExecutor(result);
+        return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
     }
     
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
                                                                                    final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
-        int batchPacketBeginIndex = aggregatedCommandPacket.getBatchPacketBeginIndex();
-        int batchPacketEndIndex = aggregatedCommandPacket.getBatchPacketEndIndex();
-        List<CommandExecutor> result = new ArrayList<>(batchPacketBeginIndex + packets.size() - batchPacketEndIndex);
-        for (int i = 0; i < batchPacketBeginIndex; i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
-            result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        PostgreSQLAggregatedCommandPacket pendingPackets = aggregatedCommandPacket;
+        int pendingBeginIndex = 0;
+        while (pendingBeginIndex < packets.size()) {
+            int pendingEndIndex;
+            if (pendingPackets.isContainsBatchedStatements()) {
+                int batchPacketBeginIndex = pendingBeginIndex + pendingPackets.getBatchPacketBeginIndex();
+                pendingEndIndex = pendingBeginIndex + pendingPackets.getBatchPacketEndIndex() + 1;
+                addCommandExecutors(packets.subList(pendingBeginIndex, batchPacketBeginIndex), connectionSession, portalContext, result);
+                List<PostgreSQLCommandPacket> batchPackets = packets.subList(batchPacketBeginIndex, pendingEndIndex);
+                result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, batchPackets, createCommandExecutors(batchPackets, connectionSession, portalContext)));
+            } else {
+                pendingEndIndex = findNextStatementPacketIndex(packets, pendingBeginIndex + 1);
+                addCommandExecutors(packets.subList(pendingBeginIndex, pendingEndIndex), connectionSession, portalContext, result);
+            }
+            pendingBeginIndex = pendingEndIndex;
+            pendingPackets = new PostgreSQLAggregatedCommandPacket(packets.subList(pendingBeginIndex, packets.size()));
         }
-        result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets.subList(batchPacketBeginIndex, batchPacketEndIndex + 1)));
-        for (int i = batchPacketEndIndex + 1; i < packets.size(); i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
-            result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
+        return result;
+    }
+    
+    private static int findNextStatementPacketIndex(final List<PostgreSQLCommandPacket> packets, final int fromIndex) {
+        for (int i = fromIndex; i < packets.size(); i++) {
+            if (packets.get(i) instanceof PostgreSQLComParsePacket || packets.get(i) instanceof PostgreSQLComBindPacket) {
+                return i;
+            }
         }
+        return packets.size();
+    }
+    
+    private static List<CommandExecutor> createCommandExecutors(final List<PostgreSQLCommandPacket> packets,
+                                                                final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        addCommandExecutors(packets, connectionSession, portalContext, result);
         return result;
     }
     
+    private static void addCommandExecutors(final List<PostgreSQLCommandPacket> packets, final ConnectionSession connectionSession, final PortalContext portalContext,
+                                            final List<CommandExecutor> executors) throws SQLException {
+        for (PostgreSQLCommandPacket each : packets) {
+            executors.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
+        }
+    }
+    
     private static CommandExecutor getCommandExecutor(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket,
                                                       final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         switch (commandPacketType) {
@@ -30,6 +30,10 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQ
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -39,6 +43,9 @@ import java.util.List;
 
 /**
  * Aggregated batched statements command executor for PostgreSQL.
+ *
+ * <p>Only insert without returning, update and delete statements are executed as JDBC batch, other statements are executed by non-batched executors one by one,
+ * because their responses can not be built from batch update counts.</p>
  */
 @RequiredArgsConstructor
 public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implements CommandExecutor {
@@ -47,9 +54,14 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
     
     private final List<PostgreSQLCommandPacket> packets;
     
+    private final List<CommandExecutor> nonBatchedExecutors;
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         PostgreSQLServerPreparedStatement preparedStatement = getPreparedStatement();
+        if (!isBatchable(preparedStatement.getSqlStatementContext().getSqlStatement())) {
+            return executeOneByOne();
+        }
         PostgreSQLBatchedStatementsExecutor executor = new PostgreSQLBatchedStatementsExecutor(connectionSession, preparedStatement, readParameterSets(preparedStatement.getParameterTypes()));
         Collection<DatabasePacket> result = new ArrayList<>(packets.size());
         int totalInserted = executor.executeBatch();
@@ -69,6 +81,25 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
         return result;
     }
     
+    private boolean isBatchable(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return !((InsertStatement) sqlStatement).getReturningSegment().isPresent();
+        }
+        return sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private Collection<DatabasePacket> executeOneByOne() throws SQLException {
+        Collection<DatabasePacket> result = new LinkedList<>();
+        for (CommandExecutor each : nonBatchedExecutors) {
+            try {
+                result.addAll(each.execute());
+            } finally {
+                each.close();
+            }
+        }
+        return result;
+    }
+    
     private PostgreSQLServerPreparedStatement getPreparedStatement() {
         PostgreSQLComBindPacket bindPacket = (PostgreSQLComBindPacket) packets.get(0);
         return connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
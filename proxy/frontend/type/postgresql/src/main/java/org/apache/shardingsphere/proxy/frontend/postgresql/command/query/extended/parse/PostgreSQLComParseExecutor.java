@@ -24,13 +24,17 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLParseCompletePacket;
 import org.apache.shardingsphere.distsql.statement.DistSQLStatement;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.parser.SQLParserEngine;
-import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.distsql.DistSQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SharedServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.SharedServerPreparedStatementCache;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLServerPreparedStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
@@ -58,7 +62,22 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
     
     @Override
     public Collection<DatabasePacket> execute() {
-        SQLParserEngine sqlParserEngine = createShardingSphereSQLParserEngine(connectionSession.getUsedDatabaseName());
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        DatabaseType protocolType = metaData.getDatabase(connectionSession.getUsedDatabaseName()).getProtocolType();
+        SharedServerPreparedStatement<List<Integer>> sharedPreparedStatement = SharedServerPreparedStatementCache.getInstance().acquire(
+                protocolType, metaData, connectionSession.getCurrentDatabaseName(), packet.getSQL(), packet.getHintValueContext(), () -> loadSharedPreparedStatement(metaData, protocolType));
+        SQLStatement sqlStatement = sharedPreparedStatement.getSqlStatement();
+        List<PostgreSQLColumnType> paddedColumnTypes = paddingColumnTypes(sqlStatement.getParameterCount(), packet.readParameterTypes());
+        SQLStatementContext sqlStatementContext = sqlStatement instanceof DistSQLStatement ? new DistSQLStatementContext((DistSQLStatement) sqlStatement)
+                : SQLStatementContextFactory.newInstance(metaData, sqlStatement, Collections.emptyList(), connectionSession.getCurrentDatabaseName());
+        PostgreSQLServerPreparedStatement serverPreparedStatement = new PostgreSQLServerPreparedStatement(sharedPreparedStatement.getSql(), sqlStatementContext, packet.getHintValueContext(),
+                paddedColumnTypes, sharedPreparedStatement.getDefinition());
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(packet.getStatementId(), serverPreparedStatement, sharedPreparedStatement);
+        return Collections.singleton(PostgreSQLParseCompletePacket.getInstance());
+    }
+    
+    private SharedServerPreparedStatement<List<Integer>> loadSharedPreparedStatement(final ShardingSphereMetaData metaData, final DatabaseType protocolType) {
+        SQLParserEngine sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(protocolType);
         String sql = packet.getSQL();
         SQLStatement sqlStatement = sqlParserEngine.parse(sql, true);
         String escapedSql = escape(sqlStatement, sql);
@@ -75,20 +94,8 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
             sql = convertSQLToJDBCStyle(parameterMarkerSegments, sql);
             sqlStatement = sqlParserEngine.parse(sql, true);
         }
-        List<PostgreSQLColumnType> paddedColumnTypes = paddingColumnTypes(sqlStatement.getParameterCount(), packet.readParameterTypes());
-        SQLStatementContext sqlStatementContext = sqlStatement instanceof DistSQLStatement ? new DistSQLStatementContext((DistSQLStatement) sqlStatement)
-                : new SQLBindEngine(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), connectionSession.getCurrentDatabaseName(), packet.getHintValueContext())
-                        .bind(sqlStatement, Collections.emptyList());
-        PostgreSQLServerPreparedStatement serverPreparedStatement = new PostgreSQLServerPreparedStatement(sql, sqlStatementContext, packet.getHintValueContext(), paddedColumnTypes,
-                actualParameterMarkerIndexes);
-        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(packet.getStatementId(), serverPreparedStatement);
-        return Collections.singleton(PostgreSQLParseCompletePacket.getInstance());
-    }
-    
-    private SQLParserEngine createShardingSphereSQLParserEngine(final String databaseName) {
-        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
-        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        return sqlParserRule.getSQLParserEngine(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType());
+        SQLStatement boundSQLStatement = new SQLBindEngine(metaData, connectionSession.getCurrentDatabaseName(), packet.getHintValueContext()).bindSQLStatement(sqlStatement);
+        return new SharedServerPreparedStatement<>(sql, boundSQLStatement, Collections.unmodifiableList(actualParameterMarkerIndexes));
     }
     
     private String escape(final SQLStatement sqlStatement, final String sql) {
@@ -134,8 +134,11 @@ class PostgreSQLCommandExecutorFactoryTest {
         PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
         when(parsePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
         PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
         PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
+        when(describePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.DESCRIBE_COMMAND);
         PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
         PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
         when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
         PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
@@ -152,6 +155,45 @@ class PostgreSQLCommandExecutorFactoryTest {
         assertFalse(actualPacketsIterator.hasNext());
     }
     
+    @Test
+    void assertAggregatedPacketWithMultipleBatchedStatements() throws SQLException {
+        PostgreSQLComParsePacket firstParsePacket = mockParsePacket("S_1");
+        PostgreSQLComBindPacket firstBindPacket = mockBindPacket("S_1");
+        PostgreSQLComParsePacket secondParsePacket = mockParsePacket("S_2");
+        PostgreSQLComBindPacket secondBindPacket = mockBindPacket("S_2");
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
+        when(executePacket.getPortal()).thenReturn("");
+        PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
+        when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
+        PostgreSQLAggregatedCommandPacket packet = new PostgreSQLAggregatedCommandPacket(Arrays.asList(firstParsePacket, firstBindPacket, executePacket, firstBindPacket, executePacket,
+                firstBindPacket, executePacket, secondParsePacket, secondBindPacket, executePacket, secondBindPacket, executePacket, secondBindPacket, executePacket, syncPacket));
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
+        assertThat(actual, instanceOf(PostgreSQLAggregatedCommandExecutor.class));
+        Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
+        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComParseExecutor.class));
+        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class));
+        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComParseExecutor.class));
+        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class));
+        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComSyncExecutor.class));
+        assertFalse(actualPacketsIterator.hasNext());
+    }
+    
+    private PostgreSQLComParsePacket mockParsePacket(final String statementId) {
+        PostgreSQLComParsePacket result = mock(PostgreSQLComParsePacket.class);
+        when(result.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
+        when(result.getStatementId()).thenReturn(statementId);
+        return result;
+    }
+    
+    private PostgreSQLComBindPacket mockBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
     @Test
     void assertAggregatedFlushPacket() throws SQLException {
         PostgreSQLComFlushPacket flushPacket = mock(PostgreSQLComFlushPacket.class);
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extend
 
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
@@ -49,7 +50,9 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBack
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
@@ -76,6 +79,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -97,7 +101,7 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     @Test
     void assertExecute() throws SQLException {
         ConnectionSession connectionSession = mockConnectionSession();
-        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets());
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets(), Collections.emptyList());
         ContextManager contextManager = mockContextManager();
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         List<DatabasePacket> actualPackets = new ArrayList<>(executor.execute());
@@ -109,6 +113,27 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
         }
     }
     
+    @Test
+    void assertExecuteSelectStatementsOneByOne() throws SQLException {
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(STATEMENT_ID, new PostgreSQLServerPreparedStatement(
+                "SELECT id FROM t_order WHERE id = ?", sqlStatementContext, new HintValueContext(), Collections.singletonList(PostgreSQLColumnType.INT4), Collections.singletonList(0)));
+        CommandExecutor bindExecutor = mock(CommandExecutor.class);
+        when(bindExecutor.execute()).thenReturn(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance()));
+        CommandExecutor executeExecutor = mock(CommandExecutor.class);
+        PostgreSQLDataRowPacket dataRowPacket = mock(PostgreSQLDataRowPacket.class);
+        PostgreSQLCommandCompletePacket commandCompletePacket = mock(PostgreSQLCommandCompletePacket.class);
+        when(executeExecutor.execute()).thenReturn(Arrays.asList(dataRowPacket, commandCompletePacket));
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(
+                connectionSession, createPackets(), Arrays.asList(bindExecutor, executeExecutor));
+        assertThat(new ArrayList<>(executor.execute()), is(Arrays.<DatabasePacket>asList(PostgreSQLBindCompletePacket.getInstance(), dataRowPacket, commandCompletePacket)));
+        verify(bindExecutor).close();
+        verify(executeExecutor).close();
+    }
+    
     private ConnectionSession mockConnectionSession() throws SQLException {
         ConnectionSession result = mock(ConnectionSession.class);
         SQLStatementContext sqlStatementContext = mock(InsertStatementContext.class);
@@ -153,6 +178,7 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     private ContextManager mockContextManager() {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
         RuleMetaData globalRuleMetaData = new RuleMetaData(Arrays.asList(
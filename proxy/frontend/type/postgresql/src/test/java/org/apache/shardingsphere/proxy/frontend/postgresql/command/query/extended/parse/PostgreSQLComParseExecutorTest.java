@@ -171,6 +171,7 @@ class PostgreSQLComParseExecutorTest {
         String statementId = "";
         when(parsePacket.getSQL()).thenReturn(sql);
         when(parsePacket.getStatementId()).thenReturn(statementId);
+        when(parsePacket.getHintValueContext()).thenReturn(new HintValueContext());
         ContextManager contextManager = mockContextManager();
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         Collection<DatabasePacket> actualPackets = executor.execute();
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import com.google.common.io.ByteStreams;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.algorithm.cryptographic.core.CryptographicAlgorithm;
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Kernel benchmark environment.
+ *
+ * <p>Builds ShardingSphere data source with sharding, encrypt and readwrite-splitting rules on in memory H2 databases,
+ * and exposes every kernel stage so that benchmarks can drive them separately.</p>
+ */
+@Getter
+public final class KernelBenchmarkEnvironment implements AutoCloseable {
+    
+    /**
+     * Rows for each actual table of t_order.
+     */
+    public static final int ROWS_PER_TABLE = 250;
+    
+    private static final String CONFIG_FILE = "/config/kernel-benchmark.yaml";
+    
+    private static final String[] ACTUAL_DATA_SOURCE_NAMES = {"write_ds_0", "read_ds_0", "write_ds_1", "read_ds_1"};
+    
+    private static final int TABLE_COUNT = 4;
+    
+    private final Map<String, DataSource> actualDataSources;
+    
+    private final DataSource dataSource;
+    
+    private final ContextManager contextManager;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ConnectionContext connectionContext;
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    @Getter(AccessLevel.NONE)
+    private final Connection connection;
+    
+    public KernelBenchmarkEnvironment() throws SQLException, IOException {
+        actualDataSources = createActualDataSources();
+        dataSource = YamlShardingSphereDataSourceFactory.createDataSource(actualDataSources, loadConfiguration());
+        connection = dataSource.getConnection();
+        ShardingSphereConnection shardingSphereConnection = connection.unwrap(ShardingSphereConnection.class);
+        contextManager = shardingSphereConnection.getContextManager();
+        metaData = contextManager.getMetaDataContexts().getMetaData();
+        database = metaData.getDatabase(shardingSphereConnection.getCurrentDatabaseName());
+        connectionContext = shardingSphereConnection.getDatabaseConnectionManager().getConnectionContext();
+        connectionContext.setCurrentDatabaseName(database.getName());
+        sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType());
+    }
+    
+    private Map<String, DataSource> createActualDataSources() throws SQLException {
+        Map<String, DataSource> result = new LinkedHashMap<>(ACTUAL_DATA_SOURCE_NAMES.length, 1F);
+        Properties aesProps = new Properties();
+        aesProps.setProperty("aes-key-value", "123456abc");
+        aesProps.setProperty("digest-algorithm-name", "SHA-1");
+        CryptographicAlgorithm cryptographicAlgorithm = TypedSPILoader.getService(CryptographicAlgorithm.class, "AES", aesProps);
+        for (int i = 0; i < ACTUAL_DATA_SOURCE_NAMES.length; i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setDriverClassName("org.h2.Driver");
+            dataSource.setJdbcUrl(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", ACTUAL_DATA_SOURCE_NAMES[i]));
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            dataSource.setMaximumPoolSize(16);
+            initData(dataSource, i / 2, cryptographicAlgorithm);
+            result.put(ACTUAL_DATA_SOURCE_NAMES[i], dataSource);
+        }
+        return result;
+    }
+    
+    private void initData(final DataSource dataSource, final int dataSourceIndex, final CryptographicAlgorithm cryptographicAlgorithm) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                for (int i = 0; i < TABLE_COUNT; i++) {
+                    statement.execute(String.format("CREATE TABLE t_order_%d (order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(50))", i));
+                    statement.execute(String.format("CREATE TABLE t_order_item_%d (item_id BIGINT NOT NULL, order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(50))", i));
+                }
+                statement.execute("CREATE TABLE t_user (user_id INT NOT NULL, username_cipher VARCHAR(200), status VARCHAR(50))");
+            }
+            for (int i = 0; i < TABLE_COUNT; i++) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO t_order_%d (order_id, user_id, status) VALUES (?, ?, ?)", i))) {
+                    for (int row = 0; row < ROWS_PER_TABLE; row++) {
+                        preparedStatement.setLong(1, (long) row * TABLE_COUNT + i);
+                        preparedStatement.setInt(2, row * 2 + dataSourceIndex);
+                        preparedStatement.setString(3, 0 == row % 2 ? "PAID" : "INIT");
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_user (user_id, username_cipher, status) VALUES (?, ?, ?)")) {
+                for (int row = 0; row < ROWS_PER_TABLE; row++) {
+                    int userId = row * 2 + dataSourceIndex;
+                    preparedStatement.setInt(1, userId);
+                    preparedStatement.setString(2, Objects.toString(cryptographicAlgorithm.encrypt("user_" + userId)));
+                    preparedStatement.setString(3, "ACTIVE");
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+        }
+    }
+    
+    private byte[] loadConfiguration() throws IOException {
+        try (InputStream inputStream = KernelBenchmarkEnvironment.class.getResourceAsStream(CONFIG_FILE)) {
+            return ByteStreams.toByteArray(Objects.requireNonNull(inputStream, CONFIG_FILE));
+        }
+    }
+    
+    /**
+     * Get configuration properties.
+     *
+     * @return configuration properties
+     */
+    public ConfigurationProperties getProps() {
+        return metaData.getProps();
+    }
+    
+    /**
+     * Get global rule meta data.
+     *
+     * @return global rule meta data
+     */
+    public RuleMetaData getGlobalRuleMetaData() {
+        return metaData.getGlobalRuleMetaData();
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param scenario kernel benchmark scenario
+     * @param useCache whether to use parser cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final KernelBenchmarkScenario scenario, final boolean useCache) {
+        return sqlParserEngine.parse(scenario.getSql(), useCache);
+    }
+    
+    /**
+     * Bind SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param params parameters
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
+        SQLStatementContext result = new SQLBindEngine(metaData, database.getName(), new HintValueContext()).bind(sqlStatement, params);
+        if (result instanceof ParameterAware) {
+            ((ParameterAware) result).setUpParameters(params);
+        }
+        return result;
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param scenario kernel benchmark scenario
+     * @return query context
+     */
+    public QueryContext createQueryContext(final KernelBenchmarkScenario scenario) {
+        List<Object> params = scenario.copyParameters();
+        SQLStatementContext sqlStatementContext = bind(parse(scenario, true), params);
+        return new QueryContext(sqlStatementContext, scenario.getSql(), params, new HintValueContext(), connectionContext, metaData, true);
+    }
+    
+    /**
+     * Route.
+     *
+     * @param queryContext query context
+     * @return route context
+     */
+    public RouteContext route(final QueryContext queryContext) {
+        return new SQLRouteEngine(database.getRuleMetaData().getRules(), getProps()).route(connectionContext, queryContext, getGlobalRuleMetaData(), database);
+    }
+    
+    /**
+     * Rewrite.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return SQL rewrite result
+     */
+    public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
+        return new SQLRewriteEntry(database, getGlobalRuleMetaData(), getProps()).rewrite(queryContext, routeContext, connectionContext);
+    }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        connection.close();
+        ((AutoCloseable) dataSource).close();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Kernel benchmark scenario.
+ */
+@Getter
+public enum KernelBenchmarkScenario {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", 1, 5),
+    
+    ENCRYPT_POINT_SELECT("SELECT user_id, username, status FROM t_user WHERE user_id = ? AND username = ?", 1, "user_1"),
+    
+    MULTI_ROW_INSERT("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?)",
+            100001, 1, "INSERT", 100002, 2, "INSERT", 100003, 3, "INSERT", 100004, 4, "INSERT",
+            100005, 5, "INSERT", 100006, 6, "INSERT", 100007, 7, "INSERT", 100008, 8, "INSERT"),
+    
+    CROSS_SHARD_ORDER_BY("SELECT order_id, user_id, status FROM t_order ORDER BY order_id"),
+    
+    CROSS_SHARD_GROUP_BY("SELECT user_id, COUNT(order_id) AS order_count, SUM(order_id) AS order_sum FROM t_order GROUP BY user_id ORDER BY user_id"),
+    
+    CROSS_SHARD_PAGING("SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT ?, ?", 100, 10);
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    KernelBenchmarkScenario(final String sql, final Object... parameters) {
+        this.sql = sql;
+        this.parameters = Arrays.asList(parameters);
+    }
+    
+    /**
+     * Judge whether scenario is query.
+     *
+     * @return is query or not
+     */
+    public boolean isQuery() {
+        return sql.startsWith("SELECT");
+    }
+    
+    /**
+     * Copy parameters for one execution.
+     *
+     * @return copied parameters
+     */
+    public List<Object> copyParameters() {
+        return new ArrayList<>(parameters);
+    }
+}
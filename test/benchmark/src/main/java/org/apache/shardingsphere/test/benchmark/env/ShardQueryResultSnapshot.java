@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shard query result snapshot.
+ *
+ * <p>Keeps rows of one shard in memory, so merge benchmarks can replay real shard results without touching storage.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardQueryResultSnapshot {
+    
+    private final RawQueryResultMetaData metaData;
+    
+    private final List<MemoryQueryResultDataRow> rows;
+    
+    /**
+     * Load shard query result snapshot.
+     *
+     * @param dataSource actual data source
+     * @param sqlRewriteUnit SQL rewrite unit
+     * @return loaded shard query result snapshot
+     * @throws SQLException SQL exception
+     */
+    public static ShardQueryResultSnapshot load(final DataSource dataSource, final SQLRewriteUnit sqlRewriteUnit) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sqlRewriteUnit.getSql())) {
+            int index = 1;
+            for (Object each : sqlRewriteUnit.getParameters()) {
+                preparedStatement.setObject(index++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                List<RawQueryResultColumnMetaData> columns = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    columns.add(new RawQueryResultColumnMetaData(resultSetMetaData.getTableName(i), resultSetMetaData.getColumnName(i), resultSetMetaData.getColumnLabel(i),
+                            resultSetMetaData.getColumnType(i), resultSetMetaData.getColumnTypeName(i), resultSetMetaData.getColumnDisplaySize(i), resultSetMetaData.getScale(i)));
+                }
+                List<MemoryQueryResultDataRow> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    List<Object> row = new ArrayList<>(columnCount);
+                    for (int i = 1; i <= columnCount; i++) {
+                        row.add(resultSet.getObject(i));
+                    }
+                    rows.add(new MemoryQueryResultDataRow(row));
+                }
+                return new ShardQueryResultSnapshot(new RawQueryResultMetaData(columns), rows);
+            }
+        }
+    }
+    
+    /**
+     * Create query result which replays the snapshot from the first row.
+     *
+     * @return query result
+     */
+    public QueryResult createQueryResult() {
+        return new RawMemoryQueryResult(metaData, rows);
+    }
+    
+    /**
+     * Get row count.
+     *
+     * @return row count
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for executor engine with stub query results, which measures scheduling overhead of execution groups only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutorEngineBenchmark {
+    
+    @Param({"8", "64", "256"})
+    private int groupCount;
+    
+    @Param({"false", "true"})
+    private boolean serial;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ExecutionGroupContext<Integer> executionGroupContext;
+    
+    private ExecutorCallback<Integer, QueryResult> callback;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        executorEngine = ExecutorEngine.createExecutorEngineWithSize(16);
+        Collection<ExecutionGroup<Integer>> inputGroups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            inputGroups.add(new ExecutionGroup<>(Collections.singletonList(i)));
+        }
+        executionGroupContext = new ExecutionGroupContext<>(inputGroups, new ExecutionGroupReportContext("benchmark_process", "benchmark_db"));
+        QueryResult queryResult = new RawMemoryQueryResult(new RawQueryResultMetaData(Collections.emptyList()), Collections.emptyList());
+        callback = (inputs, isTrunkThread, processId) -> Collections.nCopies(inputs.size(), queryResult);
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Execute grouped stub executions.
+     *
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<QueryResult> execute() throws SQLException {
+        return executorEngine.execute(executionGroupContext, null, callback, serial);
+    }
+}
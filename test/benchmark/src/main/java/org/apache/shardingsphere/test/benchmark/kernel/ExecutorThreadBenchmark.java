@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for executor engine under many concurrent queries which mostly wait for databases, which compares platform thread pool with virtual threads.
+ *
+ * <p>Virtual threads take effect on JDK 21 or later only, otherwise both modes use platform thread pool.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(256)
+@State(Scope.Benchmark)
+public class ExecutorThreadBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param({"16"})
+    private int groupCount;
+    
+    @Param({"1"})
+    private long waitMillis;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ExecutionGroupContext<Integer> executionGroupContext;
+    
+    private ExecutorCallback<Integer, Integer> callback;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        executorEngine = ExecutorEngine.createExecutorEngine(Runtime.getRuntime().availableProcessors() * 2, virtualThreadEnabled);
+        Collection<ExecutionGroup<Integer>> inputGroups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            inputGroups.add(new ExecutionGroup<>(Collections.singletonList(i)));
+        }
+        executionGroupContext = new ExecutionGroupContext<>(inputGroups, new ExecutionGroupReportContext("benchmark_process", "benchmark_db"));
+        callback = (inputs, isTrunkThread, processId) -> {
+            try {
+                Thread.sleep(waitMillis);
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            return inputs;
+        };
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Execute grouped executions which wait for databases.
+     *
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Integer> execute() throws SQLException {
+        return executorEngine.execute(executionGroupContext, null, callback, false);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValue;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValueLoserTree;
+import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
+import org.apache.shardingsphere.test.benchmark.env.KernelBenchmarkEnvironment;
+import org.apache.shardingsphere.test.benchmark.env.KernelBenchmarkScenario;
+import org.apache.shardingsphere.test.benchmark.env.ShardQueryResultSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for k-way merge of order by stream merged result, which compares priority queue with loser tree on the same sorted shard results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderByStreamMergeBenchmark {
+    
+    @Param({"8", "64", "256"})
+    private int sourceCount;
+    
+    private KernelBenchmarkEnvironment environment;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingSphereSchema schema;
+    
+    private List<ShardQueryResultSnapshot> snapshots;
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        environment = new KernelBenchmarkEnvironment();
+        QueryContext queryContext = environment.createQueryContext(KernelBenchmarkScenario.CROSS_SHARD_ORDER_BY);
+        RouteSQLRewriteResult rewriteResult = (RouteSQLRewriteResult) environment.rewrite(queryContext, environment.route(queryContext));
+        List<ShardQueryResultSnapshot> shardSnapshots = new ArrayList<>(rewriteResult.getSqlRewriteUnits().size());
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : rewriteResult.getSqlRewriteUnits().entrySet()) {
+            shardSnapshots.add(ShardQueryResultSnapshot.load(environment.getActualDataSources().get(entry.getKey().getDataSourceMapper().getActualName()), entry.getValue()));
+        }
+        snapshots = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            snapshots.add(shardSnapshots.get(i % shardSnapshots.size()));
+        }
+        selectStatementContext = (SelectStatementContext) queryContext.getSqlStatementContext();
+        selectStatementContext.setIndexes(getColumnLabelIndexMap(snapshots.get(0).createQueryResult()));
+        schema = environment.getDatabase().getSchema(environment.getDatabase().getName());
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new CaseInsensitiveMap<>();
+        for (int i = queryResult.getMetaData().getColumnCount(); i > 0; i--) {
+            result.put(SQLUtils.getExactlyValue(queryResult.getMetaData().getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+    
+    /**
+     * Merge sorted shard results with priority queue.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeWithPriorityQueue(final Blackhole blackhole) throws SQLException {
+        Queue<OrderByValue> orderByValuesQueue = new PriorityQueue<>(sourceCount);
+        orderByValuesQueue.addAll(createOrderByValues());
+        while (!orderByValuesQueue.isEmpty()) {
+            OrderByValue firstOrderByValue = orderByValuesQueue.poll();
+            blackhole.consume(firstOrderByValue.getQueryResult().getValue(1, Object.class));
+            if (firstOrderByValue.next()) {
+                orderByValuesQueue.offer(firstOrderByValue);
+            }
+        }
+    }
+    
+    /**
+     * Merge sorted shard results with loser tree.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeWithLoserTree(final Blackhole blackhole) throws SQLException {
+        OrderByValueLoserTree orderByValueLoserTree = new OrderByValueLoserTree(createOrderByValues());
+        if (orderByValueLoserTree.isEmpty()) {
+            return;
+        }
+        do {
+            blackhole.consume(orderByValueLoserTree.peek().getQueryResult().getValue(1, Object.class));
+        } while (orderByValueLoserTree.next());
+    }
+    
+    private List<OrderByValue> createOrderByValues() throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(sourceCount);
+        for (ShardQueryResultSnapshot each : snapshots) {
+            OrderByValue orderByValue = new OrderByValue(each.createQueryResult(), selectStatementContext.getOrderByContext().getItems(), selectStatementContext, schema);
+            if (orderByValue.next()) {
+                result.add(orderByValue);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for precise and range lookups of volume range and interval sharding algorithms on a large amount of targets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeShardingAlgorithmBenchmark {
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 1, '0');
+    
+    private static final long SHARDING_VOLUME = 100L;
+    
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    private static final DateTimeFormatter SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    
+    private static final LocalDateTime DATETIME_LOWER = LocalDateTime.of(2000, 1, 1, 0, 0);
+    
+    @Param({"1000", "100000"})
+    private int targetCount;
+    
+    private StandardShardingAlgorithm<Comparable<?>> volumeRangeAlgorithm;
+    
+    private Collection<String> volumeRangeTargetNames;
+    
+    private StandardShardingAlgorithm<Comparable<?>> intervalAlgorithm;
+    
+    private Collection<String> intervalTargetNames;
+    
+    private long middleValue;
+    
+    private LocalDateTime middleDateTime;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+        Properties volumeRangeProps = new Properties();
+        volumeRangeProps.setProperty("range-lower", "0");
+        volumeRangeProps.setProperty("range-upper", String.valueOf(SHARDING_VOLUME * targetCount));
+        volumeRangeProps.setProperty("sharding-volume", String.valueOf(SHARDING_VOLUME));
+        volumeRangeAlgorithm = (StandardShardingAlgorithm<Comparable<?>>) TypedSPILoader.getService(ShardingAlgorithm.class, "VOLUME_RANGE", volumeRangeProps);
+        volumeRangeTargetNames = new LinkedHashSet<>(targetCount + 2, 1F);
+        for (int i = 0; i < targetCount + 2; i++) {
+            volumeRangeTargetNames.add(DATA_NODE_INFO.getPrefix() + i);
+        }
+        Properties intervalProps = new Properties();
+        intervalProps.setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        intervalProps.setProperty("datetime-lower", DATETIME_LOWER.format(DATETIME_FORMATTER));
+        intervalProps.setProperty("datetime-upper", DATETIME_LOWER.plusHours(targetCount - 1L).format(DATETIME_FORMATTER));
+        intervalProps.setProperty("sharding-suffix-pattern", "yyyyMMddHH");
+        intervalProps.setProperty("datetime-interval-amount", "1");
+        intervalProps.setProperty("datetime-interval-unit", "Hours");
+        intervalAlgorithm = (StandardShardingAlgorithm<Comparable<?>>) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", intervalProps);
+        intervalTargetNames = new LinkedHashSet<>(targetCount, 1F);
+        for (int i = 0; i < targetCount; i++) {
+            intervalTargetNames.add(DATA_NODE_INFO.getPrefix() + DATETIME_LOWER.plusHours(i).format(SUFFIX_FORMATTER));
+        }
+        middleValue = SHARDING_VOLUME * targetCount / 2L;
+        middleDateTime = DATETIME_LOWER.plusHours(targetCount / 2L);
+    }
+    
+    /**
+     * Find partition of precise sharding value by volume range sharding algorithm.
+     *
+     * @return matched target name
+     */
+    @Benchmark
+    public String preciseVolumeRange() {
+        return volumeRangeAlgorithm.doSharding(volumeRangeTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, middleValue));
+    }
+    
+    /**
+     * Find partitions of between sharding values across 10 targets by volume range sharding algorithm.
+     *
+     * @return matched target names
+     */
+    @Benchmark
+    public Collection<String> rangeVolumeRange() {
+        return volumeRangeAlgorithm.doSharding(volumeRangeTargetNames,
+                new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(middleValue, middleValue + SHARDING_VOLUME * 10L - 1L)));
+    }
+    
+    /**
+     * Find partition of precise sharding value by interval sharding algorithm.
+     *
+     * @return matched target name
+     */
+    @Benchmark
+    public String preciseInterval() {
+        return intervalAlgorithm.doSharding(intervalTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, middleDateTime.format(DATETIME_FORMATTER)));
+    }
+    
+    /**
+     * Find partitions of between sharding values across 10 targets by interval sharding algorithm.
+     *
+     * @return matched target names
+     */
+    @Benchmark
+    public Collection<String> rangeInterval() {
+        return intervalAlgorithm.doSharding(intervalTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO,
+                Range.closedOpen(middleDateTime.format(DATETIME_FORMATTER), middleDateTime.plusHours(10L).format(DATETIME_FORMATTER))));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.benchmark.env.KernelBenchmarkEnvironment;
+import org.apache.shardingsphere.test.benchmark.env.KernelBenchmarkScenario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewrite stage, which covers route SQL rewrite engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLRewriteBenchmark {
+    
+    @Param({"POINT_SELECT", "ENCRYPT_POINT_SELECT", "MULTI_ROW_INSERT", "CROSS_SHARD_ORDER_BY", "CROSS_SHARD_GROUP_BY", "CROSS_SHARD_PAGING"})
+    private KernelBenchmarkScenario scenario;
+    
+    private KernelBenchmarkEnvironment environment;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        environment = new KernelBenchmarkEnvironment();
+        queryContext = environment.createQueryContext(scenario);
+        routeContext = environment.route(queryContext);
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+    
+    /**
+     * Rewrite SQL.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return environment.rewrite(queryContext, routeContext);
+    }
+}
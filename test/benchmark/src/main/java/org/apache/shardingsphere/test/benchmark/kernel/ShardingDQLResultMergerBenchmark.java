@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.test.benchmark.env.KernelBenchmarkEnvironment;
+import org.apache.shardingsphere.test.benchmark.env.KernelBenchmarkScenario;
+import org.apache.shardingsphere.test.benchmark.env.ShardQueryResultSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for sharding DQL result merger, which replays real shard results loaded from storage before measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShardingDQLResultMergerBenchmark {
+    
+    @Param({"CROSS_SHARD_ORDER_BY", "CROSS_SHARD_GROUP_BY", "CROSS_SHARD_PAGING"})
+    private KernelBenchmarkScenario scenario;
+    
+    private KernelBenchmarkEnvironment environment;
+    
+    private QueryContext queryContext;
+    
+    private List<ShardQueryResultSnapshot> snapshots;
+    
+    private ShardingDQLResultMerger resultMerger;
+    
+    private int columnCount;
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        environment = new KernelBenchmarkEnvironment();
+        queryContext = environment.createQueryContext(scenario);
+        RouteSQLRewriteResult rewriteResult = (RouteSQLRewriteResult) environment.rewrite(queryContext, environment.route(queryContext));
+        snapshots = new ArrayList<>(rewriteResult.getSqlRewriteUnits().size());
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : rewriteResult.getSqlRewriteUnits().entrySet()) {
+            snapshots.add(ShardQueryResultSnapshot.load(environment.getActualDataSources().get(entry.getKey().getDataSourceMapper().getActualName()), entry.getValue()));
+        }
+        resultMerger = new ShardingDQLResultMerger(environment.getDatabase().getProtocolType());
+        columnCount = snapshots.get(0).createQueryResult().getMetaData().getColumnCount();
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+    
+    /**
+     * Merge query results.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(snapshots.size());
+        for (ShardQueryResultSnapshot each : snapshots) {
+            queryResults.add(each.createQueryResult());
+        }
+        MergedResult mergedResult = resultMerger.merge(queryResults, queryContext.getSqlStatementContext(), environment.getDatabase(), environment.getConnectionContext());
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for encoding result rows of a full scan into pooled byte buffer, which compares row encoding through query response cells with row encoding from row values.
+ *
+ * <p>The cells based benchmarks reproduce the previous text encoding, which converts every value to string and bytes before writing.
+ * Run with the gc profiler to compare allocation rate per row.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProxyRowEncodingBenchmark {
+    
+    private static final int[] COLUMN_TYPES = {Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.DECIMAL};
+    
+    @Param("1000000")
+    private int rowCount;
+    
+    private List<Object[]> rows;
+    
+    private ByteBuf byteBuf;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[]{(long) i, i % 100, "user_" + i, 0 == i % 3 ? "PAID" : "INIT", BigDecimal.valueOf(i, 2)});
+        }
+        byteBuf = PooledByteBufAllocator.DEFAULT.buffer(1024);
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        byteBuf.release();
+    }
+    
+    /**
+     * Encode MySQL text rows through query response cells.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void encodeMySQLTextRowsWithResponseCells(final Blackhole blackhole) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        for (Object[] each : rows) {
+            byteBuf.clear();
+            writeMySQLTextRowWithStrings(payload, createQueryResponseRow(each).getData());
+            blackhole.consume(byteBuf.writerIndex());
+        }
+    }
+    
+    /**
+     * Encode MySQL text rows from row values.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void encodeMySQLTextRowsWithRowValues(final Blackhole blackhole) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        for (Object[] each : rows) {
+            byteBuf.clear();
+            new MySQLTextResultSetRowPacket(getRowValues(each)).write(payload);
+            blackhole.consume(byteBuf.writerIndex());
+        }
+    }
+    
+    /**
+     * Encode PostgreSQL data rows through query response cells.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void encodePostgreSQLDataRowsWithResponseCells(final Blackhole blackhole) {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        for (Object[] each : rows) {
+            byteBuf.clear();
+            writePostgreSQLDataRowWithStrings(payload, createQueryResponseRow(each).getData());
+            blackhole.consume(byteBuf.writerIndex());
+        }
+    }
+    
+    /**
+     * Encode PostgreSQL data rows from row values.
+     *
+     * @param blackhole black hole
+     */
+    @Benchmark
+    public void encodePostgreSQLDataRowsWithRowValues(final Blackhole blackhole) {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        for (Object[] each : rows) {
+            byteBuf.clear();
+            new PostgreSQLDataRowPacket(getRowValues(each)).write(payload);
+            blackhole.consume(byteBuf.writerIndex());
+        }
+    }
+    
+    private QueryResponseRow createQueryResponseRow(final Object[] row) {
+        List<QueryResponseCell> cells = new ArrayList<>(row.length);
+        for (int i = 0; i < row.length; i++) {
+            cells.add(new QueryResponseCell(COLUMN_TYPES[i], row[i]));
+        }
+        return new QueryResponseRow(cells);
+    }
+    
+    private List<Object> getRowValues(final Object[] row) {
+        List<Object> result = new ArrayList<>(row.length);
+        for (Object each : row) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    private void writeMySQLTextRowWithStrings(final MySQLPacketPayload payload, final Collection<Object> data) {
+        for (Object each : data) {
+            if (null == each) {
+                payload.writeInt1(0xfb);
+                continue;
+            }
+            byte[] value = (each instanceof BigDecimal ? ((BigDecimal) each).toPlainString() : each.toString()).getBytes(payload.getCharset());
+            payload.writeIntLenenc(value.length);
+            payload.writeBytes(value);
+        }
+    }
+    
+    private void writePostgreSQLDataRowWithStrings(final PostgreSQLPacketPayload payload, final Collection<Object> data) {
+        payload.writeInt2(data.size());
+        for (Object each : data) {
+            if (null == each) {
+                payload.writeInt4(0xFFFFFFFF);
+                continue;
+            }
+            byte[] value = each.toString().getBytes(payload.getCharset());
+            payload.writeInt4(value.length);
+            payload.writeBytes(value);
+        }
+    }
+}
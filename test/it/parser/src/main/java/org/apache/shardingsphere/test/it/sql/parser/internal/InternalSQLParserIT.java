@@ -22,6 +22,7 @@ import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParse
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.api.SimpleDMLStatementParserEngine;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.SQLCaseAssertContext;
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.statement.SQLStatementAssert;
@@ -40,6 +41,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,6 +60,20 @@ public abstract class InternalSQLParserIT {
         SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sql, expected.getParameters(), sqlCaseType), actual, expected);
     }
     
+    @ParameterizedTest(name = "{0} ({1}) -> {2}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertSimpleDMLStatementParsedSameAsANTLR(final String sqlCaseId, final SQLCaseType sqlCaseType, final String databaseType) {
+        if ("ShardingSphere".equals(databaseType)) {
+            return;
+        }
+        String sql = SQL_CASES.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES.get(sqlCaseId).getParameters());
+        Optional<SQLStatement> actual = new SimpleDMLStatementParserEngine("H2".equals(databaseType) ? "MySQL" : databaseType).parse(sql);
+        if (actual.isPresent()) {
+            SQLParserTestCase expected = SQL_PARSER_TEST_CASES.get(sqlCaseId);
+            SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sql, expected.getParameters(), sqlCaseType), actual.get(), expected);
+        }
+    }
+    
     private SQLStatement parseSQLStatement(final String databaseType, final String sql) {
         return "ShardingSphere".equals(databaseType)
                 ? new DistSQLStatementParserEngine().parse(sql)